@@ -0,0 +1,94 @@
+package io.github.soulslight.benchmarks;
+
+import io.github.soulslight.model.SimulationHarness;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Ticks per second of GameModel.update and of each of its phases on its own.
+ *
+ * <p>For the phase benchmarks the rest of the simulation is advanced by one full (untimed) tick
+ * before every invocation, so the measured phase always sees a live fight rather than a frozen
+ * world. That tick already lights the scene, so the lighting benchmark also invalidates the
+ * lighting before each call: otherwise it would only time the same-tile early exit.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class GameModelBenchmark {
+
+  // Let enemies reach the player and shots start flying before measuring
+  private static final int WARMUP_TICKS = 300;
+
+  // 1-2 dungeon, 3-4 cave, 5 boss arena
+  @Param({"1", "3", "5"})
+  public int level;
+
+  private SimulationHarness harness;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    HeadlessBoot.ensureStarted();
+    harness = SimulationHarness.create(level);
+    harness.run(WARMUP_TICKS);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    harness.dispose();
+  }
+
+  /** Full tick, as the game runs it. */
+  @Benchmark
+  public void fullTick() {
+    harness.tick();
+  }
+
+  /** Phase benchmarks share this state: one full tick between measured calls. */
+  @State(Scope.Thread)
+  public static class Advancing {
+    @Setup(Level.Invocation)
+    public void advance(GameModelBenchmark bench) {
+      bench.harness.tick();
+    }
+  }
+
+  /** Like {@link Advancing}, then forces the next lighting update to cast. */
+  @State(Scope.Thread)
+  public static class Relighting {
+    @Setup(Level.Invocation)
+    public void advance(GameModelBenchmark bench) {
+      bench.harness.tick();
+      bench.harness.getModel().getLightingSystem().invalidate();
+    }
+  }
+
+  @Benchmark
+  public void enemyAi(Advancing advancing) {
+    harness.getModel().updateEnemies(SimulationHarness.DT);
+  }
+
+  @Benchmark
+  public void physicsStep(Advancing advancing) {
+    harness.getModel().stepPhysics();
+  }
+
+  @Benchmark
+  public void projectileUpdate(Advancing advancing) {
+    harness.getModel().updateProjectiles(SimulationHarness.DT);
+  }
+
+  @Benchmark
+  public void lightingUpdate(Relighting relighting) {
+    harness.getModel().updateLighting();
+  }
+}
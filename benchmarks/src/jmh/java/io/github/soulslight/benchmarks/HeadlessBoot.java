@@ -0,0 +1,101 @@
+package io.github.soulslight.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.mockito.Mockito;
+
+/**
+ * Starts the libGDX headless backend once per JVM, the same way GdxTestExtension does for the unit
+ * tests: OpenGL is mocked, and internal files missing from the working directory are looked up in
+ * the assets folder given by the {@code soulslight.assets} system property.
+ */
+public final class HeadlessBoot {
+
+  private HeadlessBoot() {}
+
+  public static synchronized void ensureStarted() {
+    if (Gdx.app != null) return;
+
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    // Keep benchmark settings out of the player's own preferences
+    config.preferencesDirectory = ".soulslight-benchmarks/";
+    new HeadlessApplication(new ApplicationAdapter() {}, config);
+
+    Gdx.gl = Mockito.mock(GL20.class);
+    Gdx.gl20 = Gdx.gl;
+    Gdx.files = new AssetFiles(Gdx.files, System.getProperty("soulslight.assets", "../assets"));
+    Box2D.init();
+  }
+
+  /** Wraps Gdx.files so internal paths fall back to the shared assets folder. */
+  private static final class AssetFiles implements Files {
+    private final Files original;
+    private final String assetsDir;
+
+    AssetFiles(Files original, String assetsDir) {
+      this.original = original;
+      this.assetsDir = assetsDir;
+    }
+
+    @Override
+    public FileHandle getFileHandle(String path, FileType type) {
+      return original.getFileHandle(path, type);
+    }
+
+    @Override
+    public FileHandle classpath(String path) {
+      return original.classpath(path);
+    }
+
+    @Override
+    public FileHandle internal(String path) {
+      FileHandle handle = original.internal(path);
+      if (!handle.exists()) {
+        FileHandle alt = original.absolute(assetsDir + "/" + path);
+        if (alt.exists()) return alt;
+      }
+      return handle;
+    }
+
+    @Override
+    public FileHandle external(String path) {
+      return original.external(path);
+    }
+
+    @Override
+    public FileHandle absolute(String path) {
+      return original.absolute(path);
+    }
+
+    @Override
+    public FileHandle local(String path) {
+      return original.local(path);
+    }
+
+    @Override
+    public String getExternalStoragePath() {
+      return original.getExternalStoragePath();
+    }
+
+    @Override
+    public boolean isExternalStorageAvailable() {
+      return original.isExternalStorageAvailable();
+    }
+
+    @Override
+    public String getLocalStoragePath() {
+      return original.getLocalStoragePath();
+    }
+
+    @Override
+    public boolean isLocalStorageAvailable() {
+      return original.isLocalStorageAvailable();
+    }
+  }
+}
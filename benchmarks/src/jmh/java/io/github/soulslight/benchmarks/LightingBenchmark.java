@@ -0,0 +1,107 @@
+package io.github.soulslight.benchmarks;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import io.github.soulslight.model.Constants;
+import io.github.soulslight.model.SimulationHarness;
+import io.github.soulslight.model.lighting.LightingSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Lighting updates per second with several light sources, all on the move: players circle the spawn
+ * point and fireballs fly out of it, each covering about a tile per invocation, next to a portal's
+ * fixed light. Every call therefore recasts every source, as in a co-op fight, rather than the
+ * single-player case GameModelBenchmark covers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class LightingBenchmark {
+
+  // Players circle this many tiles away from the spawn point; fireballs fly this far out
+  private static final float ORBIT_TILES = 4f;
+  private static final int FIREBALL_RANGE_TILES = 12;
+  private static final float PORTAL_OFFSET_TILES = 6f;
+
+  // 1-2 dungeon, 3-4 cave
+  @Param({"1", "3"})
+  public int level;
+
+  @Param({"1", "4"})
+  public int players;
+
+  @Param({"0", "8"})
+  public int fireballs;
+
+  @Param({"true", "false"})
+  public boolean parallel;
+
+  private SimulationHarness harness;
+  private LightingSystem lighting;
+  private float tileSize;
+  private float originX;
+  private float originY;
+  private int step = 0;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    HeadlessBoot.ensureStarted();
+    harness = SimulationHarness.create(level);
+    TiledMap map = harness.getModel().getMap();
+    tileSize = ((TiledMapTileLayer) map.getLayers().get(0)).getTileWidth();
+    Vector2 spawn = harness.getModel().getPlayers().get(0).getPosition();
+    originX = spawn.x;
+    originY = spawn.y;
+
+    lighting = new LightingSystem();
+    lighting.prepareLightingOverlay(map);
+    lighting.setParallel(parallel);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    harness.dispose();
+  }
+
+  @Benchmark
+  public int updateLights() {
+    step++;
+    lighting.beginLights(tileSize);
+
+    // An angle step of 1/ORBIT_TILES radians moves each player by about one tile
+    for (int p = 0; p < players; p++) {
+      float angle = step / ORBIT_TILES + p * MathUtils.PI2 / players;
+      lighting.addSightLight(
+          originX + MathUtils.cos(angle) * ORBIT_TILES * tileSize,
+          originY + MathUtils.sin(angle) * ORBIT_TILES * tileSize);
+    }
+    for (int f = 0; f < fireballs; f++) {
+      float angle = f * MathUtils.PI2 / fireballs;
+      float distance = ((step + f) % FIREBALL_RANGE_TILES) * tileSize;
+      lighting.addLight(
+          originX + MathUtils.cos(angle) * distance,
+          originY + MathUtils.sin(angle) * distance,
+          Constants.LIGHT_RADIUS_FIREBALL);
+    }
+    lighting.addLight(
+        originX + PORTAL_OFFSET_TILES * tileSize, originY, Constants.LIGHT_RADIUS_PORTAL);
+
+    lighting.updateLights();
+    // The renderer consumes the dirty rows every frame
+    int dirtyRows = lighting.getDirtyRowMax() - lighting.getDirtyRowMin();
+    lighting.clearDirtyRows();
+    return dirtyRows;
+  }
+}
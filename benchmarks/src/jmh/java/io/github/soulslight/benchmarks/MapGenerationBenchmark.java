@@ -0,0 +1,42 @@
+package io.github.soulslight.benchmarks;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import io.github.soulslight.manager.GameMode;
+import io.github.soulslight.model.SimulationHarness;
+import io.github.soulslight.model.map.LevelFactory;
+import io.github.soulslight.model.map.MapGenerationStrategy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Maps generated per second by each story-mode strategy, from the harness campaign seed. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class MapGenerationBenchmark {
+
+  // 1 DungeonMapStrategy, 3 NoiseMapStrategy, 5 BossArenaStrategy
+  @Param({"1", "3", "5"})
+  public int level;
+
+  private MapGenerationStrategy strategy;
+
+  @Setup
+  public void setUp() {
+    HeadlessBoot.ensureStarted();
+    // Same per-level seed GameManager hands out for this campaign
+    strategy =
+        LevelFactory.createStrategy(level, GameMode.STORY, SimulationHarness.CAMPAIGN_SEED + level);
+  }
+
+  @Benchmark
+  public TiledMap generate() {
+    return strategy.generate();
+  }
+}
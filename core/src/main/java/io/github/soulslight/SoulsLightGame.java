@@ -5,6 +5,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import io.github.soulslight.manager.ResourceManager;
 import io.github.soulslight.manager.TextureManager;
+import io.github.soulslight.utils.MetricsSink;
 import io.github.soulslight.view.SplashScreen;
 
 /** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
@@ -39,6 +40,7 @@ public class SoulsLightGame extends Game {
     batch.dispose();
     ResourceManager.getInstance().dispose();
     TextureManager.getInstance().dispose();
+    MetricsSink.getInstance().close();
     super.dispose();
   }
 }
@@ -12,6 +12,8 @@ import io.github.soulslight.controller.commands.Command;
 import io.github.soulslight.controller.commands.ConsumeItemCommand;
 import io.github.soulslight.controller.commands.InteractCommand;
 import io.github.soulslight.controller.commands.SpecialAttackCommand;
+import io.github.soulslight.controller.replay.Replay;
+import io.github.soulslight.controller.replay.ReplayRecorder;
 import io.github.soulslight.controller.strategies.ControllerMovementStrategy;
 import io.github.soulslight.controller.strategies.InputStrategy;
 import io.github.soulslight.controller.strategies.KeyboardMovementStrategy;
@@ -28,11 +30,13 @@ public class GameController extends InputAdapter implements ControllerListener,
   private final SaveManager saveManager;
   private DebugMenuController debugMenuController;
   private io.github.soulslight.view.GameScreen gameScreen;
+  private ReplayRecorder replayRecorder;
 
   public GameController(GameModel model) {
     this.model = model;
     this.saveManager = new SaveManager();
     Controllers.addListener(this); // Register for controller events
+    if (GameManager.RECORD_REPLAYS) startReplayRecording();
   }
 
   @Override
@@ -142,13 +146,18 @@ public class GameController extends InputAdapter implements ControllerListener,
     }
 
     if (command != null) {
-      command.execute(model);
+      execute(command);
       return true;
     }
 
     return false;
   }
 
+  private void execute(Command command) {
+    if (replayRecorder != null) replayRecorder.recordCommand(command);
+    command.execute(model);
+  }
+
   public void update(float delta) {
 
     List<Player> players = model.getPlayers();
@@ -161,13 +170,65 @@ public class GameController extends InputAdapter implements ControllerListener,
     if (!players.isEmpty() && players.get(0) != null) {
       InputStrategy p1Strategy = new KeyboardMovementStrategy();
       p1Strategy.processInput(players.get(0), delta);
+      recordMovement(0, players.get(0));
     }
 
     // Player 2: Controller
     if (players.size() > 1 && players.get(1) != null) {
       InputStrategy p2Strategy = new ControllerMovementStrategy(0);
       p2Strategy.processInput(players.get(1), delta);
+      recordMovement(1, players.get(1));
+    }
+
+    // GameScreen updates the model right after this, with the same delta
+    if (replayRecorder != null) replayRecorder.endTick(delta);
+  }
+
+  // Strategies set the player's velocity directly; dead players are not moved
+  private void recordMovement(int playerIndex, Player player) {
+    if (replayRecorder == null || player.isDead() || player.getBody() == null) return;
+    com.badlogic.gdx.math.Vector2 velocity = player.getBody().getLinearVelocity();
+    replayRecorder.recordMovement(playerIndex, velocity.x, velocity.y);
+  }
+
+  // --- Replay Recording ---
+
+  /** Starts recording this level's inputs. Must be called before the first update. */
+  public void startReplayRecording() {
+    replayRecorder = new ReplayRecorder();
+  }
+
+  public boolean isRecordingReplay() {
+    return replayRecorder != null;
+  }
+
+  /**
+   * Stops recording and writes the replay to replays/ in local storage.
+   *
+   * @return The recorded replay, or null if nothing was being recorded
+   */
+  public Replay stopReplayRecording() {
+    if (replayRecorder == null) return null;
+    Replay replay = replayRecorder.finish();
+    replayRecorder = null;
+
+    String name =
+        "replays/replay-" + replay.getCampaignSeed() + "-L" + replay.getLevelIndex() + ".slr";
+    try {
+      replay.save(Gdx.files.local(name));
+      Gdx.app.log(
+          "Controller",
+          "Replay saved: "
+              + name
+              + " ("
+              + replay.getTickCount()
+              + " ticks, "
+              + replay.getSizeInBytes()
+              + " bytes)");
+    } catch (java.io.IOException e) {
+      Gdx.app.error("Controller", "Failed to save replay " + name, e);
     }
+    return replay;
   }
 
   // --- ControllerListener Implementation ---
@@ -193,7 +254,7 @@ public class GameController extends InputAdapter implements ControllerListener,
     }
 
     if (command != null) {
-      command.execute(model);
+      execute(command);
       return true;
     }
 
@@ -244,6 +305,7 @@ public class GameController extends InputAdapter implements ControllerListener,
 
   @Override
   public void dispose() {
+    if (replayRecorder != null) stopReplayRecording();
     Controllers.removeListener(this);
     Gdx.app.log("GameController", "Controller listener removed.");
   }
@@ -12,6 +12,14 @@ public class ConsumeItemCommand implements Command {
     this.slotIndex = slotIndex;
   }
 
+  public int getPlayerIndex() {
+    return playerIndex;
+  }
+
+  public int getSlotIndex() {
+    return slotIndex;
+  }
+
   @Override
   public void execute(GameModel model) {
     if (model.getPlayers().size() > playerIndex) {
@@ -10,6 +10,10 @@ public class SpecialAttackCommand implements Command {
     this.playerIndex = playerIndex;
   }
 
+  public int getPlayerIndex() {
+    return playerIndex;
+  }
+
   @Override
   public void execute(GameModel model) {
     if (model.getPlayers().size() > playerIndex) {
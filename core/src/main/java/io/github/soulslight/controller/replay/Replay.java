@@ -0,0 +1,179 @@
+package io.github.soulslight.controller.replay;
+
+import com.badlogic.gdx.files.FileHandle;
+import io.github.soulslight.manager.GameManager;
+import io.github.soulslight.manager.GameMode;
+import io.github.soulslight.manager.PathfindingManager;
+import io.github.soulslight.model.entities.Player;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A recorded run: the campaign state a level was generated from, then what the players did on each
+ * tick. Written by {@link ReplayRecorder}, fed back by {@link ReplayPlayer}.
+ *
+ * <p>Binary layout (big endian): magic, version, campaign seed, game mode, level index,
+ * single-player flag, player classes, tick count and body length, then one record per tick. A tick
+ * record starts with a flag byte and only carries what changed since the previous tick, so an idle
+ * or steady tick costs a single byte:
+ *
+ * <ul>
+ *   <li>{@link #TICK_DELTA}: frame delta (float) follows
+ *   <li>{@link #moveFlag}: player i moved this tick; with {@link #vectorFlag} its new velocity (two
+ *       floats) follows, otherwise the previous one is reused
+ *   <li>{@link #TICK_COMMANDS}: command count (byte), then opcode, player and argument per command
+ * </ul>
+ */
+public final class Replay {
+  static final int MAGIC = 0x534C5250; // "SLRP"
+  static final byte VERSION = 1;
+  public static final int MAX_PLAYERS = 2;
+
+  // Tick flags
+  static final int TICK_DELTA = 1;
+  static final int TICK_COMMANDS = 1 << 7;
+
+  // Command opcodes
+  static final byte CMD_ATTACK = 1;
+  static final byte CMD_SPECIAL = 2;
+  static final byte CMD_CONSUME = 3;
+  static final byte CMD_INTERACT = 4;
+
+  // Path searches per frame while recording or playing back
+  static final int PATHFINDING_SLICES = 16;
+
+  private final long campaignSeed;
+  private final GameMode gameMode;
+  private final int levelIndex;
+  private final boolean singlePlayer;
+  private final Player.PlayerClass[] playerClasses;
+  private final int tickCount;
+  private final byte[] ticks;
+
+  Replay(
+      long campaignSeed,
+      GameMode gameMode,
+      int levelIndex,
+      boolean singlePlayer,
+      Player.PlayerClass[] playerClasses,
+      int tickCount,
+      byte[] ticks) {
+    this.campaignSeed = campaignSeed;
+    this.gameMode = gameMode;
+    this.levelIndex = levelIndex;
+    this.singlePlayer = singlePlayer;
+    this.playerClasses = playerClasses;
+    this.tickCount = tickCount;
+    this.ticks = ticks;
+  }
+
+  static int moveFlag(int playerIndex) {
+    return 1 << (1 + playerIndex * 2);
+  }
+
+  static int vectorFlag(int playerIndex) {
+    return 1 << (2 + playerIndex * 2);
+  }
+
+  /**
+   * Runs path searches on the game thread with a fixed amount of work per frame, so the same inputs
+   * resolve paths on the same ticks. Both recording and playback need it.
+   */
+  static void makePathfindingDeterministic() {
+    PathfindingManager pfm = GameManager.getInstance().getPathfindingManager();
+    if (pfm == null) return;
+    pfm.getScheduler().setWorkerThreads(0);
+    pfm.getScheduler().setSliceBudget(PATHFINDING_SLICES);
+  }
+
+  public long getCampaignSeed() {
+    return campaignSeed;
+  }
+
+  public GameMode getGameMode() {
+    return gameMode;
+  }
+
+  public int getLevelIndex() {
+    return levelIndex;
+  }
+
+  public boolean isSinglePlayer() {
+    return singlePlayer;
+  }
+
+  public Player.PlayerClass getPlayerClass(int index) {
+    return playerClasses[index];
+  }
+
+  public int getTickCount() {
+    return tickCount;
+  }
+
+  byte[] getTicks() {
+    return ticks;
+  }
+
+  /**
+   * @return Encoded size in bytes
+   */
+  public int getSizeInBytes() {
+    return 27 + MAX_PLAYERS + ticks.length;
+  }
+
+  // --- Binary I/O ---
+
+  public void write(OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeByte(VERSION);
+    data.writeLong(campaignSeed);
+    data.writeByte(gameMode.ordinal());
+    data.writeInt(levelIndex);
+    data.writeBoolean(singlePlayer);
+    for (Player.PlayerClass playerClass : playerClasses) {
+      data.writeByte(playerClass.ordinal());
+    }
+    data.writeInt(tickCount);
+    data.writeInt(ticks.length);
+    data.write(ticks);
+    data.flush();
+  }
+
+  public static Replay read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != MAGIC) throw new IOException("Not a replay file");
+    int version = data.readUnsignedByte();
+    if (version != VERSION) throw new IOException("Unsupported replay version " + version);
+
+    long seed = data.readLong();
+    GameMode mode = GameMode.values()[data.readUnsignedByte()];
+    int level = data.readInt();
+    boolean single = data.readBoolean();
+    Player.PlayerClass[] classes = new Player.PlayerClass[MAX_PLAYERS];
+    for (int i = 0; i < MAX_PLAYERS; i++) {
+      classes[i] = Player.PlayerClass.values()[data.readUnsignedByte()];
+    }
+    int tickCount = data.readInt();
+    byte[] ticks = new byte[data.readInt()];
+    data.readFully(ticks);
+    return new Replay(seed, mode, level, single, classes, tickCount, ticks);
+  }
+
+  public void save(FileHandle file) throws IOException {
+    try (OutputStream out = new BufferedOutputStream(file.write(false))) {
+      write(out);
+    }
+  }
+
+  public static Replay load(FileHandle file) throws IOException {
+    try (InputStream in = new BufferedInputStream(file.read())) {
+      return read(in);
+    }
+  }
+}
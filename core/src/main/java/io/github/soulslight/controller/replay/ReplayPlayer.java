@@ -0,0 +1,139 @@
+package io.github.soulslight.controller.replay;
+
+import io.github.soulslight.controller.commands.AttackCommand;
+import io.github.soulslight.controller.commands.Command;
+import io.github.soulslight.controller.commands.ConsumeItemCommand;
+import io.github.soulslight.controller.commands.InteractCommand;
+import io.github.soulslight.controller.commands.SpecialAttackCommand;
+import io.github.soulslight.manager.GameManager;
+import io.github.soulslight.model.GameModel;
+import io.github.soulslight.model.entities.Player;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays a {@link Replay} back into a GameModel, one recorded tick per {@link #step()}: the tick's
+ * commands run first, then the recorded movement is applied, then the model is updated with the
+ * recorded delta, in the same order GameScreen drives a live game. Needs no window or input, so it
+ * runs on the headless backend.
+ */
+public class ReplayPlayer {
+  private final Replay replay;
+  private final GameModel model;
+  private final DataInputStream in;
+  private int tick = 0;
+
+  private float delta = 0f;
+  private final float[] moveX = new float[Replay.MAX_PLAYERS];
+  private final float[] moveY = new float[Replay.MAX_PLAYERS];
+  private final List<Command> commands = new ArrayList<>();
+
+  public ReplayPlayer(Replay replay, GameModel model) {
+    this.replay = replay;
+    this.model = model;
+    this.in = new DataInputStream(new ByteArrayInputStream(replay.getTicks()));
+    Replay.makePathfindingDeterministic();
+  }
+
+  /**
+   * Puts the campaign back in the state the replay was recorded from and generates its level.
+   *
+   * @return A fresh model, ready for a {@link ReplayPlayer}
+   */
+  public static GameModel createModel(Replay replay) {
+    GameManager gm = GameManager.getInstance();
+    gm.cleanUp();
+    gm.startCampaign(replay.getGameMode());
+    gm.setCampaignSeed(replay.getCampaignSeed());
+    gm.setCurrentLevelIndex(replay.getLevelIndex());
+    for (int i = 0; i < Replay.MAX_PLAYERS; i++) {
+      gm.setPlayerClass(i, replay.getPlayerClass(i));
+    }
+    // The recorded player count is passed in: the player's own setting is left alone
+    return new GameModel(replay.isSinglePlayer());
+  }
+
+  /**
+   * Plays the next recorded tick.
+   *
+   * @return False once every tick has been played
+   */
+  public boolean step() {
+    if (isFinished()) return false;
+    try {
+      readTick();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Truncated replay at tick " + tick, e);
+    }
+    tick++;
+    return true;
+  }
+
+  /**
+   * Plays every remaining tick.
+   *
+   * @return Number of ticks played
+   */
+  public int playToEnd() {
+    int played = 0;
+    while (step()) played++;
+    return played;
+  }
+
+  public boolean isFinished() {
+    return tick >= replay.getTickCount();
+  }
+
+  public int getTick() {
+    return tick;
+  }
+
+  public GameModel getModel() {
+    return model;
+  }
+
+  private void readTick() throws IOException {
+    int flags = in.readUnsignedByte();
+    if ((flags & Replay.TICK_DELTA) != 0) delta = in.readFloat();
+    for (int i = 0; i < Replay.MAX_PLAYERS; i++) {
+      if ((flags & Replay.vectorFlag(i)) == 0) continue;
+      moveX[i] = in.readFloat();
+      moveY[i] = in.readFloat();
+    }
+
+    commands.clear();
+    if ((flags & Replay.TICK_COMMANDS) != 0) {
+      int count = in.readUnsignedByte();
+      for (int c = 0; c < count; c++) {
+        Command command =
+            decodeCommand(in.readUnsignedByte(), in.readUnsignedByte(), in.readUnsignedByte());
+        if (command != null) commands.add(command);
+      }
+    }
+
+    // Same order as a live frame: input events, movement strategies, then the model
+    for (int c = 0; c < commands.size(); c++) {
+      commands.get(c).execute(model);
+    }
+    List<Player> players = model.getPlayers();
+    for (int i = 0; i < Replay.MAX_PLAYERS && i < players.size(); i++) {
+      if ((flags & Replay.moveFlag(i)) == 0 || players.get(i) == null) continue;
+      players.get(i).move(moveX[i], moveY[i]);
+    }
+    model.update(delta);
+  }
+
+  private static Command decodeCommand(int opcode, int playerIndex, int argument) {
+    return switch (opcode) {
+      case Replay.CMD_ATTACK -> new AttackCommand(playerIndex);
+      case Replay.CMD_SPECIAL -> new SpecialAttackCommand(playerIndex);
+      case Replay.CMD_CONSUME -> new ConsumeItemCommand(playerIndex, argument);
+      case Replay.CMD_INTERACT -> new InteractCommand();
+      default -> null;
+    };
+  }
+}
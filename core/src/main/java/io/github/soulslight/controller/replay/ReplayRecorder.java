@@ -0,0 +1,146 @@
+package io.github.soulslight.controller.replay;
+
+import io.github.soulslight.controller.commands.AttackCommand;
+import io.github.soulslight.controller.commands.Command;
+import io.github.soulslight.controller.commands.ConsumeItemCommand;
+import io.github.soulslight.controller.commands.InteractCommand;
+import io.github.soulslight.controller.commands.SpecialAttackCommand;
+import io.github.soulslight.manager.GameManager;
+import io.github.soulslight.manager.GameMode;
+import io.github.soulslight.manager.SettingsManager;
+import io.github.soulslight.model.entities.Player;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Records what the players do, tick by tick, for a level that was just generated. Commands are
+ * buffered as they are executed, movement as the movement strategies apply it, and {@link #endTick}
+ * closes the tick right before GameModel.update runs with the same delta.
+ *
+ * <p>Starting a recording switches path searches to a fixed per-frame amount of work, see {@link
+ * Replay#makePathfindingDeterministic()}.
+ */
+public class ReplayRecorder {
+  private final long campaignSeed;
+  private final GameMode gameMode;
+  private final int levelIndex;
+  private final boolean singlePlayer;
+  private final Player.PlayerClass[] playerClasses = new Player.PlayerClass[Replay.MAX_PLAYERS];
+
+  private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+  private final DataOutputStream out = new DataOutputStream(bytes);
+  private int tickCount = 0;
+
+  // Pending tick
+  private final ByteArrayOutputStream commandBytes = new ByteArrayOutputStream();
+  private int commandCount = 0;
+  private final boolean[] moved = new boolean[Replay.MAX_PLAYERS];
+  private final float[] moveX = new float[Replay.MAX_PLAYERS];
+  private final float[] moveY = new float[Replay.MAX_PLAYERS];
+
+  // Last values written, for delta encoding
+  private float lastDelta = Float.NaN;
+  private final float[] lastX = new float[Replay.MAX_PLAYERS];
+  private final float[] lastY = new float[Replay.MAX_PLAYERS];
+
+  /** Captures the campaign state the current level was generated from. Call before any tick. */
+  public ReplayRecorder() {
+    GameManager gm = GameManager.getInstance();
+    this.campaignSeed = gm.getCampaignSeed();
+    this.gameMode = gm.getGameMode();
+    this.levelIndex = gm.getCurrentLevelIndex();
+    this.singlePlayer = SettingsManager.getInstance().isSinglePlayer();
+    for (int i = 0; i < Replay.MAX_PLAYERS; i++) {
+      playerClasses[i] = gm.getPlayerClass(i);
+    }
+    Replay.makePathfindingDeterministic();
+  }
+
+  /** Buffers a command executed during the current tick. Unknown commands are ignored. */
+  public void recordCommand(Command command) {
+    switch (command) {
+      case AttackCommand attack -> writeCommand(Replay.CMD_ATTACK, attack.getPlayerIndex(), 0);
+      case SpecialAttackCommand special ->
+          writeCommand(Replay.CMD_SPECIAL, special.getPlayerIndex(), 0);
+      case ConsumeItemCommand consume ->
+          writeCommand(Replay.CMD_CONSUME, consume.getPlayerIndex(), consume.getSlotIndex());
+      case InteractCommand interact -> writeCommand(Replay.CMD_INTERACT, 0, 0);
+      default -> {}
+    }
+  }
+
+  /** Records the velocity a movement strategy gave a player this tick. */
+  public void recordMovement(int playerIndex, float vx, float vy) {
+    if (playerIndex < 0 || playerIndex >= Replay.MAX_PLAYERS) return;
+    moved[playerIndex] = true;
+    moveX[playerIndex] = vx;
+    moveY[playerIndex] = vy;
+  }
+
+  /** Closes the current tick; the model is about to be updated with delta. */
+  public void endTick(float delta) {
+    int flags = 0;
+    if (Float.compare(delta, lastDelta) != 0) flags |= Replay.TICK_DELTA;
+    for (int i = 0; i < Replay.MAX_PLAYERS; i++) {
+      if (!moved[i]) continue;
+      flags |= Replay.moveFlag(i);
+      if (moveX[i] != lastX[i] || moveY[i] != lastY[i]) flags |= Replay.vectorFlag(i);
+    }
+    if (commandCount > 0) flags |= Replay.TICK_COMMANDS;
+
+    try {
+      out.writeByte(flags);
+      if ((flags & Replay.TICK_DELTA) != 0) {
+        out.writeFloat(delta);
+        lastDelta = delta;
+      }
+      for (int i = 0; i < Replay.MAX_PLAYERS; i++) {
+        if ((flags & Replay.vectorFlag(i)) == 0) continue;
+        out.writeFloat(moveX[i]);
+        out.writeFloat(moveY[i]);
+        lastX[i] = moveX[i];
+        lastY[i] = moveY[i];
+      }
+      if (commandCount > 0) {
+        out.writeByte(commandCount);
+        commandBytes.writeTo(out);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // In-memory stream: never happens
+    }
+
+    commandBytes.reset();
+    commandCount = 0;
+    java.util.Arrays.fill(moved, false);
+    tickCount++;
+  }
+
+  public int getTickCount() {
+    return tickCount;
+  }
+
+  /**
+   * @return Everything recorded so far (the pending tick, if any, is left out)
+   */
+  public Replay finish() {
+    return new Replay(
+        campaignSeed,
+        gameMode,
+        levelIndex,
+        singlePlayer,
+        playerClasses.clone(),
+        tickCount,
+        bytes.toByteArray());
+  }
+
+  private void writeCommand(byte opcode, int playerIndex, int argument) {
+    // Count is stored in one byte; a tick never sees anywhere near 255 key presses
+    if (commandCount == 255) return;
+    commandBytes.write(opcode);
+    commandBytes.write(playerIndex);
+    commandBytes.write(argument);
+    commandCount++;
+  }
+}
@@ -0,0 +1,163 @@
+package io.github.soulslight.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.soulslight.utils.FrameProfiler;
+
+/**
+ * Renders the {@link FrameProfiler} in the top-left corner: rolling min/avg/p99 of every phase, the
+ * Box2D and draw call counters, and a graph of the last frames split into update, render and the
+ * rest (swap, input, idle).
+ */
+public class ProfilerOverlay implements Disposable {
+
+  private static final float PANEL_WIDTH = FrameProfiler.SAMPLES + 40f;
+  private static final float PADDING = 10f;
+  private static final float LINE_HEIGHT = 16f;
+  private static final float GRAPH_HEIGHT = 100f;
+  // Graph scale: two 60 FPS frames fill it
+  private static final float GRAPH_MAX_MS = 33.3f;
+  private static final float TARGET_MS = 1000f / 60f;
+  private static final int COUNTER_LINES = 3;
+
+  private static final Color UPDATE_COLOR = new Color(1f, 0.6f, 0.2f, 0.9f);
+  private static final Color RENDER_COLOR = new Color(0.3f, 0.6f, 1f, 0.9f);
+  private static final Color OTHER_COLOR = new Color(0.5f, 0.5f, 0.5f, 0.6f);
+
+  private final FrameProfiler profiler;
+  private final ShapeRenderer shapeRenderer;
+  private final BitmapFont font;
+  private final Matrix4 uiMatrix = new Matrix4();
+  private final StringBuilder sb = new StringBuilder();
+
+  public ProfilerOverlay(FrameProfiler profiler) {
+    this.profiler = profiler;
+    this.shapeRenderer = new ShapeRenderer();
+    this.font = new BitmapFont();
+  }
+
+  public void render(SpriteBatch batch) {
+    profiler.computeStats();
+
+    float screenW = Gdx.graphics.getWidth();
+    float screenH = Gdx.graphics.getHeight();
+    FrameProfiler.Phase[] phases = FrameProfiler.Phase.values();
+    float textHeight = (phases.length + 1 + COUNTER_LINES) * LINE_HEIGHT;
+    float panelHeight = textHeight + GRAPH_HEIGHT + 3 * PADDING;
+    float panelX = PADDING;
+    float panelY = screenH - PADDING - panelHeight;
+    float graphX = panelX + PADDING;
+    float graphY = panelY + PADDING;
+
+    uiMatrix.setToOrtho2D(0, 0, screenW, screenH);
+
+    Gdx.gl.glEnable(GL20.GL_BLEND);
+    Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+    shapeRenderer.setProjectionMatrix(uiMatrix);
+    shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+    shapeRenderer.setColor(0.05f, 0.05f, 0.1f, 0.85f);
+    shapeRenderer.rect(panelX, panelY, PANEL_WIDTH, panelHeight);
+    drawGraph(graphX, graphY);
+    shapeRenderer.end();
+
+    // 60 FPS budget line
+    shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+    shapeRenderer.setColor(Color.GREEN);
+    float targetY = graphY + Math.min(1f, TARGET_MS / GRAPH_MAX_MS) * GRAPH_HEIGHT;
+    shapeRenderer.line(graphX, targetY, graphX + FrameProfiler.SAMPLES, targetY);
+    shapeRenderer.end();
+
+    batch.setProjectionMatrix(uiMatrix);
+    batch.begin();
+    float textY = panelY + panelHeight - PADDING;
+    float textX = panelX + PADDING;
+
+    font.setColor(Color.GOLD);
+    font.draw(batch, "PROFILER (ms)     min / avg / p99", textX, textY);
+    textY -= LINE_HEIGHT;
+
+    for (FrameProfiler.Phase phase : phases) {
+      if (phase.isUpdate()) font.setColor(UPDATE_COLOR);
+      else if (phase.isRender()) font.setColor(RENDER_COLOR);
+      else font.setColor(Color.WHITE);
+
+      sb.setLength(0);
+      sb.append(phase.getLabel()).append(": ");
+      appendMillis(profiler.getMinNanos(phase)).append(" / ");
+      appendMillis(profiler.getAvgNanos(phase)).append(" / ");
+      appendMillis(profiler.getP99Nanos(phase));
+      font.draw(batch, sb, textX, textY);
+      textY -= LINE_HEIGHT;
+    }
+
+    font.setColor(Color.WHITE);
+    sb.setLength(0);
+    sb.append("Bodies: ").append(profiler.getBodyCount());
+    font.draw(batch, sb, textX, textY);
+    textY -= LINE_HEIGHT;
+
+    sb.setLength(0);
+    sb.append("Contacts: ").append(profiler.getContactCount());
+    font.draw(batch, sb, textX, textY);
+    textY -= LINE_HEIGHT;
+
+    sb.setLength(0);
+    sb.append("Render calls: ").append(profiler.getRenderCalls());
+    font.draw(batch, sb, textX, textY);
+
+    batch.end();
+    Gdx.gl.glDisable(GL20.GL_BLEND);
+  }
+
+  // One column per frame, oldest on the left: update, render, then the rest of the frame on top
+  private void drawGraph(float x, float y) {
+    FrameProfiler.Phase[] phases = FrameProfiler.Phase.values();
+    int samples = profiler.getSampleCount();
+    float scale = GRAPH_HEIGHT / (GRAPH_MAX_MS * 1_000_000f);
+
+    for (int age = 0; age < samples; age++) {
+      long update = 0L;
+      long render = 0L;
+      for (FrameProfiler.Phase phase : phases) {
+        if (phase.isUpdate()) update += profiler.getSample(phase, age);
+        else if (phase.isRender()) render += profiler.getSample(phase, age);
+      }
+      long other =
+          Math.max(0L, profiler.getSample(FrameProfiler.Phase.FRAME, age) - update - render);
+
+      float columnX = x + FrameProfiler.SAMPLES - 1 - age;
+      float updateH = Math.min(GRAPH_HEIGHT, update * scale);
+      float renderH = Math.min(GRAPH_HEIGHT - updateH, render * scale);
+      float otherH = Math.min(GRAPH_HEIGHT - updateH - renderH, other * scale);
+
+      shapeRenderer.setColor(UPDATE_COLOR);
+      shapeRenderer.rect(columnX, y, 1f, updateH);
+      shapeRenderer.setColor(RENDER_COLOR);
+      shapeRenderer.rect(columnX, y + updateH, 1f, renderH);
+      shapeRenderer.setColor(OTHER_COLOR);
+      shapeRenderer.rect(columnX, y + updateH + renderH, 1f, otherH);
+    }
+  }
+
+  // Two decimals, without going through String.format
+  private StringBuilder appendMillis(long nanos) {
+    long hundredths = (nanos + 5_000L) / 10_000L;
+    sb.append(hundredths / 100).append('.');
+    long fraction = hundredths % 100;
+    if (fraction < 10) sb.append('0');
+    return sb.append(fraction);
+  }
+
+  @Override
+  public void dispose() {
+    shapeRenderer.dispose();
+    font.dispose();
+  }
+}
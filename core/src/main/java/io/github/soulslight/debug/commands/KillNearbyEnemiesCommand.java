@@ -3,15 +3,19 @@ package io.github.soulslight.debug.commands;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import io.github.soulslight.debug.DebugCommand;
+import io.github.soulslight.manager.GameManager;
 import io.github.soulslight.model.GameModel;
 import io.github.soulslight.model.enemies.AbstractEnemy;
 import io.github.soulslight.model.entities.Player;
+import java.util.ArrayList;
+import java.util.List;
 
 /** Debug command that kills all enemies within approximately 9 tiles of the player's position. */
 public class KillNearbyEnemiesCommand implements DebugCommand {
 
   private final GameModel model;
   private static final float KILL_RADIUS = 9 * 32f; // 9 tiles * 32px per tile
+  private final List<AbstractEnemy> inRange = new ArrayList<>();
 
   public KillNearbyEnemiesCommand(GameModel model) {
     this.model = model;
@@ -27,13 +31,12 @@ public class KillNearbyEnemiesCommand implements DebugCommand {
     Vector2 playerPos = player.getPosition();
     int killCount = 0;
 
-    for (AbstractEnemy enemy : model.getActiveEnemies()) {
-      if (enemy.isDead()) continue;
-
-      if (enemy.getPosition().dst(playerPos) <= KILL_RADIUS) {
-        enemy.takeDamage(Float.MAX_VALUE); // Instant kill
-        killCount++;
-      }
+    GameManager.getInstance()
+        .getEnemyIndex()
+        .queryRadius(model.getActiveEnemies(), playerPos.x, playerPos.y, KILL_RADIUS, inRange);
+    for (AbstractEnemy enemy : inRange) {
+      enemy.takeDamage(Float.MAX_VALUE); // Instant kill
+      killCount++;
     }
 
     Gdx.app.log(
@@ -0,0 +1,29 @@
+package io.github.soulslight.debug.commands;
+
+import com.badlogic.gdx.Gdx;
+import io.github.soulslight.debug.DebugCommand;
+import io.github.soulslight.utils.FrameProfiler;
+
+/**
+ * Debug command that toggles the frame profiler and its overlay (per-phase frame times, Box2D and
+ * draw call counters).
+ */
+public class ToggleProfilerCommand implements DebugCommand {
+
+  @Override
+  public void execute() {
+    FrameProfiler profiler = FrameProfiler.getInstance();
+    profiler.setEnabled(!profiler.isEnabled());
+    Gdx.app.log("DebugMenu", "Profiler: " + (profiler.isEnabled() ? "ON" : "OFF"));
+  }
+
+  @Override
+  public String getName() {
+    return "Toggle Profiler";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Shows/hides frame timings per update and render phase.";
+  }
+}
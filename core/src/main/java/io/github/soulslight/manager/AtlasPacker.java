@@ -0,0 +1,148 @@
+package io.github.soulslight.manager;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Packs sprites into a {@link TextureAtlas} when the assets are loaded, so everything drawn in the
+ * same pass shares one texture and SpriteBatch stops flushing at every sprite change.
+ *
+ * <p>Names ending in {@code _<n>} become indexed regions (animation frames, tile variants), see
+ * {@link TextureAtlas#findRegion(String, int)}. With {@code -Dsoulslight.atlas=false} every sprite
+ * keeps its own texture instead, behind the same regions, to compare draw calls.
+ */
+final class AtlasPacker {
+
+  static final boolean ENABLED = !"false".equals(System.getProperty("soulslight.atlas"));
+
+  private static final int PADDING = 2;
+  private static final Pattern INDEXED_NAME = Pattern.compile("(.+)_(\\d+)$");
+
+  private final PixmapPacker packer;
+  // Only used when packing is disabled
+  private final TextureAtlas unpacked;
+
+  /**
+   * @param pageSize Width and height of the atlas pages; sprites that do not fit open a new page
+   */
+  AtlasPacker(int pageSize) {
+    if (ENABLED) {
+      // Duplicated borders keep Nearest sampling from bleeding into neighbours
+      packer =
+          new PixmapPacker(
+              pageSize,
+              pageSize,
+              Pixmap.Format.RGBA8888,
+              PADDING,
+              true,
+              new PixmapPacker.SkylineStrategy());
+      unpacked = null;
+    } else {
+      packer = null;
+      unpacked = new TextureAtlas();
+    }
+  }
+
+  /** Adds a sprite. The pixmap is disposed. */
+  void add(String name, Pixmap pixmap) {
+    if (packer != null) {
+      packer.pack(name, pixmap);
+    } else {
+      Texture texture = new Texture(pixmap);
+      texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+      // Same naming rule PixmapPacker applies to packed regions
+      Matcher matcher = INDEXED_NAME.matcher(name);
+      boolean indexed = matcher.matches();
+      TextureAtlas.AtlasRegion region =
+          unpacked.addRegion(
+              indexed ? matcher.group(1) : name,
+              texture,
+              0,
+              0,
+              pixmap.getWidth(),
+              pixmap.getHeight());
+      if (indexed) region.index = Integer.parseInt(matcher.group(2));
+    }
+    pixmap.dispose();
+  }
+
+  /**
+   * Cuts a sheet into frames, row by row, added as regions {@code name} indexed from 0. The sheet
+   * is disposed.
+   *
+   * @return Number of frames added
+   */
+  int addFrames(String name, Pixmap sheet, int frameW, int frameH) {
+    int cols = sheet.getWidth() / frameW;
+    int rows = sheet.getHeight() / frameH;
+    if (cols <= 0 || rows <= 0) {
+      sheet.dispose();
+      return 0;
+    }
+
+    Texture sheetTexture = null;
+    if (packer == null) {
+      sheetTexture = new Texture(sheet);
+      sheetTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+    }
+
+    int index = 0;
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < cols; c++) {
+        if (packer != null) {
+          Pixmap frame = new Pixmap(frameW, frameH, Pixmap.Format.RGBA8888);
+          frame.setBlending(Pixmap.Blending.None);
+          frame.drawPixmap(sheet, c * frameW, r * frameH, frameW, frameH, 0, 0, frameW, frameH);
+          packer.pack(name + "_" + index, frame);
+          frame.dispose();
+        } else {
+          TextureAtlas.AtlasRegion region =
+              unpacked.addRegion(name, sheetTexture, c * frameW, r * frameH, frameW, frameH);
+          region.index = index;
+        }
+        index++;
+      }
+    }
+    sheet.dispose();
+    return index;
+  }
+
+  /** Uploads the pages. The packer can not be used afterwards. */
+  TextureAtlas build() {
+    if (packer == null) return unpacked;
+    TextureAtlas atlas =
+        packer.generateTextureAtlas(
+            Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+    packer.dispose();
+    return atlas;
+  }
+
+  /**
+   * Rescales a pixmap to width x height: nearest neighbour when enlarging pixel art, bilinear when
+   * shrinking oversized source art. The source is disposed when a copy is made.
+   */
+  static Pixmap fit(Pixmap src, int width, int height) {
+    if (src.getWidth() == width && src.getHeight() == height) return src;
+    Pixmap dst = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+    dst.setBlending(Pixmap.Blending.None);
+    dst.setFilter(width < src.getWidth() ? Pixmap.Filter.BiLinear : Pixmap.Filter.NearestNeighbour);
+    dst.drawPixmap(src, 0, 0, src.getWidth(), src.getHeight(), 0, 0, width, height);
+    src.dispose();
+    return dst;
+  }
+
+  /** Downscales a pixmap whose longest side exceeds maxSize, keeping its aspect ratio. */
+  static Pixmap limit(Pixmap src, int maxSize) {
+    int longest = Math.max(src.getWidth(), src.getHeight());
+    if (longest <= maxSize) return src;
+    float scale = maxSize / (float) longest;
+    return fit(
+        src,
+        Math.max(1, Math.round(src.getWidth() * scale)),
+        Math.max(1, Math.round(src.getHeight() * scale)));
+  }
+}
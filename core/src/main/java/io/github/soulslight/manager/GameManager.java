@@ -2,10 +2,12 @@ package io.github.soulslight.manager;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.RandomXS128;
 import io.github.soulslight.model.entities.Player;
 import io.github.soulslight.model.map.Level;
 import io.github.soulslight.model.map.LevelFactory;
 import io.github.soulslight.model.map.MapGenerationStrategy;
+import io.github.soulslight.utils.MetricsSink;
 
 /**
  * Pattern: Singleton Central coordinator for game state, campaign progression, and player
@@ -19,12 +21,20 @@ public class GameManager {
   private java.util.List<Player> players;
   public static boolean DEBUG_MODE = true;
   public static boolean SHOW_HITBOXES = true; // Independent hitbox visibility toggle
+  // Record every level played to replays/ (run with -Dsoulslight.recordReplays=true)
+  public static boolean RECORD_REPLAYS = Boolean.getBoolean("soulslight.recordReplays");
 
   // Campaign state
   private GameMode gameMode = GameMode.STORY;
   private int currentLevelIndex = 1;
   private long campaignSeed;
   private PathfindingManager pathfindingManager;
+  // Enemies of the running level, refreshed by GameModel every physics step
+  private io.github.soulslight.model.physics.SpatialIndex enemyIndex =
+      new io.github.soulslight.model.physics.SpatialIndex();
+  // Gameplay randomness (spawns, wandering): reseeded from the level seed when a level is built,
+  // so a seed always plays out the same. Rendering effects keep using MathUtils.random.
+  private final RandomXS128 random = new RandomXS128();
 
   private GameManager() {
     this.players = new java.util.ArrayList<>();
@@ -96,8 +106,41 @@ public class GameManager {
    */
   public MapGenerationStrategy getCurrentLevelStrategy() {
     // Use level-specific seed for deterministic generation
-    long levelSeed = campaignSeed + currentLevelIndex;
-    return LevelFactory.createStrategy(currentLevelIndex, gameMode, levelSeed);
+    return LevelFactory.createStrategy(currentLevelIndex, gameMode, getCurrentLevelSeed());
+  }
+
+  /**
+   * Generates the map of the current level, reporting the generation time to the {@link
+   * MetricsSink} as a "level_gen" event.
+   */
+  public TiledMap generateCurrentLevel() {
+    MapGenerationStrategy strategy = getCurrentLevelStrategy();
+    long start = System.nanoTime();
+    TiledMap map = strategy.generate();
+    MetricsSink metrics = MetricsSink.getInstance();
+    if (metrics.begin("level_gen")) {
+      metrics
+          .field("strategy", strategy.getClass().getSimpleName())
+          .field("level", currentLevelIndex)
+          .field("nanos", System.nanoTime() - start)
+          .end();
+    }
+    return map;
+  }
+
+  /**
+   * @return Seed of the current level, derived from the campaign seed
+   */
+  public long getCurrentLevelSeed() {
+    return campaignSeed + currentLevelIndex;
+  }
+
+  /**
+   * Shared source for every gameplay random draw. Must only be used from the game thread, in
+   * simulation order, or replays of the same seed diverge.
+   */
+  public RandomXS128 getRandom() {
+    return random;
   }
 
   /**
@@ -206,8 +249,7 @@ public class GameManager {
   public void loadLevel() {
     try {
       // Get strategy for current level
-      MapGenerationStrategy strategy = getCurrentLevelStrategy();
-      TiledMap map = strategy.generate();
+      TiledMap map = generateCurrentLevel();
 
       // Dispose old level if exists to prevent leaks
       if (currentLevel != null) {
@@ -238,6 +280,18 @@ public class GameManager {
   }
 
   public void setPathfindingManager(PathfindingManager pathfindingManager) {
+    // Stop the previous level's path workers, if any
+    if (this.pathfindingManager != null && this.pathfindingManager != pathfindingManager) {
+      this.pathfindingManager.dispose();
+    }
     this.pathfindingManager = pathfindingManager;
   }
+
+  public io.github.soulslight.model.physics.SpatialIndex getEnemyIndex() {
+    return enemyIndex;
+  }
+
+  public void setEnemyIndex(io.github.soulslight.model.physics.SpatialIndex enemyIndex) {
+    this.enemyIndex = enemyIndex;
+  }
 }
@@ -123,6 +123,22 @@ public class ParticleManager {
     activeEffects.clear();
   }
 
+  /**
+   * @return Effects currently playing
+   */
+  public int getActiveCount() {
+    return activeEffects.size;
+  }
+
+  /**
+   * @return Effects sitting free in the pools, ready to be reused without allocating
+   */
+  public int getPooledCount() {
+    int free = 0;
+    for (ParticleEffectPool pool : pools.values()) free += pool.getFree();
+    return free;
+  }
+
   // Method to get a pool directly (e.g. for long-lived effects like doors)
   public ParticleEffectPool getPool(ParticleType type) {
     if (!pools.containsKey(type)) {
@@ -1,37 +1,324 @@
 package io.github.soulslight.manager;
 
-import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
-import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.soulslight.model.enemies.AbstractEnemy;
+import io.github.soulslight.model.enemies.VisibilityCache;
+import io.github.soulslight.model.entities.Player;
 import io.github.soulslight.model.pathfinding.DungeonGraph;
-import io.github.soulslight.model.pathfinding.DungeonNode;
-import io.github.soulslight.model.pathfinding.ManhattanHeuristic;
+import io.github.soulslight.model.pathfinding.FlowField;
+import io.github.soulslight.model.pathfinding.GridAStar;
+import io.github.soulslight.model.pathfinding.GridLineOfSight;
+import io.github.soulslight.model.pathfinding.GridPath;
+import io.github.soulslight.model.pathfinding.HierarchicalPathfinder;
+import io.github.soulslight.model.room.RoomData;
+import java.util.ArrayList;
+import java.util.List;
 
 public class PathfindingManager {
-  private DungeonGraph graph;
-  private IndexedAStarPathFinder<DungeonNode> pathFinder;
-  private ManhattanHeuristic heuristic;
+  // Queries spanning more tiles than this (Chebyshev) go through the room-level graph first
+  private static final int HIERARCHICAL_MIN_DISTANCE = 12;
+  static final int PATH_CACHE_CAPACITY = 128;
+
+  private final DungeonGraph graph;
+  private final GridAStar pathFinder;
+  private final HierarchicalPathfinder hierarchicalPathFinder;
+  // Created on first use: it calls back into this manager, so it must not see it half-built
+  private PathfindingScheduler scheduler;
+  private final GridLineOfSight lineOfSight;
+  private World physicsWorld; // World whose static walls the grid mirrors
+  private final VisibilityCache visibilityCache = new VisibilityCache();
+
+  // Shared result buffer for one-shot queries (see findPath(float, float, float, float))
+  private final GridPath sharedPath = new GridPath();
+
+  // One shared flow field per tracked player (index-aligned with the players list)
+  private final List<FlowField> flowFields = new ArrayList<>();
+
+  // LRU of recent results keyed by (start tile, goal tile); empty paths record failed searches.
+  // Entries are recycled from a fixed slot array, filled up front, and linked from most to least
+  // recently used, so hits, inserts and evictions are O(1) and never allocate
+  private final LongMap<CachedPath> pathCache = new LongMap<>(PATH_CACHE_CAPACITY * 2);
+  private final CachedPath[] cacheSlots = new CachedPath[PATH_CACHE_CAPACITY];
+  private int cacheSlotCount;
+  private CachedPath mostRecent;
+  private CachedPath leastRecent;
+  private int cacheVersion;
+  private long cacheHits = 0;
+  private long cacheMisses = 0;
 
   public PathfindingManager(TiledMapTileLayer layer) {
+    this(layer, null);
+  }
+
+  /**
+   * @param layer Ground layer the navigation grid is built from
+   * @param rooms Room metadata from map generation; enables hierarchical search when not empty
+   */
+  public PathfindingManager(TiledMapTileLayer layer, List<RoomData> rooms) {
     this.graph = new DungeonGraph(layer);
-    this.pathFinder = new IndexedAStarPathFinder<>(graph);
-    this.heuristic = new ManhattanHeuristic();
+    this.pathFinder = new GridAStar(graph);
+    this.hierarchicalPathFinder =
+        (rooms != null && !rooms.isEmpty())
+            ? new HierarchicalPathfinder(graph, pathFinder, rooms)
+            : null;
+    this.lineOfSight = new GridLineOfSight(graph);
+    for (int i = 0; i < cacheSlots.length; i++) {
+      cacheSlots[i] = new CachedPath();
+    }
+  }
+
+  /**
+   * Finds a path into a caller-owned buffer, so repeated searches reuse the same memory. On room
+   * maps, long-range queries only return the segment up to the next door; callers re-query once
+   * they reach its end.
+   *
+   * <p>Results are served from a small LRU cache when the same start and goal tiles were queried
+   * since walkability last changed.
+   *
+   * @param out Receives the tile path; cleared if no path exists
+   * @return True if a path was found
+   */
+  public boolean findPath(float startX, float startY, float endX, float endY, GridPath out) {
+    int start = graph.getIndexAtWorldPos(startX, startY);
+    int end = graph.getIndexAtWorldPos(endX, endY);
+
+    if (start == DungeonGraph.NO_NODE || !graph.isWalkable(end)) {
+      out.reset(graph.getWidth());
+      return false;
+    }
+    if (getCachedPath(start, end, out)) return !out.isEmpty();
+
+    boolean found;
+    if (isHierarchical(start, end)) {
+      found = hierarchicalPathFinder.findPath(start, end, out);
+    } else {
+      found = pathFinder.search(start, end, out);
+    }
+    cachePath(start, end, out);
+    return found;
+  }
+
+  /**
+   * Convenience overload returning a buffer owned by the manager. The result is only valid until
+   * the next call; keep your own {@link GridPath} if you need to hold on to it.
+   *
+   * @return The path, or null if none exists
+   */
+  public GridPath findPath(float startX, float startY, float endX, float endY) {
+    return findPath(startX, startY, endX, endY, sharedPath) ? sharedPath : null;
+  }
+
+  /** True if the query should go through the room-level graph rather than a plain A*. */
+  boolean isHierarchical(int start, int end) {
+    if (hierarchicalPathFinder == null) return false;
+    int dx = Math.abs(graph.xOf(start) - graph.xOf(end));
+    int dy = Math.abs(graph.yOf(start) - graph.yOf(end));
+    return Math.max(dx, dy) > HIERARCHICAL_MIN_DISTANCE;
+  }
+
+  /** Synchronous hierarchical query; only valid when {@link #isHierarchical} holds. */
+  boolean findHierarchicalPath(int start, int end, GridPath out) {
+    return hierarchicalPathFinder.findPath(start, end, out);
+  }
+
+  /**
+   * @return True on a cache hit, with the cached result (empty if unreachable) copied to out
+   */
+  boolean getCachedPath(int start, int end, GridPath out) {
+    if (cacheVersion != graph.getVersion()) {
+      invalidatePathCache();
+      cacheVersion = graph.getVersion();
+    }
+
+    CachedPath cached = pathCache.get(((long) start << 32) | end);
+    if (cached == null) {
+      cacheMisses++;
+      return false;
+    }
+    cacheHits++;
+    moveToFront(cached);
+    out.set(cached.path);
+    return true;
+  }
+
+  void cachePath(int start, int end, GridPath path) {
+    long key = ((long) start << 32) | end;
+    CachedPath entry = pathCache.get(key);
+    if (entry == null) {
+      entry = takeCacheEntry();
+      entry.key = key;
+      pathCache.put(key, entry);
+    } else {
+      unlink(entry);
+    }
+    entry.path.set(path);
+    linkFront(entry);
+  }
+
+  /** Drops every cached path. Walkability changes on the graph already trigger this. */
+  public void invalidatePathCache() {
+    pathCache.clear();
+    // Slots are kept for reuse
+    cacheSlotCount = 0;
+    mostRecent = null;
+    leastRecent = null;
+  }
+
+  // A free slot while the cache fills up, then the least recently used entry
+  private CachedPath takeCacheEntry() {
+    if (cacheSlotCount < PATH_CACHE_CAPACITY) {
+      return cacheSlots[cacheSlotCount++];
+    }
+    CachedPath eldest = leastRecent;
+    unlink(eldest);
+    pathCache.remove(eldest.key);
+    return eldest;
+  }
+
+  private void moveToFront(CachedPath entry) {
+    if (entry == mostRecent) return;
+    unlink(entry);
+    linkFront(entry);
+  }
+
+  private void linkFront(CachedPath entry) {
+    entry.newer = null;
+    entry.older = mostRecent;
+    if (mostRecent != null) mostRecent.newer = entry;
+    mostRecent = entry;
+    if (leastRecent == null) leastRecent = entry;
   }
 
-  public DefaultGraphPath<DungeonNode> findPath(
-      float startX, float startY, float endX, float endY) {
-    DungeonNode startNode = graph.getNodeAtWorldPos(startX, startY);
-    DungeonNode endNode = graph.getNodeAtWorldPos(endX, endY);
+  private void unlink(CachedPath entry) {
+    if (entry.newer != null) entry.newer.older = entry.older;
+    else mostRecent = entry.older;
+    if (entry.older != null) entry.older.newer = entry.newer;
+    else leastRecent = entry.newer;
+    entry.newer = null;
+    entry.older = null;
+  }
 
-    if (startNode == null || endNode == null || endNode.isWall) return null;
+  public long getCacheHits() {
+    return cacheHits;
+  }
 
-    DefaultGraphPath<DungeonNode> path = new DefaultGraphPath<>();
-    boolean found = pathFinder.searchNodePath(startNode, endNode, heuristic, path);
-    return found ? path : null;
+  public long getCacheMisses() {
+    return cacheMisses;
   }
 
   public boolean isWalkable(float x, float y) {
-    DungeonNode node = graph.getNodeAtWorldPos(x, y);
-    return node != null && !node.isWall;
+    return graph.isWalkable(graph.getIndexAtWorldPos(x, y));
+  }
+
+  public DungeonGraph getGraph() {
+    return graph;
+  }
+
+  /** Ties the grid to the physics world built from the same map (see {@link #getLineOfSight}). */
+  public void setPhysicsWorld(World world) {
+    this.physicsWorld = world;
+  }
+
+  /**
+   * Grid line of sight for entities living in {@code world}. Returns null for any other world, so
+   * callers outside the current level (e.g. bare physics tests) fall back to raycasts.
+   */
+  public GridLineOfSight getLineOfSight(World world) {
+    return world != null && world == physicsWorld ? lineOfSight : null;
+  }
+
+  /**
+   * Fills the visibility cache for this tick. Call after players move and before enemy AI runs;
+   * call {@code getVisibilityCache().invalidate()} once AI is done.
+   */
+  public void updateVisibility(List<AbstractEnemy> enemies, List<Player> players) {
+    visibilityCache.update(enemies, players, physicsWorld != null ? lineOfSight : null);
+  }
+
+  public VisibilityCache getVisibilityCache() {
+    return visibilityCache;
+  }
+
+  /** Releases the scheduler's worker threads, if any. */
+  public void dispose() {
+    if (scheduler != null) scheduler.dispose();
+  }
+
+  /**
+   * @return Scheduler for frame-budgeted searches against this manager's graph
+   */
+  public PathfindingScheduler getScheduler() {
+    if (scheduler == null) scheduler = new PathfindingScheduler(this);
+    return scheduler;
+  }
+
+  // --- Flow Fields ---
+
+  /**
+   * Points one flow field at each live player. Call once per tick before enemy AI runs; a field is
+   * only recomputed when its player has moved to a different tile.
+   *
+   * @param players The players enemies are hunting
+   */
+  public void updateFlowFields(List<Player> players) {
+    while (flowFields.size() < players.size()) {
+      flowFields.add(new FlowField(graph));
+    }
+
+    float tileSize = graph.getTileSize();
+    for (int i = 0; i < flowFields.size(); i++) {
+      FlowField field = flowFields.get(i);
+      Player player = i < players.size() ? players.get(i) : null;
+
+      if (player == null || player.isDead()) {
+        field.clear();
+        continue;
+      }
+      Vector2 pos = player.getPosition();
+      field.setGoal((int) (pos.x / tileSize), (int) (pos.y / tileSize));
+    }
+  }
+
+  /**
+   * Resolves the next waypoint towards a target through the shared flow fields. Only succeeds when
+   * the target stands on a tile some field is already aimed at, so arbitrary targets (search
+   * positions, flee points) still go through {@link #findPath}.
+   *
+   * @param out Receives the world-space center of the next tile to walk to
+   * @return True if a flow field covered the query
+   */
+  public boolean findFlowWaypoint(
+      float startX, float startY, float targetX, float targetY, Vector2 out) {
+    int start = graph.getIndexAtWorldPos(startX, startY);
+    int target = graph.getIndexAtWorldPos(targetX, targetY);
+    if (start == DungeonGraph.NO_NODE || !graph.isWalkable(target)) return false;
+
+    for (int i = 0; i < flowFields.size(); i++) {
+      FlowField field = flowFields.get(i);
+      if (field.getGoalIndex() != target) continue;
+
+      if (start == target) {
+        out.set(targetX, targetY);
+        return true;
+      }
+
+      int next = field.getNextHop(start);
+      if (next == FlowField.UNREACHABLE) return false;
+
+      out.set(graph.worldCenterX(next), graph.worldCenterY(next));
+      return true;
+    }
+    return false;
+  }
+
+  // A cache slot: the path plus its links in the recency list
+  private static final class CachedPath {
+    final GridPath path = new GridPath();
+    long key;
+    CachedPath newer;
+    CachedPath older;
   }
 }
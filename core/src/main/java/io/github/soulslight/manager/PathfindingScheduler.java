@@ -0,0 +1,372 @@
+package io.github.soulslight.manager;
+
+import io.github.soulslight.model.pathfinding.DungeonGraph;
+import io.github.soulslight.model.pathfinding.GridAStar;
+import io.github.soulslight.model.pathfinding.GridPath;
+import io.github.soulslight.utils.MetricsSink;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Spreads path searches over several frames. Enemies submit a {@link Request} instead of searching
+ * inline, and {@link #process()} works through the queue until the per-frame time budget is spent,
+ * suspending a long A* mid-search and resuming it next frame. This keeps a whole room waking up at
+ * once from landing every search on the same frame.
+ *
+ * <p>Cache hits and invalid queries complete immediately on submit.
+ *
+ * <p>Optionally ({@link #setWorkerThreads}) searches run on a worker pool instead. Workers only see
+ * an immutable {@link DungeonGraph#snapshot()} and hand results back through a lock-free queue that
+ * {@link #process()} drains on the game thread, so no Box2D or gdx object is touched off-thread.
+ */
+public class PathfindingScheduler {
+  public static final long DEFAULT_BUDGET_MICROS = 1000;
+
+  // Nodes expanded between two clock reads
+  private static final int EXPANSIONS_PER_SLICE = 64;
+  private static final int LATENCY_SAMPLES = 256;
+
+  /** A reusable path query owned by its requester; results are polled, not pushed. */
+  public static final class Request {
+    private final GridPath result = new GridPath();
+    private PathfindingScheduler owner;
+    private int start;
+    private int goal;
+    private long submittedAt;
+    private DungeonGraph snapshot;
+    private boolean pending;
+    private boolean ready;
+    // Worker task, made once per request so handing a search to the pool allocates nothing
+    private final Runnable solveOnWorker = () -> owner.solveOnWorker(this);
+    // Search cost, for the metrics sink (time summed over every slice)
+    private long searchNanos;
+    private int expanded;
+
+    /**
+     * @return True while the request waits in a queue
+     */
+    public boolean isPending() {
+      return pending;
+    }
+
+    /**
+     * Hands over a finished result, once.
+     *
+     * @param out Receives the path (empty if the goal is unreachable)
+     * @return True if a result was delivered
+     */
+    public boolean poll(GridPath out) {
+      if (!ready) return false;
+      ready = false;
+      out.set(result);
+      return true;
+    }
+  }
+
+  private final PathfindingManager manager;
+  private final DungeonGraph graph;
+  // Own instance so a suspended search survives synchronous queries on the manager in between
+  private final GridAStar search;
+  private final MetricsSink metrics = MetricsSink.getInstance();
+  private final ArrayDeque<Request> queue = new ArrayDeque<>();
+  private Request active;
+  private int activeVersion;
+  private long budgetNanos = DEFAULT_BUDGET_MICROS * 1000L;
+  // Fixed slices per frame instead of the time budget (0 = use the time budget)
+  private int sliceBudget = 0;
+
+  // Worker mode (null pool = searches run on the game thread)
+  private ExecutorService workers;
+  private final ConcurrentLinkedQueue<Request> finished = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<GridAStar> workerSearch = new ThreadLocal<>();
+  private DungeonGraph snapshot;
+  private int inFlight = 0;
+
+  // Submit-to-result latency of the last completed requests (ring buffer)
+  private final long[] latencies = new long[LATENCY_SAMPLES];
+  private final long[] sortedLatencies = new long[LATENCY_SAMPLES];
+  private int latencyHead = 0;
+  private int latencyCount = 0;
+  private long completedCount = 0;
+
+  PathfindingScheduler(PathfindingManager manager) {
+    this.manager = manager;
+    this.graph = manager.getGraph();
+    this.search = new GridAStar(graph);
+  }
+
+  /**
+   * Queues a path query. Requests already waiting in this scheduler are left where they are, so
+   * callers can resubmit every frame without flooding the queue.
+   */
+  public void submit(Request request, float startX, float startY, float endX, float endY) {
+    if (request.pending && request.owner == this) return;
+
+    request.owner = this;
+    request.ready = false;
+    request.submittedAt = System.nanoTime();
+    request.start = graph.getIndexAtWorldPos(startX, startY);
+    request.goal = graph.getIndexAtWorldPos(endX, endY);
+
+    if (request.start == DungeonGraph.NO_NODE || !graph.isWalkable(request.goal)) {
+      request.result.reset(graph.getWidth());
+      complete(request);
+      return;
+    }
+    if (manager.getCachedPath(request.start, request.goal, request.result)) {
+      complete(request);
+      return;
+    }
+
+    request.pending = true;
+    queue.addLast(request);
+  }
+
+  /** Works through queued requests until the frame budget is spent. Call once per frame. */
+  public void process() {
+    drainFinished();
+    if (workers != null) {
+      dispatchToWorkers();
+      return;
+    }
+
+    if (sliceBudget > 0) {
+      for (int i = 0; i < sliceBudget; i++) {
+        if (active == null && !startNext()) return;
+        stepActive();
+      }
+      return;
+    }
+
+    long deadline = System.nanoTime() + budgetNanos;
+
+    // At least one slice per frame, so a tiny budget still makes progress
+    do {
+      if (active == null && !startNext()) return;
+      stepActive();
+    } while (System.nanoTime() < deadline);
+  }
+
+  private boolean startNext() {
+    while (!queue.isEmpty()) {
+      Request request = queue.pollFirst();
+
+      // Another request may have filled the cache since this one was queued
+      if (manager.getCachedPath(request.start, request.goal, request.result)) {
+        complete(request);
+        continue;
+      }
+
+      // Hierarchical queries only search one room-sized segment, so they run in one go
+      if (manager.isHierarchical(request.start, request.goal)) {
+        long searchStart = System.nanoTime();
+        manager.findHierarchicalPath(request.start, request.goal, request.result);
+        request.searchNanos = System.nanoTime() - searchStart;
+        request.expanded = -1; // Not tracked across the segment searches
+        manager.cachePath(request.start, request.goal, request.result);
+        recordSearch("hierarchical", request);
+        complete(request);
+        return true;
+      }
+
+      active = request;
+      activeVersion = graph.getVersion();
+      active.searchNanos = 0L;
+      search.begin(request.start, request.goal);
+      return true;
+    }
+    return false;
+  }
+
+  private void stepActive() {
+    if (active == null) return;
+
+    // A door changed state while the search was suspended: its partial result is stale
+    if (activeVersion != graph.getVersion()) {
+      activeVersion = graph.getVersion();
+      search.begin(active.start, active.goal);
+    }
+
+    long sliceStart = metrics.isEnabled() ? System.nanoTime() : 0L;
+    GridAStar.Status status = search.step(EXPANSIONS_PER_SLICE);
+    if (sliceStart != 0L) active.searchNanos += System.nanoTime() - sliceStart;
+    if (status == GridAStar.Status.RUNNING) return;
+
+    search.buildPath(active.result);
+    manager.cachePath(active.start, active.goal, active.result);
+    active.expanded = search.getLastExpandedCount();
+    recordSearch("sliced", active);
+    complete(active);
+    active = null;
+  }
+
+  // --- Worker Mode ---
+
+  private void dispatchToWorkers() {
+    if (queue.isEmpty()) return;
+    if (snapshot == null || snapshot.getVersion() != graph.getVersion()) {
+      snapshot = graph.snapshot();
+    }
+
+    while (!queue.isEmpty()) {
+      Request request = queue.pollFirst();
+      if (manager.getCachedPath(request.start, request.goal, request.result)) {
+        complete(request);
+        continue;
+      }
+
+      request.snapshot = snapshot;
+      inFlight++;
+      workers.execute(request.solveOnWorker);
+    }
+  }
+
+  // Runs on a worker thread: touches only the snapshot, its own A* and the request's buffer
+  private void solveOnWorker(Request request) {
+    DungeonGraph target = request.snapshot;
+    try {
+      GridAStar search = workerSearch.get();
+      if (search == null || search.getGraph() != target) {
+        search = new GridAStar(target);
+        workerSearch.set(search);
+      }
+      long searchStart = System.nanoTime();
+      search.search(request.start, request.goal, request.result);
+      request.searchNanos = System.nanoTime() - searchStart;
+      request.expanded = search.getLastExpandedCount();
+    } catch (RuntimeException e) {
+      request.result.reset(target.getWidth());
+    } finally {
+      finished.offer(request);
+    }
+  }
+
+  private void drainFinished() {
+    Request request;
+    while ((request = finished.poll()) != null) {
+      inFlight--;
+      // Results planned on an outdated snapshot are still delivered, but not cached
+      if (request.snapshot.getVersion() == graph.getVersion()) {
+        manager.cachePath(request.start, request.goal, request.result);
+      }
+      request.snapshot = null;
+      recordSearch("worker", request);
+      complete(request);
+    }
+  }
+
+  /**
+   * Moves searches to a pool of worker threads, or back to the game thread.
+   *
+   * @param threads Worker count; 0 or less disables the pool
+   */
+  public void setWorkerThreads(int threads) {
+    shutdownWorkers();
+    if (threads <= 0) return;
+
+    // A search suspended on the game thread starts over on the pool
+    if (active != null) {
+      queue.addFirst(active);
+      active = null;
+    }
+    workers =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "pathfinding-worker");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public boolean isUsingWorkers() {
+    return workers != null;
+  }
+
+  /** Stops the worker pool; searches already handed out still finish and are delivered. */
+  public void dispose() {
+    shutdownWorkers();
+  }
+
+  private void shutdownWorkers() {
+    if (workers == null) return;
+    workers.shutdown();
+    workers = null;
+  }
+
+  // One "path_search" event per search actually run (cache hits are not searches)
+  private void recordSearch(String mode, Request request) {
+    if (!metrics.begin("path_search")) return;
+    metrics
+        .field("mode", mode)
+        .field("nanos", request.searchNanos)
+        .field("expanded", request.expanded)
+        .field("latency_us", (System.nanoTime() - request.submittedAt) / 1000L)
+        .end();
+  }
+
+  private void complete(Request request) {
+    request.pending = false;
+    request.ready = true;
+
+    latencies[latencyHead] = System.nanoTime() - request.submittedAt;
+    latencyHead = (latencyHead + 1) % LATENCY_SAMPLES;
+    if (latencyCount < LATENCY_SAMPLES) latencyCount++;
+    completedCount++;
+  }
+
+  // --- Configuration & Stats ---
+
+  public void setBudgetMicros(long micros) {
+    this.budgetNanos = Math.max(0, micros) * 1000L;
+  }
+
+  public long getBudgetMicros() {
+    return budgetNanos / 1000L;
+  }
+
+  /**
+   * Replaces the time budget with a fixed amount of work per frame, so the same inputs always
+   * deliver paths on the same frames (replays). Only meaningful without workers.
+   *
+   * @param slices Slices of {@value #EXPANSIONS_PER_SLICE} expansions per frame; 0 restores the
+   *     time budget
+   */
+  public void setSliceBudget(int slices) {
+    this.sliceBudget = Math.max(0, slices);
+  }
+
+  public int getSliceBudget() {
+    return sliceBudget;
+  }
+
+  /**
+   * @return Requests waiting, including those currently being searched
+   */
+  public int getQueueDepth() {
+    return queue.size() + (active != null ? 1 : 0) + inFlight;
+  }
+
+  public long getCompletedCount() {
+    return completedCount;
+  }
+
+  /**
+   * Latency percentile over the last {@value #LATENCY_SAMPLES} completed requests.
+   *
+   * @param percentile Value in [0, 100], e.g. 50 or 99
+   * @return Submit-to-result latency in microseconds, 0 if nothing completed yet
+   */
+  public long getLatencyPercentileMicros(double percentile) {
+    if (latencyCount == 0) return 0;
+    System.arraycopy(latencies, 0, sortedLatencies, 0, latencyCount);
+    Arrays.sort(sortedLatencies, 0, latencyCount);
+
+    int rank = (int) Math.ceil(percentile / 100.0 * latencyCount) - 1;
+    rank = Math.max(0, Math.min(latencyCount - 1, rank));
+    return sortedLatencies[rank] / 1000L;
+  }
+}
@@ -1,23 +1,51 @@
 package io.github.soulslight.manager;
 
 import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import io.github.soulslight.model.entities.Player;
 import io.github.soulslight.model.entities.Projectile;
+import io.github.soulslight.model.entities.ProjectileStore;
+import io.github.soulslight.model.pathfinding.GridLineOfSight;
+import io.github.soulslight.model.physics.SpatialIndex;
+import io.github.soulslight.utils.MetricsSink;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
+/**
+ * Moves projectiles and resolves their hits. Flight state lives in a {@link ProjectileStore}; walls
+ * are tested against the tile grid, falling back to a Box2D raycast only for worlds that have no
+ * grid.
+ */
 public class ProjectileManager {
   private final World world;
-  private final List<Projectile> projectiles = new ArrayList<>();
+  private final ProjectileStore store = new ProjectileStore();
+  // Enemy lookups along each projectile's path; without one set the list is scanned
+  private SpatialIndex enemyIndex = new SpatialIndex();
+  private final List<io.github.soulslight.model.enemies.AbstractEnemy> hitCandidates =
+      new ArrayList<>();
+
+  // Wall check cost, for comparing wall collider layouts (see WallColliderBuilder); the time is
+  // only taken while metrics are being recorded
+  private long raycastCount = 0;
+  private long raycastNanos = 0;
+  private final MetricsSink metrics = MetricsSink.getInstance();
+
+  // Step segment of the projectile being checked, reused so the checks do not allocate
+  private final WallRayCallback wallRayCallback = new WallRayCallback();
+  private final Vector2 rayFrom = new Vector2();
+  private final Vector2 rayTo = new Vector2();
 
   public ProjectileManager(World world) {
     this.world = world;
   }
 
+  public void setEnemyIndex(SpatialIndex enemyIndex) {
+    this.enemyIndex = enemyIndex;
+  }
+
   public void addProjectile(Projectile p) {
-    projectiles.add(p);
+    store.add(p);
   }
 
   // Controls the movement of all projectiles
@@ -25,72 +53,99 @@ public class ProjectileManager {
       float deltaTime,
       List<Player> players,
       List<io.github.soulslight.model.enemies.AbstractEnemy> enemies) {
-    Iterator<Projectile> iter = projectiles.iterator();
-    while (iter.hasNext()) {
-      Projectile p = iter.next();
-      p.update(deltaTime);
+    store.integrate(deltaTime);
+    GridLineOfSight walls = wallGrid();
 
-      float distSq = p.getPosition().dst2(p.getLastPosition());
+    for (int i = 0; i < store.size(); i++) {
+      if (store.isDead(i)) continue;
 
-      if (distSq < 0.0001f) {
+      float dx = store.getX(i) - store.getLastX(i);
+      float dy = store.getY(i) - store.getLastY(i);
+      if (dx * dx + dy * dy < 0.0001f) continue;
 
-        if (p.shouldDestroy()) {
-          if (p.getBody() != null) world.destroyBody(p.getBody());
-          iter.remove();
-        }
+      // Distrugge le frecce al contatto con una parete
+      if (hitsWall(i, walls)) {
+        store.kill(i);
         continue;
       }
 
-      final boolean[] hitWall = {false};
+      // Hit checks read the store directly; the Projectile view is only touched on a hit
+      rayFrom.set(store.getLastX(i), store.getLastY(i));
+      rayTo.set(store.getX(i), store.getY(i));
+      // Only check player collision if it's NOT a player projectile (Friendly Fire
+      // Check)
+      if (!store.isPlayerOwned(i)) {
+        checkPlayersCollision(i, players);
+      } else {
+        // Check enemy collision if it IS a player projectile
+        checkEnemiesCollision(i, enemies);
+      }
+    }
+
+    store.removeDead();
+  }
+
+  /** Removes every projectile in flight. */
+  public void clear() {
+    store.clear();
+  }
+
+  private GridLineOfSight wallGrid() {
+    PathfindingManager pfm = GameManager.getInstance().getPathfindingManager();
+    return pfm != null ? pfm.getLineOfSight(world) : null;
+  }
 
+  private boolean hitsWall(int slot, GridLineOfSight walls) {
+    long rayStart = metrics.isEnabled() ? System.nanoTime() : 0L;
+    boolean hit;
+    if (walls != null) {
+      hit =
+          !walls.isClear(
+              store.getLastX(slot), store.getLastY(slot), store.getX(slot), store.getY(slot));
+    } else {
       // Serve per usare linee invisibili per intercettare i muri
-      world.rayCast(
-          (fixture, point, normal, fraction) -> {
-            if (fixture.getBody().getType() == BodyDef.BodyType.StaticBody) {
-              hitWall[0] = true;
-              p.markDestroy();
-              return fraction;
-            }
-            return 1;
-          },
-          p.getLastPosition(),
-          p.getPosition());
-
-      if (!hitWall[0]) {
-        // Only check player collision if it's NOT a player projectile (Friendly Fire
-        // Check)
-        if (!p.isPlayerProjectile()) {
-          checkPlayersCollision(p, players);
-        } else {
-          // Check enemy collision if it IS a player projectile
-          checkEnemiesCollision(p, enemies);
-        }
-      }
-      // Distrugge le frecce al contatto con una parete
-      if (p.shouldDestroy()) {
-        if (p.getBody() != null) world.destroyBody(p.getBody());
-        iter.remove();
+      wallRayCallback.hit = false;
+      rayFrom.set(store.getLastX(slot), store.getLastY(slot));
+      rayTo.set(store.getX(slot), store.getY(slot));
+      world.rayCast(wallRayCallback, rayFrom, rayTo);
+      hit = wallRayCallback.hit;
+    }
+    if (rayStart != 0L) raycastNanos += System.nanoTime() - rayStart;
+    raycastCount++;
+    return hit;
+  }
+
+  private static final class WallRayCallback implements RayCastCallback {
+    boolean hit;
+
+    @Override
+    public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+      if (fixture.getBody().getType() == BodyDef.BodyType.StaticBody) {
+        hit = true;
+        return fraction;
       }
+      return 1;
     }
   }
 
-  // Controlla se la freccia ha colpito un player
-  private void checkPlayersCollision(Projectile p, List<Player> players) {
+  // Controlla se la freccia ha colpito un player (segment rayFrom-rayTo of the slot)
+  private void checkPlayersCollision(int slot, List<Player> players) {
     if (players == null) return;
     float hitRadiusSq = 14f * 14f;
 
-    for (Player player : players) {
+    for (int i = 0; i < players.size(); i++) { // indexed: no iterator per projectile
+      Player player = players.get(i);
       if (player.isDead()) continue;
 
-      boolean closeEnough = p.getPosition().dst2(player.getPosition()) < hitRadiusSq;
+      boolean closeEnough = rayTo.dst2(player.getPosition()) < hitRadiusSq;
       boolean intersect =
-          Intersector.intersectSegmentCircle(
-              p.getLastPosition(), p.getPosition(), player.getPosition(), hitRadiusSq);
+          Intersector.intersectSegmentCircle(rayFrom, rayTo, player.getPosition(), hitRadiusSq);
 
       if ((closeEnough || intersect) && !player.isInvincible()) {
+        Projectile p = store.getProjectile(slot);
         player.takeDamage(p.getDamage());
-        if (player.getBody() != null && p.getBody() != null) {
-          player.applyKnockback(p.getBody().getLinearVelocity().cpy().nor(), 800f, 0.15f);
+        if (player.getBody() != null) {
+          player.applyKnockback(p.getVelocity(), 800f, 0.15f); // normalized by the receiver
         }
         p.markDestroy();
         return; // Destroy projectile after first hit
@@ -99,22 +154,27 @@ public class ProjectileManager {
   }
 
   private void checkEnemiesCollision(
-      Projectile p, List<io.github.soulslight.model.enemies.AbstractEnemy> enemies) {
+      int slot, List<io.github.soulslight.model.enemies.AbstractEnemy> enemies) {
     if (enemies == null) return;
-    float hitRadiusSq = 14f * 14f; // Similar radius to player
+    float hitRadius = 14f; // Similar radius to player
+    float hitRadiusSq = hitRadius * hitRadius;
+
+    // Enemies the projectile could have touched this step, first hit first
+    enemyIndex.querySegment(
+        enemies, rayFrom.x, rayFrom.y, rayTo.x, rayTo.y, hitRadius, hitCandidates);
 
-    for (io.github.soulslight.model.enemies.AbstractEnemy enemy : enemies) {
-      if (enemy.isDead()) continue;
+    for (int i = 0; i < hitCandidates.size(); i++) {
+      io.github.soulslight.model.enemies.AbstractEnemy enemy = hitCandidates.get(i);
 
-      boolean closeEnough = p.getPosition().dst2(enemy.getPosition()) < hitRadiusSq;
+      boolean closeEnough = rayTo.dst2(enemy.getPosition()) < hitRadiusSq;
       boolean intersect =
-          Intersector.intersectSegmentCircle(
-              p.getLastPosition(), p.getPosition(), enemy.getPosition(), hitRadiusSq);
+          Intersector.intersectSegmentCircle(rayFrom, rayTo, enemy.getPosition(), hitRadiusSq);
 
       if (closeEnough || intersect) {
+        Projectile p = store.getProjectile(slot);
         enemy.takeDamage(p.getDamage());
-        if (enemy.getBody() != null && p.getBody() != null) {
-          enemy.applyKnockback(p.getBody().getLinearVelocity().cpy().nor(), 800f, 0.15f);
+        if (enemy.getBody() != null) {
+          enemy.applyKnockback(p.getVelocity(), 800f, 0.15f);
         }
         p.markDestroy();
         return;
@@ -122,7 +182,21 @@ public class ProjectileManager {
     }
   }
 
+  /**
+   * @return Projectiles in flight (read-only)
+   */
   public List<Projectile> getProjectiles() {
-    return projectiles;
+    return store.getProjectiles();
+  }
+
+  public long getRaycastCount() {
+    return raycastCount;
+  }
+
+  /**
+   * @return Time spent in wall checks while {@link MetricsSink} was enabled
+   */
+  public long getRaycastNanos() {
+    return raycastNanos;
   }
 }
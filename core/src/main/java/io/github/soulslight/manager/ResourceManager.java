@@ -4,6 +4,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Disposable;
 import java.util.HashMap;
@@ -13,32 +15,26 @@ import java.util.Map;
 public class ResourceManager implements Disposable {
   private static ResourceManager instance;
 
-  private Texture playerTexture;
-  private Texture wallTexture;
-  private Texture floorTexture;
-
-  private TextureRegion wallTextureRegion;
-  private TextureRegion floorTextureRegion;
-
-  private Texture[] floorVariantTextures;
-  private TextureRegion[] floorVariantRegions;
+  private static final int TILE_SIZE = 32;
+  private static final int TILE_ATLAS_SIZE = 256;
+  private static final int FLOOR_VARIANTS = 8;
+  private static final int WALL_MASKS = 16;
+  // Same order as the getInnerCornerWall* accessors
+  private static final String[] INNER_CORNERS = {"ne", "nw", "se", "sw"};
 
-  private Texture[] wallMaskTextures;
-  private TextureRegion[] wallMaskRegions;
-
-  private Texture innerNeWallTexture;
-  private Texture innerNwWallTexture;
-  private Texture innerSeWallTexture;
-  private Texture innerSwWallTexture;
+  private Texture playerTexture;
 
-  private TextureRegion innerNeWallRegion;
-  private TextureRegion innerNwWallRegion;
-  private TextureRegion innerSeWallRegion;
-  private TextureRegion innerSwWallRegion;
+  private TextureAtlas tileAtlas;
+  private AtlasRegion wallTextureRegion;
+  private AtlasRegion floorTextureRegion;
+  private AtlasRegion[] floorVariantRegions;
+  private AtlasRegion[] wallMaskRegions;
+  private AtlasRegion[] innerCornerRegions;
 
   private Texture inventorySlotTexture;
   private TextureRegion inventorySlotRegion;
-  private Map<String, Texture> itemTextures = new HashMap<>();
+  // Items requested before the sprite atlas exists
+  private final Map<String, TextureRegion> itemRegions = new HashMap<>();
 
   private ResourceManager() {}
 
@@ -60,183 +56,126 @@ public class ResourceManager implements Disposable {
     return playerTexture;
   }
 
-  public TextureRegion getWallTextureRegion() {
-    if (wallTextureRegion == null) {
-      if (wallTexture == null) {
-        Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-        pixmap.setColor(Color.DARK_GRAY); // border
-        pixmap.fill();
-        pixmap.setColor(Color.BLACK); // center
-        pixmap.fillRectangle(1, 1, 30, 30);
-        wallTexture = new Texture(pixmap);
-        pixmap.dispose();
-      }
-      wallTextureRegion = new TextureRegion(wallTexture);
-    }
-    return wallTextureRegion;
-  }
+  // --- Tiles: one atlas, packed on first use ---
 
-  public TextureRegion getFloorTextureRegion() {
-    if (floorTextureRegion == null) {
-      if (floorTexture == null) {
-        Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-        pixmap.setColor(Color.GRAY); // border
-        pixmap.fill();
-        pixmap.setColor(Color.LIGHT_GRAY); // center
-        pixmap.fillRectangle(1, 1, 30, 30);
-        floorTexture = new Texture(pixmap);
-        pixmap.dispose();
-      }
-      floorTextureRegion = new TextureRegion(floorTexture);
-    }
-    return floorTextureRegion;
-  }
-
-  public TextureRegion[] getFloorTextureRegions() {
-    if (floorVariantRegions == null) {
-      floorVariantTextures = new Texture[8];
-      floorVariantRegions = new TextureRegion[8];
-
-      for (int i = 0; i < 8; i++) {
-        String path = "tiles/floor" + (i + 1) + ".png";
-        Pixmap src;
-
-        if (Gdx.files.internal(path).exists()) {
-          // Loads the original 16x16 PNG as a Pixmap
-          src = new Pixmap(Gdx.files.internal(path));
-        } else {
-          // Fallback: Generate a placeholder 16x16 pixmap if file is missing (e.g. in
-          // tests)
-          src = new Pixmap(16, 16, Pixmap.Format.RGBA8888);
-          src.setColor(Color.LIGHT_GRAY);
-          src.fill();
-          // Add some variation based on index so they aren't all identical
-          src.setColor(new Color(0.7f + (i * 0.02f), 0.7f + (i * 0.02f), 0.7f + (i * 0.02f), 1f));
-          src.fillRectangle(1, 1, 14, 14);
-        }
-
-        // Create a 32x32 Pixmap to upscale the tile
-        Pixmap dst = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-        dst.setBlending(Pixmap.Blending.None);
-
-        // 2x scale
-        dst.drawPixmap(src, 0, 0, src.getWidth(), src.getHeight(), 0, 0, 32, 32);
-
-        Texture t = new Texture(dst);
-        t.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-
-        src.dispose();
-        dst.dispose();
-
-        floorVariantTextures[i] = t;
-        floorVariantRegions[i] = new TextureRegion(t);
-      }
-    }
-    return floorVariantRegions;
-  }
-
-  public TextureRegion[] getWallMaskRegions() {
-    if (wallMaskRegions == null) {
-      final int MASK_COUNT = 16;
-      wallMaskTextures = new Texture[MASK_COUNT];
-      wallMaskRegions = new TextureRegion[MASK_COUNT];
+  private void ensureTileAtlas() {
+    if (tileAtlas != null) return;
 
-      for (int i = 0; i < MASK_COUNT; i++) {
-        String path = "tiles/wall_" + String.format("%02d", i) + ".png";
+    AtlasPacker packer = new AtlasPacker(TILE_ATLAS_SIZE);
 
-        if (!Gdx.files.internal(path).exists()) {
-          wallMaskTextures[i] = null;
-          wallMaskRegions[i] = null;
-          continue;
-        }
+    // Generated placeholders
+    Pixmap wall = new Pixmap(TILE_SIZE, TILE_SIZE, Pixmap.Format.RGBA8888);
+    wall.setColor(Color.DARK_GRAY); // border
+    wall.fill();
+    wall.setColor(Color.BLACK); // center
+    wall.fillRectangle(1, 1, 30, 30);
+    packer.add("wallPlaceholder", wall);
 
-        Pixmap src = new Pixmap(Gdx.files.internal(path));
-        Pixmap dst = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-        dst.setBlending(Pixmap.Blending.None);
+    Pixmap floor = new Pixmap(TILE_SIZE, TILE_SIZE, Pixmap.Format.RGBA8888);
+    floor.setColor(Color.GRAY); // border
+    floor.fill();
+    floor.setColor(Color.LIGHT_GRAY); // center
+    floor.fillRectangle(1, 1, 30, 30);
+    packer.add("floorPlaceholder", floor);
 
-        // 2x scale
-        dst.drawPixmap(src, 0, 0, src.getWidth(), src.getHeight(), 0, 0, 32, 32);
+    for (int i = 0; i < FLOOR_VARIANTS; i++) {
+      String path = "tiles/floor" + (i + 1) + ".png";
+      Pixmap src;
 
-        Texture t = new Texture(dst);
-        t.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-
-        src.dispose();
-        dst.dispose();
+      if (Gdx.files.internal(path).exists()) {
+        // Loads the original 16x16 PNG as a Pixmap
+        src = new Pixmap(Gdx.files.internal(path));
+      } else {
+        // Fallback: Generate a placeholder 16x16 pixmap if file is missing (e.g. in
+        // tests)
+        src = new Pixmap(16, 16, Pixmap.Format.RGBA8888);
+        src.setColor(Color.LIGHT_GRAY);
+        src.fill();
+        // Add some variation based on index so they aren't all identical
+        src.setColor(new Color(0.7f + (i * 0.02f), 0.7f + (i * 0.02f), 0.7f + (i * 0.02f), 1f));
+        src.fillRectangle(1, 1, 14, 14);
+      }
+      // 2x scale
+      packer.add("floor_" + i, AtlasPacker.fit(src, TILE_SIZE, TILE_SIZE));
+    }
 
-        wallMaskTextures[i] = t;
-        wallMaskRegions[i] = new TextureRegion(t);
+    for (int i = 0; i < WALL_MASKS; i++) {
+      String path = "tiles/wall_" + String.format("%02d", i) + ".png";
+      if (Gdx.files.internal(path).exists()) {
+        packer.add(
+            "wallMask_" + i,
+            AtlasPacker.fit(new Pixmap(Gdx.files.internal(path)), TILE_SIZE, TILE_SIZE));
       }
     }
-    return wallMaskRegions;
-  }
 
-  private TextureRegion loadInnerCornerRegion(String path, Texture fallbackTexture) {
-    if (!Gdx.files.internal(path).exists()) {
-      return new TextureRegion(fallbackTexture);
+    for (String corner : INNER_CORNERS) {
+      String path = "tiles/wall_inner_" + corner + ".png";
+      if (Gdx.files.internal(path).exists()) {
+        packer.add(
+            "wallInner" + corner,
+            AtlasPacker.fit(new Pixmap(Gdx.files.internal(path)), TILE_SIZE, TILE_SIZE));
+      }
     }
 
-    Pixmap src = new Pixmap(Gdx.files.internal(path));
-    Pixmap dst = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-    dst.setBlending(Pixmap.Blending.None);
+    tileAtlas = packer.build();
 
-    // 2x scale
-    dst.drawPixmap(src, 0, 0, src.getWidth(), src.getHeight(), 0, 0, 32, 32);
+    wallTextureRegion = tileAtlas.findRegion("wallPlaceholder");
+    floorTextureRegion = tileAtlas.findRegion("floorPlaceholder");
+    floorVariantRegions = new AtlasRegion[FLOOR_VARIANTS];
+    for (int i = 0; i < FLOOR_VARIANTS; i++) {
+      floorVariantRegions[i] = tileAtlas.findRegion("floor", i);
+    }
+    // Missing masks stay null
+    wallMaskRegions = new AtlasRegion[WALL_MASKS];
+    for (int i = 0; i < WALL_MASKS; i++) {
+      wallMaskRegions[i] = tileAtlas.findRegion("wallMask", i);
+    }
+    // Missing inner corners fall back to the plain wall
+    innerCornerRegions = new AtlasRegion[INNER_CORNERS.length];
+    for (int i = 0; i < INNER_CORNERS.length; i++) {
+      AtlasRegion region = tileAtlas.findRegion("wallInner" + INNER_CORNERS[i]);
+      innerCornerRegions[i] = region != null ? region : wallTextureRegion;
+    }
+  }
 
-    Texture t = new Texture(dst);
-    t.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+  public AtlasRegion getWallTextureRegion() {
+    ensureTileAtlas();
+    return wallTextureRegion;
+  }
 
-    src.dispose();
-    dst.dispose();
+  public AtlasRegion getFloorTextureRegion() {
+    ensureTileAtlas();
+    return floorTextureRegion;
+  }
 
-    return new TextureRegion(t);
+  public AtlasRegion[] getFloorTextureRegions() {
+    ensureTileAtlas();
+    return floorVariantRegions;
   }
 
-  public TextureRegion getInnerCornerWallNE() {
-    if (innerNeWallRegion == null) {
-      String path = "tiles/wall_inner_ne.png";
-      if (Gdx.files.internal(path).exists()) {
-        innerNeWallRegion = loadInnerCornerRegion(path, getWallTextureRegion().getTexture());
-      } else {
-        innerNeWallRegion = getWallTextureRegion();
-      }
-    }
-    return innerNeWallRegion;
+  public AtlasRegion[] getWallMaskRegions() {
+    ensureTileAtlas();
+    return wallMaskRegions;
   }
 
-  public TextureRegion getInnerCornerWallNW() {
-    if (innerNwWallRegion == null) {
-      String path = "tiles/wall_inner_nw.png";
-      if (Gdx.files.internal(path).exists()) {
-        innerNwWallRegion = loadInnerCornerRegion(path, getWallTextureRegion().getTexture());
-      } else {
-        innerNwWallRegion = getWallTextureRegion();
-      }
-    }
-    return innerNwWallRegion;
+  public AtlasRegion getInnerCornerWallNE() {
+    ensureTileAtlas();
+    return innerCornerRegions[0];
   }
 
-  public TextureRegion getInnerCornerWallSE() {
-    if (innerSeWallRegion == null) {
-      String path = "tiles/wall_inner_se.png";
-      if (Gdx.files.internal(path).exists()) {
-        innerSeWallRegion = loadInnerCornerRegion(path, getWallTextureRegion().getTexture());
-      } else {
-        innerSeWallRegion = getWallTextureRegion();
-      }
-    }
-    return innerSeWallRegion;
+  public AtlasRegion getInnerCornerWallNW() {
+    ensureTileAtlas();
+    return innerCornerRegions[1];
   }
 
-  public TextureRegion getInnerCornerWallSW() {
-    if (innerSwWallRegion == null) {
-      String path = "tiles/wall_inner_sw.png";
-      if (Gdx.files.internal(path).exists()) {
-        innerSwWallRegion = loadInnerCornerRegion(path, getWallTextureRegion().getTexture());
-      } else {
-        innerSwWallRegion = getWallTextureRegion();
-      }
-    }
-    return innerSwWallRegion;
+  public AtlasRegion getInnerCornerWallSE() {
+    ensureTileAtlas();
+    return innerCornerRegions[2];
+  }
+
+  public AtlasRegion getInnerCornerWallSW() {
+    ensureTileAtlas();
+    return innerCornerRegions[3];
   }
 
   public TextureRegion getInventorySlotTexture() {
@@ -253,106 +192,89 @@ public class ResourceManager implements Disposable {
     return inventorySlotRegion;
   }
 
-  public Texture getItemTexture(String name) {
-    if (itemTextures.containsKey(name)) {
-      return itemTextures.get(name);
+  /**
+   * Sprite of an item, by internal path or by id (items/&lt;id&gt;.png). Comes from the sprite
+   * atlas once {@link TextureManager#load()} packed it, otherwise from a texture of its own.
+   */
+  public TextureRegion getItemRegion(String name) {
+    TextureRegion packed = TextureManager.getInstance().findSprite(name);
+    if (packed != null) return packed;
+
+    TextureRegion region = itemRegions.get(name);
+    if (region == null) {
+      Texture texture = new Texture(loadItemPixmap("", name));
+      region = new TextureRegion(texture);
+      itemRegions.put(name, region);
     }
+    return region;
+  }
 
+  /**
+   * Loads an item image: name as a full internal path first, then the legacy items/name.png, then a
+   * generated placeholder.
+   *
+   * @param base Prefix of the assets directory
+   */
+  static Pixmap loadItemPixmap(String base, String name) {
     // Try treating 'name' as a full internal path first
-    String path = name;
-    if (Gdx.files.internal(path).exists()) {
+    if (Gdx.files.internal(base + name).exists()) {
       try {
-        Texture t = new Texture(Gdx.files.internal(path));
-        itemTextures.put(name, t);
-        return t;
+        return new Pixmap(Gdx.files.internal(base + name));
       } catch (Exception e) {
-        Gdx.app.error("ResourceManager", "Failed to load item texture: " + path, e);
+        Gdx.app.error("ResourceManager", "Failed to load item texture: " + name, e);
       }
     }
 
     // Fallback to legacy behavior: items/name.png
-    path = "items/" + name + ".png";
-    Texture texture;
-
+    String path = base + "items/" + name + ".png";
     if (Gdx.files.internal(path).exists()) {
-      texture = new Texture(Gdx.files.internal(path));
-    } else {
-
-      // Fallback generation
-      Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-      // Transparent background
-      pixmap.setColor(0, 0, 0, 0);
-      pixmap.fill();
+      return new Pixmap(Gdx.files.internal(path));
+    }
 
-      if ("item_potion".equals(name)) {
-        pixmap.setColor(Color.RED);
-        pixmap.fillCircle(16, 16, 12);
-        // Slight shine
-        pixmap.setColor(1f, 1f, 1f, 0.4f);
-        pixmap.fillCircle(12, 12, 4);
-      } else if ("item_key".equals(name)) {
-        pixmap.setColor(Color.GOLD);
-        pixmap.fillRectangle(14, 6, 4, 16);
-        pixmap.fillRectangle(14, 22, 6, 4);
-        pixmap.fillRectangle(14, 26, 6, 4);
-      } else {
-        pixmap.setColor(Color.MAGENTA);
-        pixmap.fillRectangle(8, 8, 16, 16);
-      }
+    // Fallback generation
+    Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
+    // Transparent background
+    pixmap.setColor(0, 0, 0, 0);
+    pixmap.fill();
 
-      texture = new Texture(pixmap);
-      pixmap.dispose();
+    if ("item_potion".equals(name)) {
+      pixmap.setColor(Color.RED);
+      pixmap.fillCircle(16, 16, 12);
+      // Slight shine
+      pixmap.setColor(1f, 1f, 1f, 0.4f);
+      pixmap.fillCircle(12, 12, 4);
+    } else if ("item_key".equals(name)) {
+      pixmap.setColor(Color.GOLD);
+      pixmap.fillRectangle(14, 6, 4, 16);
+      pixmap.fillRectangle(14, 22, 6, 4);
+      pixmap.fillRectangle(14, 26, 6, 4);
+    } else {
+      pixmap.setColor(Color.MAGENTA);
+      pixmap.fillRectangle(8, 8, 16, 16);
     }
-
-    itemTextures.put(name, texture);
-    return texture;
+    return pixmap;
   }
 
   @Override
   public void dispose() {
     if (playerTexture != null) playerTexture.dispose();
-    if (wallTexture != null) wallTexture.dispose();
-    if (floorTexture != null) floorTexture.dispose();
-
-    // Dispose floor variant textures
-    if (floorVariantTextures != null) {
-      for (Texture t : floorVariantTextures) {
-        if (t != null) t.dispose();
-      }
-    }
-
-    // Dispose wall bitmask variant textures
-    if (wallMaskTextures != null) {
-      for (Texture t : wallMaskTextures) {
-        if (t != null) t.dispose();
-      }
-    }
-
-    // Dispose inner wall textures
-    if (innerNeWallTexture != null) innerNeWallTexture.dispose();
-    if (innerNwWallTexture != null) innerNwWallTexture.dispose();
-    if (innerSeWallTexture != null) innerSeWallTexture.dispose();
-    if (innerSwWallTexture != null) innerSwWallTexture.dispose();
-    if (inventorySlotTexture != null) inventorySlotTexture.dispose();
-    for (Texture t : itemTextures.values()) {
-      t.dispose();
-    }
-    itemTextures.clear();
+    playerTexture = null;
 
-    floorVariantTextures = null;
+    if (tileAtlas != null) tileAtlas.dispose();
+    tileAtlas = null;
+    wallTextureRegion = null;
+    floorTextureRegion = null;
     floorVariantRegions = null;
-
-    wallMaskTextures = null;
     wallMaskRegions = null;
+    innerCornerRegions = null;
 
-    innerNeWallTexture = null;
-    innerNwWallTexture = null;
-    innerSeWallTexture = null;
-    innerSwWallTexture = null;
+    if (inventorySlotTexture != null) inventorySlotTexture.dispose();
+    inventorySlotTexture = null;
+    inventorySlotRegion = null;
 
-    innerNeWallRegion = null;
-    innerNwWallRegion = null;
-    innerSeWallRegion = null;
-    innerSwWallRegion = null;
+    for (TextureRegion region : itemRegions.values()) {
+      region.getTexture().dispose();
+    }
+    itemRegions.clear();
   }
 }
@@ -7,6 +7,7 @@ import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.SerializationException;
 import io.github.soulslight.model.GameModel;
 import io.github.soulslight.model.GameStateMemento;
+import io.github.soulslight.utils.MetricsSink;
 
 public class SaveManager {
 
@@ -23,6 +24,7 @@ public class SaveManager {
     FileHandle file = Gdx.files.local(SAVE_FILE);
     FileHandle backup = Gdx.files.local(BACKUP_FILE);
 
+    long start = System.nanoTime();
     try {
       // Create Memento
       GameStateMemento memento = model.createMemento();
@@ -39,6 +41,7 @@ public class SaveManager {
       // Write new save
       file.writeString(encodedString, false);
       Gdx.app.log("SaveManager", "Game saved successfully.");
+      recordTiming("save", start, encodedString.length());
 
     } catch (Exception e) {
       Gdx.app.error("SaveManager", "Failed to save game!", e);
@@ -47,9 +50,11 @@ public class SaveManager {
 
   public void loadGame(GameModel model) {
     FileHandle file = Gdx.files.local(SAVE_FILE);
+    long start = System.nanoTime();
 
     // Try loading primary file
     if (loadFromFile(file, model)) {
+      recordTiming("load", start, file.length());
       return;
     }
 
@@ -58,6 +63,7 @@ public class SaveManager {
     FileHandle backup = Gdx.files.local(BACKUP_FILE);
     if (loadFromFile(backup, model)) {
       Gdx.app.log("SaveManager", "Backup loaded successfully.");
+      recordTiming("load", start, backup.length());
     } else {
       Gdx.app.error("SaveManager", "Backup failed or does not exist.");
     }
@@ -89,6 +95,13 @@ public class SaveManager {
     return false;
   }
 
+  // Save/load duration (memento, encoding and file I/O included) for the metrics sink
+  private static void recordTiming(String event, long start, long bytes) {
+    MetricsSink metrics = MetricsSink.getInstance();
+    if (!metrics.begin(event)) return;
+    metrics.field("nanos", System.nanoTime() - start).field("bytes", bytes).end();
+  }
+
   public boolean hasSaveFile() {
     return Gdx.files.local(SAVE_FILE).exists();
   }
@@ -10,6 +10,7 @@ public class SettingsManager {
   private static final String KEY_MUSIC_VOL = "music_volume";
   private static final String KEY_FULLSCREEN = "fullscreen";
   private static final String KEY_SINGLE_PLAYER = "single_player";
+  private static final String KEY_PATHFINDING_THREADS = "pathfinding_threads";
 
   private static SettingsManager instance;
   private final Preferences preferences;
@@ -69,6 +70,18 @@ public class SettingsManager {
     preferences.flush();
   }
 
+  /**
+   * @return Worker threads for enemy path searches; 0 keeps them on the game thread
+   */
+  public int getPathfindingThreads() {
+    return preferences.getInteger(KEY_PATHFINDING_THREADS, 0);
+  }
+
+  public void setPathfindingThreads(int threads) {
+    preferences.putInteger(KEY_PATHFINDING_THREADS, Math.max(0, threads));
+    preferences.flush();
+  }
+
   public boolean isFullscreen() {
     return preferences.getBoolean(KEY_FULLSCREEN, false);
   }
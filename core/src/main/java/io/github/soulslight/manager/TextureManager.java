@@ -1,23 +1,43 @@
 package io.github.soulslight.manager;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import io.github.soulslight.model.enemies.AbstractEnemy;
 import io.github.soulslight.model.enemies.Oblivion;
 import io.github.soulslight.model.enemies.Ranger;
 import io.github.soulslight.model.enemies.Shielder;
 import io.github.soulslight.model.enemies.SpikedBall;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Pattern: Singleton Characters, projectiles and items, packed by {@link #load()} into one {@link
+ * TextureAtlas} so the sprite pass of GameScreen draws from a single texture (the boss frames spill
+ * onto a second page).
+ */
 public class TextureManager {
 
   private static TextureManager instance;
 
-  private final Map<String, Texture> textures = new HashMap<>();
+  // Sprite atlas page, small enough for any GPU the game targets. Everything but the
+  // boss frames fits in the first page; packing order keeps them last so they spill over
+  private static final int ATLAS_PAGE_SIZE = 2048;
+  // Longest side of a static sprite; the source art is far larger than it is ever drawn
+  private static final int MAX_SPRITE_SIZE = 512;
+  private static final String[] STATIC_SPRITES = {
+    "player", "skeleton", "archer", "slime", "shielder", "boss", "arrow"
+  };
+  // Items drawn in the world and in the HUD (see ResourceManager.getItemRegion)
+  private static final String[] ITEM_SPRITES = {"inv_objects/health_potion.png", "item_key"};
+
+  private TextureAtlas atlas;
+  // Regions that are not animation frames, by name
+  private final Map<String, AtlasRegion> sprites = new HashMap<>();
 
   private Animation<TextureRegion> chaserWalkAnim;
   private Animation<TextureRegion> rangerWalkAnim;
@@ -36,8 +56,6 @@ public class TextureManager {
   private Animation<TextureRegion> oblivionTeleportAnim;
   private Animation<TextureRegion> oblivionDeathAnim;
 
-  private final Map<String, Animation<TextureRegion>> builtAnims = new HashMap<>();
-
   // used for tests
   private String ASSETS_BASE = "";
 
@@ -56,71 +74,65 @@ public class TextureManager {
   }
 
   public void load() {
-    // Carica le texture e assegna le chiavi sottoforma di stringhe
-    if (!textures.isEmpty()) return;
+    // Impacchetta tutte le sprite in un unico atlas e assegna le chiavi sottoforma di stringhe
+    if (atlas != null) return;
 
     detectAssetsBase();
+    AtlasPacker packer = new AtlasPacker(ATLAS_PAGE_SIZE);
 
-    textures.put("player", new Texture(Gdx.files.internal(ASSETS_BASE + "images/player.png")));
-    textures.put("skeleton", new Texture(Gdx.files.internal(ASSETS_BASE + "images/skeleton.png")));
-    textures.put("archer", new Texture(Gdx.files.internal(ASSETS_BASE + "images/archer.png")));
-    textures.put("slime", new Texture(Gdx.files.internal(ASSETS_BASE + "images/slime.png")));
-    textures.put("shielder", new Texture(Gdx.files.internal(ASSETS_BASE + "images/shielder.png")));
-    textures.put("boss", new Texture(Gdx.files.internal(ASSETS_BASE + "images/boss.png")));
+    for (String name : STATIC_SPRITES) {
+      String path = ASSETS_BASE + "images/" + name + ".png";
+      if (Gdx.files.internal(path).exists()) {
+        packer.add(name, AtlasPacker.limit(new Pixmap(Gdx.files.internal(path)), MAX_SPRITE_SIZE));
+      }
+    }
+    for (String item : ITEM_SPRITES) {
+      packer.add(
+          item,
+          AtlasPacker.limit(ResourceManager.loadItemPixmap(ASSETS_BASE, item), MAX_SPRITE_SIZE));
+    }
 
-    if (Gdx.files.internal(ASSETS_BASE + "images/arrow.png").exists()) {
-      textures.put("arrow", new Texture(Gdx.files.internal(ASSETS_BASE + "images/arrow.png")));
-    } else {
+    addFramesIfExists(packer, "chaserWalk", 16, 23);
+    addFramesIfExists(packer, "rangerWalk", 16, 17);
+    addFramesIfExists(packer, "shielderWalk", 16, 27);
+    addFramesIfExists(packer, "spikedBallWalk", 32, 34);
+    addFramesIfExists(packer, "spikedBallCharge", 32, 34);
+    addFramesIfExists(packer, "p1Walk", 16, 23);
+    addFramesIfExists(packer, "p2Walk", 16, 23);
+    addFramesIfExists(packer, "oblivionIdle", 288, 160);
+    addFramesIfExists(packer, "oblivionWalk", 288, 160);
+    addFramesIfExists(packer, "oblivionMeleeWindup", 288, 160);
+    addFramesIfExists(packer, "oblivionMeleeAttack", 288, 160);
+    addFramesIfExists(packer, "oblivionSpell", 288, 160);
+    addFramesIfExists(packer, "oblivionTeleport", 288, 160);
+    addFramesIfExists(packer, "oblivionDeath", 288, 160);
+
+    atlas = packer.build();
+
+    for (AtlasRegion region : atlas.getRegions()) {
+      if (region.index < 0) sprites.put(region.name, region);
+    }
+    if (!sprites.containsKey("arrow") && sprites.containsKey("player")) {
       // Se non c'è l'immagine arrow, usa quella del player o un'altra esistente
-      textures.put("arrow", textures.get("player"));
+      sprites.put("arrow", sprites.get("player"));
     }
 
-    buildAnimIfExists("chaserWalk", 16, 23);
-    chaserWalkAnim = getBuiltAnim("chaserWalk");
-
-    buildAnimIfExists("rangerWalk", 16, 17);
-    rangerWalkAnim = getBuiltAnim("rangerWalk");
-
-    buildAnimIfExists("shielderWalk", 16, 27);
-    shielderWalkAnim = getBuiltAnim("shielderWalk");
-
-    buildAnimIfExists("spikedBallWalk", 32, 34);
-    spikedBallWalkAnim = getBuiltAnim("spikedBallWalk");
-
-    buildAnimIfExists("spikedBallCharge", 32, 34);
-    spikedBallChargeAnim = getBuiltAnim("spikedBallCharge");
-
-    buildAnimIfExists("p1Walk", 16, 23);
-    p1WalkAnim = getBuiltAnim("p1Walk");
-
-    buildAnimIfExists("p2Walk", 16, 23);
-    p2WalkAnim = getBuiltAnim("p2Walk");
-
-    buildAnimIfExists("oblivionIdle", 288, 160);
-    oblivionIdleAnim = getBuiltAnim("oblivionIdle");
-
-    buildAnimIfExists("oblivionWalk", 288, 160);
-    oblivionWalkAnim = getBuiltAnim("oblivionWalk");
-
-    buildAnimIfExists("oblivionMeleeWindup", 288, 160);
-    oblivionMeleeWindupAnim = getBuiltAnim("oblivionMeleeWindup");
-
-    buildAnimIfExists("oblivionMeleeAttack", 288, 160);
-    oblivionMeleeAttackAnim = getBuiltAnim("oblivionMeleeAttack");
-
-    buildAnimIfExists("oblivionSpell", 288, 160);
-    oblivionSpellAnim = getBuiltAnim("oblivionSpell");
-
-    buildAnimIfExists("oblivionTeleport", 288, 160);
-    oblivionTeleportAnim = getBuiltAnim("oblivionTeleport");
-
-    buildAnimIfExists("oblivionDeath", 288, 160);
-    oblivionDeathAnim = getBuiltAnim("oblivionDeath");
-
-    // Filtro Pixel Art
-    for (Texture t : textures.values()) {
-      t.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-    }
+    chaserWalkAnim = buildAnim("chaserWalk");
+    rangerWalkAnim = buildAnim("rangerWalk");
+    shielderWalkAnim = buildAnim("shielderWalk");
+    spikedBallWalkAnim = buildAnim("spikedBallWalk");
+    spikedBallChargeAnim = buildAnim("spikedBallCharge");
+
+    p1WalkAnim = buildAnim("p1Walk");
+    p2WalkAnim = buildAnim("p2Walk");
+
+    oblivionIdleAnim = buildAnim("oblivionIdle");
+    oblivionWalkAnim = buildAnim("oblivionWalk");
+    oblivionMeleeWindupAnim = buildAnim("oblivionMeleeWindup");
+    oblivionMeleeAttackAnim = buildAnim("oblivionMeleeAttack");
+    oblivionSpellAnim = buildAnim("oblivionSpell");
+    oblivionTeleportAnim = buildAnim("oblivionTeleport");
+    oblivionDeathAnim = buildAnim("oblivionDeath");
   }
 
   private void detectAssetsBase() {
@@ -133,18 +145,26 @@ public class TextureManager {
     }
   }
 
-  public Texture get(String name) {
-    if (!textures.containsKey(name)) {
+  public AtlasRegion get(String name) {
+    AtlasRegion region = sprites.get(name);
+    if (region == null) {
       // Protezione contro i crash: se chiedi una texture che non esiste, stampa
       // errore e ridai il
       // player
       System.err.println("ERRORE: Texture mancante -> " + name);
-      return textures.get("player");
+      return sprites.get("player");
     }
-    return textures.get(name);
+    return region;
   }
 
-  public Texture getEnemyTexture(AbstractEnemy enemy) {
+  /**
+   * @return The packed sprite, or null if it is not in the atlas (or the atlas is not loaded)
+   */
+  public AtlasRegion findSprite(String name) {
+    return sprites.get(name);
+  }
+
+  public AtlasRegion getEnemyTexture(AbstractEnemy enemy) {
     if (enemy instanceof Ranger) return get("archer");
     if (enemy instanceof SpikedBall) return get("slime");
     if (enemy instanceof Shielder) return get("shielder");
@@ -223,8 +243,9 @@ public class TextureManager {
   }
 
   public void dispose() {
-    for (Texture t : textures.values()) t.dispose();
-    textures.clear();
+    if (atlas != null) atlas.dispose();
+    atlas = null;
+    sprites.clear();
 
     chaserWalkAnim = null;
     rangerWalkAnim = null;
@@ -242,51 +263,26 @@ public class TextureManager {
     oblivionSpellAnim = null;
     oblivionTeleportAnim = null;
     oblivionDeathAnim = null;
-
-    builtAnims.clear();
   }
 
   // helper
-  private void buildAnimIfExists(String key, int frameW, int frameH) {
+  private void addFramesIfExists(AtlasPacker packer, String key, int frameW, int frameH) {
     String path = ASSETS_BASE + "images/" + key + ".png";
     if (!Gdx.files.internal(path).exists()) {
       return;
     }
+    packer.addFrames(key, new Pixmap(Gdx.files.internal(path)), frameW, frameH);
+  }
 
-    Texture tex = new Texture(Gdx.files.internal(path));
-    tex.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-    textures.put(key, tex);
-
-    int texW = tex.getWidth();
-    int texH = tex.getHeight();
-
-    int cols = texW / frameW;
-    int rows = texH / frameH;
-
-    if (cols <= 0 || rows <= 0) {
-      return;
-    }
-
-    ArrayList<TextureRegion> frames = new ArrayList<>();
-
-    for (int r = 0; r < rows; r++) {
-      for (int c = 0; c < cols; c++) {
-        int x = c * frameW;
-        int y = r * frameH;
-        frames.add(new TextureRegion(tex, x, y, frameW, frameH));
-      }
-    }
-
+  private Animation<TextureRegion> buildAnim(String key) {
+    Array<AtlasRegion> frames = atlas.findRegions(key);
     if (frames.isEmpty()) {
-      return;
+      return null;
     }
+    frames.sort((a, b) -> Integer.compare(a.index, b.index));
 
-    Animation<TextureRegion> anim = new Animation<>(0.08f, frames.toArray(new TextureRegion[0]));
+    Animation<TextureRegion> anim = new Animation<>(0.08f, frames);
     anim.setPlayMode(Animation.PlayMode.LOOP);
-    builtAnims.put(key, anim);
-  }
-
-  private Animation<TextureRegion> getBuiltAnim(String key) {
-    return builtAnims.get(key);
+    return anim;
   }
 }
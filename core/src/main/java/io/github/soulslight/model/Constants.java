@@ -32,4 +32,8 @@ public class Constants {
   public static final float SPEED_ARROW = 400f;
   public static final float SPEED_FAST_ARROW = 700f;
   public static final float SPEED_ENEMY_ARROW = 300f;
+
+  // Light Radii (in tiles)
+  public static final float LIGHT_RADIUS_FIREBALL = 3f;
+  public static final float LIGHT_RADIUS_PORTAL = 5f;
 }
@@ -2,7 +2,6 @@ package io.github.soulslight.model;
 
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Disposable;
@@ -34,14 +33,14 @@ import io.github.soulslight.model.map.DungeonMapStrategy;
 import io.github.soulslight.model.map.Level;
 import io.github.soulslight.model.map.LevelDirector;
 import io.github.soulslight.model.map.LevelFactory;
-import io.github.soulslight.model.map.MapGenerationStrategy;
 import io.github.soulslight.model.map.NoiseMapStrategy;
 import io.github.soulslight.model.map.StandardLevelBuilder;
 import io.github.soulslight.model.observer.Subject;
 import io.github.soulslight.model.room.EnemyDeathListener;
 import io.github.soulslight.model.room.RoomData;
+import io.github.soulslight.utils.FrameProfiler;
+import io.github.soulslight.utils.MetricsSink;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 public class GameModel extends Subject
@@ -49,7 +48,7 @@ public class GameModel extends Subject
 
   private final EntityCreator playerCreator = new PlayerCreator();
   private final EntityCreator itemCreator = new ItemCreator();
-  private final EntityCreator projectileCreator = new ProjectileCreator();
+  private final ProjectileCreator projectileCreator = new ProjectileCreator();
 
   private final World physicsWorld;
   private float currentWill;
@@ -60,6 +59,9 @@ public class GameModel extends Subject
 
   // Accumulator for fixed timestep
   private float physicsAccumulator = 0;
+  // Metrics sink bookkeeping: ticks since creation, projectile raycasts already reported
+  private long tickCount = 0;
+  private long reportedProjectileRaycasts = 0;
 
   // Level completion flag for portal transition
   private boolean levelCompleted = false;
@@ -76,9 +78,24 @@ public class GameModel extends Subject
   private int totalEnemiesKilled = 0;
 
   private final ProjectileManager projectileManager;
+  // Proximity queries for combat, refreshed every physics step
+  private final io.github.soulslight.model.physics.SpatialIndex enemyIndex =
+      new io.github.soulslight.model.physics.SpatialIndex();
+  private final io.github.soulslight.model.physics.SpatialIndex playerIndex =
+      new io.github.soulslight.model.physics.SpatialIndex();
+  private final List<Player> nearbyPlayers = new java.util.ArrayList<>();
+  private final Vector2 bounceDir = new Vector2();
   private final io.github.soulslight.model.lighting.LightingSystem lightingSystem;
 
   public GameModel() {
+    this(io.github.soulslight.manager.SettingsManager.getInstance().isSinglePlayer());
+  }
+
+  /**
+   * @param singlePlayer Spawns only player 1 when true, instead of reading the settings (replays
+   *     use the player count they were recorded with)
+   */
+  public GameModel(boolean singlePlayer) {
     EnemyRegistry.loadCache(null);
     this.lightingSystem = new io.github.soulslight.model.lighting.LightingSystem();
     this.physicsWorld = new World(new Vector2(0, 0), true);
@@ -95,9 +112,9 @@ public class GameModel extends Subject
     this.players = new java.util.ArrayList<>();
 
     // ---- PROCEDURALLY GENERATED MAP (Level-Based Strategy) ----
-    this.currentSeed = System.currentTimeMillis();
-    MapGenerationStrategy strategy = GameManager.getInstance().getCurrentLevelStrategy();
-    TiledMap myMap = strategy.generate();
+    this.currentSeed = GameManager.getInstance().getCurrentLevelSeed();
+    GameManager.getInstance().getRandom().setSeed(currentSeed);
+    TiledMap myMap = GameManager.getInstance().generateCurrentLevel();
     this.lightingSystem.prepareLightingOverlay(myMap);
 
     // ---- PLAYERS: spawn on valid flood tile ----
@@ -114,7 +131,7 @@ public class GameModel extends Subject
     GameManager.getInstance().addPlayer(p1);
 
     // Player 2 (spawn slightly offset) - Only if NOT single player
-    if (!io.github.soulslight.manager.SettingsManager.getInstance().isSinglePlayer()) {
+    if (!singlePlayer) {
       Player.PlayerClass p2Class = GameManager.getInstance().getPlayerClass(1);
       com.badlogic.gdx.Gdx.app.log("GameModel", "Spawning P2 as: " + p2Class);
       Player p2 =
@@ -127,10 +144,13 @@ public class GameModel extends Subject
 
     // Projectile Manager
     this.projectileManager = new ProjectileManager(physicsWorld);
+    this.projectileManager.setEnemyIndex(enemyIndex);
+    GameManager.getInstance().setEnemyIndex(enemyIndex);
 
     // Initialize Pathfinding
     TiledMapTileLayer groundLayer = (TiledMapTileLayer) myMap.getLayers().get(0);
-    GameManager.getInstance().setPathfindingManager(new PathfindingManager(groundLayer));
+    GameManager.getInstance()
+        .setPathfindingManager(createPathfindingManager(groundLayer, roomData, physicsWorld));
 
     // ---- MAP TYPE DETECTION: Dungeon (rooms) vs Cave (roomless) ----
     boolean hasCavePortal = myMap.getProperties().containsKey(NoiseMapStrategy.PORTAL_POSITION_KEY);
@@ -277,9 +297,10 @@ public class GameModel extends Subject
     float height = room.getBounds().height;
 
     // Try 10 times to find a valid floor
+    com.badlogic.gdx.math.RandomXS128 random = GameManager.getInstance().getRandom();
     for (int k = 0; k < 10; k++) {
-      float randX = startX + MathUtils.random(2, width - 2);
-      float randY = startY + MathUtils.random(2, height - 2);
+      float randX = startX + 2 + random.nextFloat() * (width - 4);
+      float randY = startY + 2 + random.nextFloat() * (height - 4);
 
       int cellX = (int) (randX / Constants.PPM);
       int cellY = (int) (randY / Constants.PPM);
@@ -293,29 +314,45 @@ public class GameModel extends Subject
     return null;
   }
 
+  private static PathfindingManager createPathfindingManager(
+      TiledMapTileLayer groundLayer, List<RoomData> roomData, World world) {
+    PathfindingManager pfm = new PathfindingManager(groundLayer, roomData);
+    pfm.setPhysicsWorld(world);
+    pfm.getScheduler()
+        .setWorkerThreads(
+            io.github.soulslight.manager.SettingsManager.getInstance().getPathfindingThreads());
+    return pfm;
+  }
+
   public void update(float deltaTime) {
     if (isPaused) return;
 
-    for (Player p : players) {
+    FrameProfiler profiler = FrameProfiler.getInstance();
+    long lap = profiler.start();
+
+    for (int i = 0; i < players.size(); i++) {
+      Player p = players.get(i);
       if (p != null) p.update(deltaTime);
     }
 
     // Revive Logic
     updateReviveLogic(deltaTime);
+    lap = profiler.lap(FrameProfiler.Phase.PLAYERS, lap);
 
-    updateEnemiesLogic(deltaTime);
+    updateEnemies(deltaTime);
+    lap = profiler.lap(FrameProfiler.Phase.ENEMY_AI, lap);
 
     physicsAccumulator += deltaTime;
 
     while (physicsAccumulator >= 1 / 60f) {
-      physicsWorld.step(1 / 60f, 6, 2);
-      // Update projectiles for all players
-      if (!players.isEmpty()) {
-        projectileManager.update(1 / 60f, players, getActiveEnemies());
-      }
+      stepPhysics();
+      lap = profiler.lap(FrameProfiler.Phase.PHYSICS, lap);
+      updateProjectiles(1 / 60f);
+      lap = profiler.lap(FrameProfiler.Phase.PROJECTILES, lap);
       physicsAccumulator -= 1 / 60f;
     }
 
+    // Dead enemy / picked up item cleanup is counted with the rooms
     cleanDeadEnemies();
     cleanPickedUpItems();
 
@@ -328,19 +365,110 @@ public class GameModel extends Subject
     if (level != null && level.getCavePortal() != null) {
       level.getCavePortal().update(deltaTime);
     }
+    lap = profiler.lap(FrameProfiler.Phase.ROOMS, lap);
 
-    // Update Lighting
-    if (!players.isEmpty() && getMap() != null) {
-      Player p = players.get(0); // Follow first player for now
-      TiledMapTileLayer layer = (TiledMapTileLayer) getMap().getLayers().get(0);
-      float tileSize = layer.getTileWidth();
-      lightingSystem.update(p.getPosition().x, p.getPosition().y, tileSize);
-    }
+    updateLighting();
+    profiler.lap(FrameProfiler.Phase.LIGHTING, lap);
 
     // Update Collision Monitor
     if (collisionMonitor != null) {
       collisionMonitor.tick(deltaTime);
     }
+
+    tickCount++;
+    recordTickMetrics();
+  }
+
+  // One "tick" event per update with the per-tick counters of the gameplay subsystems
+  private void recordTickMetrics() {
+    MetricsSink metrics = MetricsSink.getInstance();
+    if (!metrics.begin("tick")) return;
+
+    PathfindingManager pathfindingManager = GameManager.getInstance().getPathfindingManager();
+    long projectileRaycasts = projectileManager.getRaycastCount();
+    ParticleManager particles = ParticleManager.getInstance();
+    metrics
+        .field("tick", tickCount)
+        .field(
+            "visibility_raycasts",
+            pathfindingManager != null
+                ? pathfindingManager.getVisibilityCache().getRaycastsLastTick()
+                : 0)
+        .field("projectile_raycasts", projectileRaycasts - reportedProjectileRaycasts)
+        .field("projectiles", projectileManager.getProjectiles().size())
+        .field("particles_active", particles.getActiveCount())
+        .field("particles_pooled", particles.getPooledCount())
+        .end();
+    reportedProjectileRaycasts = projectileRaycasts;
+  }
+
+  // --- Update phases: called in order by update(), public so each can be driven on its own ---
+
+  /** Enemy AI: flow fields and visibility, per-enemy behaviour, then queued path searches. */
+  public void updateEnemies(float deltaTime) {
+    // Shared flow fields: rebuilt only when a player changes tile
+    PathfindingManager pathfindingManager = GameManager.getInstance().getPathfindingManager();
+    if (pathfindingManager != null) {
+      pathfindingManager.updateFlowFields(players);
+      // Enemy/player visibility for this tick, shared by every AI state
+      pathfindingManager.updateVisibility(getActiveEnemies(), players);
+    }
+
+    updateEnemiesLogic(deltaTime);
+
+    // Run the path searches enemies queued this frame, within the scheduler's time budget
+    if (pathfindingManager != null) {
+      pathfindingManager.getVisibilityCache().invalidate();
+      pathfindingManager.getScheduler().process();
+    }
+  }
+
+  /** One fixed 1/60 s Box2D step, then the proximity indexes are refreshed. */
+  public void stepPhysics() {
+    physicsWorld.step(1 / 60f, 6, 2);
+    enemyIndex.update(getActiveEnemies());
+    playerIndex.update(players);
+  }
+
+  /** Moves projectiles and resolves their hits. */
+  public void updateProjectiles(float deltaTime) {
+    // Update projectiles for all players
+    if (!players.isEmpty()) {
+      projectileManager.update(deltaTime, players, getActiveEnemies());
+    }
+  }
+
+  /** Field of view of every player, plus the light of fireballs and portals. */
+  public void updateLighting() {
+    if (players.isEmpty() || getMap() == null) return;
+    TiledMapTileLayer layer = (TiledMapTileLayer) getMap().getLayers().get(0);
+    lightingSystem.beginLights(layer.getTileWidth());
+
+    for (int i = 0; i < players.size(); i++) {
+      Vector2 pos = players.get(i).getPosition();
+      lightingSystem.addSightLight(pos.x, pos.y);
+    }
+    List<Projectile> projectiles = projectileManager.getProjectiles();
+    for (int i = 0; i < projectiles.size(); i++) {
+      Projectile p = projectiles.get(i);
+      int typeId = p.getTypeId();
+      if (typeId == Projectile.TYPE_FIREBALL || typeId == Projectile.TYPE_HOMING_FIREBALL) {
+        Vector2 pos = p.getPosition();
+        lightingSystem.addLight(pos.x, pos.y, Constants.LIGHT_RADIUS_FIREBALL);
+      }
+    }
+    if (level != null) {
+      if (level.getCavePortal() != null) addPortalLight(level.getCavePortal());
+      if (level.getRoomManager() != null && level.getRoomManager().getPortalRoom() != null) {
+        addPortalLight(level.getRoomManager().getPortalRoom().getPortal());
+      }
+    }
+    lightingSystem.updateLights();
+  }
+
+  private void addPortalLight(io.github.soulslight.model.room.Portal portal) {
+    if (portal == null || portal.isRemoved()) return;
+    lightingSystem.addLight(portal.getX(), portal.getY(), Constants.LIGHT_RADIUS_PORTAL);
   }
 
   private void updateEnemiesLogic(float deltaTime) {
@@ -348,7 +476,9 @@ public class GameModel extends Subject
 
     // List<Player> targets = Collections.singletonList(player);
 
-    for (AbstractEnemy enemy : level.getEnemies()) {
+    List<AbstractEnemy> enemies = level.getEnemies();
+    for (int i = 0; i < enemies.size(); i++) {
+      AbstractEnemy enemy = enemies.get(i);
       // Skip unspawned enemies (they are inactive)
       if (!enemy.isSpawned()) continue;
       enemy.update(deltaTime);
@@ -364,6 +494,8 @@ public class GameModel extends Subject
 
   private void buildLevel(
       TiledMap map, List<RoomData> roomData, boolean hasCavePortal, boolean isRestore) {
+    // A new level brings a new enemy list
+    enemyIndex.clear();
     GameLevelFactory levelFactory;
     StandardLevelBuilder builder = new StandardLevelBuilder();
     LevelDirector director = new LevelDirector(builder);
@@ -427,21 +559,13 @@ public class GameModel extends Subject
     }
 
     projectileManager.addProjectile(
-        (Projectile)
-            projectileCreator.createEntity(
-                this.physicsWorld,
-                origin.x,
-                origin.y,
-                target,
-                isPlayerSource,
-                (io.github.soulslight.model.entities.Entity) null,
-                speed,
-                damage,
-                type));
+        projectileCreator.createProjectile(
+            origin.x, origin.y, target, isPlayerSource, null, speed, damage, type));
   }
 
   private void updateReviveLogic(float deltaTime) {
-    for (Player activePlayer : players) {
+    for (int i = 0; i < players.size(); i++) {
+      Player activePlayer = players.get(i);
       if (activePlayer == null || activePlayer.isDead()) continue;
 
       // Check if player is still
@@ -453,7 +577,8 @@ public class GameModel extends Subject
       boolean revivingSomeone = false;
 
       if (isStill) {
-        for (Player deadPlayer : players) {
+        for (int j = 0; j < players.size(); j++) {
+          Player deadPlayer = players.get(j);
           if (deadPlayer == null || !deadPlayer.isDead()) continue;
 
           float dist = activePlayer.getPosition().dst(deadPlayer.getPosition());
@@ -499,17 +624,15 @@ public class GameModel extends Subject
       float damage) {
 
     projectileManager.addProjectile(
-        (Projectile)
-            projectileCreator.createEntity(
-                this.physicsWorld,
-                origin.x,
-                origin.y,
-                targetEntity.getPosition(),
-                true, // isPlayerSource
-                targetEntity,
-                400f,
-                damage,
-                type)); // Default speed for homing
+        projectileCreator.createProjectile(
+            origin.x,
+            origin.y,
+            targetEntity.getPosition(),
+            true, // isPlayerSource
+            targetEntity,
+            400f, // Default speed for homing
+            damage,
+            type));
   }
 
   private void checkMeleeCollision(AbstractEnemy enemy) {
@@ -518,13 +641,16 @@ public class GameModel extends Subject
     // However, the original code excluded Ranger.
     if (enemy instanceof Ranger || enemy.isDead()) return;
 
-    for (Player player : players) {
-      if (player.isDead() || player.isInvincible()) continue;
+    // Oblivion (Boss) has larger hitbox
+    float contactThreshold = (enemy instanceof Oblivion) ? 50f : 20f;
+    Vector2 enemyPos = enemy.getPosition();
+    playerIndex.queryRadius(players, enemyPos.x, enemyPos.y, contactThreshold, nearbyPlayers);
 
-      float dist = player.getPosition().dst(enemy.getPosition());
-      // Oblivion (Boss) has larger hitbox
-      float contactThreshold = (enemy instanceof Oblivion) ? 50f : 20f;
+    for (int i = 0; i < nearbyPlayers.size(); i++) {
+      Player player = nearbyPlayers.get(i);
+      if (player.isInvincible()) continue;
 
+      float dist = player.getPosition().dst(enemy.getPosition());
       if (dist < contactThreshold) {
         // 1. Apply Damage
         float damage =
@@ -533,7 +659,7 @@ public class GameModel extends Subject
         player.takeDamage(damage);
 
         // 2. Apply Knockback
-        Vector2 bounceDir = player.getPosition().cpy().sub(enemy.getPosition()).nor();
+        bounceDir.set(player.getPosition()).sub(enemy.getPosition()).nor();
 
         // Prevent zero-vector if exactly on top
         if (bounceDir.len2() < 0.01f) bounceDir.set(1, 0);
@@ -550,9 +676,9 @@ public class GameModel extends Subject
   private void cleanDeadEnemies() {
     if (level == null || level.getEnemies() == null) return;
 
-    Iterator<AbstractEnemy> it = level.getEnemies().iterator();
-    while (it.hasNext()) {
-      AbstractEnemy e = it.next();
+    List<AbstractEnemy> enemies = level.getEnemies();
+    for (int i = 0; i < enemies.size(); i++) {
+      AbstractEnemy e = enemies.get(i);
       if (e.isDead()) {
         // Feature: Boss Death triggers level completion
         if (e instanceof Oblivion && ((Oblivion) e).isPhaseTwo()) {
@@ -561,7 +687,8 @@ public class GameModel extends Subject
 
         e.destroyBody(physicsWorld);
         totalEnemiesKilled++;
-        it.remove();
+        enemies.remove(i--);
+        enemyIndex.markChanged();
       }
     }
   }
@@ -569,13 +696,14 @@ public class GameModel extends Subject
   private void cleanPickedUpItems() {
     if (level == null) return;
 
-    Iterator<ItemEntity> it = level.getItems().iterator();
-    while (it.hasNext()) {
-      ItemEntity item = it.next();
+    List<ItemEntity> items = level.getItems();
+    for (int i = 0; i < items.size(); i++) {
+      ItemEntity item = items.get(i);
       item.update(0); // Update pos if dynamic
       if (item.isMarkedForRemoval()) {
         physicsWorld.destroyBody(item.getBody());
-        it.remove();
+        items.remove(i--);
+        io.github.soulslight.model.entities.EntityPools.ITEMS.free(item);
       }
     }
   }
@@ -613,7 +741,7 @@ public class GameModel extends Subject
     List<ProjectileMemento> projectileStates = new java.util.ArrayList<>();
     for (Projectile p : projectileManager.getProjectiles()) {
       if (!p.shouldDestroy()) {
-        Vector2 vel = p.getBody().getLinearVelocity();
+        Vector2 vel = p.getVelocity();
         projectileStates.add(
             new ProjectileMemento(p.getPosition().x, p.getPosition().y, vel.x, vel.y));
       }
@@ -648,16 +776,19 @@ public class GameModel extends Subject
 
     // Fix: Save actual current level index instead of hardcoded 1
     // Fix: Save actual campaign seed from GameManager
-    return new GameStateMemento(
-        playerStates,
-        enemyStates,
-        projectileStates,
-        roomStates,
-        doorStates,
-        portalStates,
-        GameManager.getInstance().getCampaignSeed(),
-        GameManager.getInstance().getCurrentLevelIndex(),
-        this.currentWill);
+    GameStateMemento memento =
+        new GameStateMemento(
+            playerStates,
+            enemyStates,
+            projectileStates,
+            roomStates,
+            doorStates,
+            portalStates,
+            GameManager.getInstance().getCampaignSeed(),
+            GameManager.getInstance().getCurrentLevelIndex(),
+            this.currentWill);
+    memento.exploredFog = lightingSystem.encodeExplored();
+    return memento;
   }
 
   private String getEnemyType(AbstractEnemy e) {
@@ -676,10 +807,12 @@ public class GameModel extends Subject
     // allowing them to remove bodies safely before we wipe the world.
     if (level != null) level.dispose();
 
-    // Clear logical lists
+    // Clear logical lists (and the indexes mirroring them, which still hold the old entities)
     players.clear();
+    enemyIndex.clear();
+    playerIndex.clear();
     GameManager.getInstance().clearPlayers();
-    this.projectileManager.getProjectiles().clear();
+    this.projectileManager.clear();
     ParticleManager.getInstance().clear();
 
     com.badlogic.gdx.utils.Array<com.badlogic.gdx.physics.box2d.Body> bodies =
@@ -698,16 +831,17 @@ public class GameModel extends Subject
     this.currentWill = memento.currentWill;
 
     // Rebuild Map (using level-based strategy)
-    MapGenerationStrategy strategy = GameManager.getInstance().getCurrentLevelStrategy();
-    TiledMap newMap = strategy.generate();
+    TiledMap newMap = GameManager.getInstance().generateCurrentLevel();
     this.lightingSystem.prepareLightingOverlay(newMap);
-
-    // Initialize Pathfinding for restored map
-    TiledMapTileLayer groundLayer = (TiledMapTileLayer) newMap.getLayers().get(0);
-    GameManager.getInstance().setPathfindingManager(new PathfindingManager(groundLayer));
+    this.lightingSystem.restoreExplored(memento.exploredFog);
 
     // Extract room data for reconstruction
     List<RoomData> roomData = DungeonMapStrategy.extractRoomData(newMap);
+
+    // Initialize Pathfinding for restored map
+    TiledMapTileLayer groundLayer = (TiledMapTileLayer) newMap.getLayers().get(0);
+    GameManager.getInstance()
+        .setPathfindingManager(createPathfindingManager(groundLayer, roomData, physicsWorld));
     boolean hasCavePortal =
         newMap.getProperties().containsKey(NoiseMapStrategy.PORTAL_POSITION_KEY);
 
@@ -867,11 +1001,15 @@ public class GameModel extends Subject
                     (io.github.soulslight.model.entities.Entity) null,
                     0f,
                     0f);
-        p.getBody().setLinearVelocity(pm.vx, pm.vy);
+        p.setVelocity(pm.vx, pm.vy);
         this.projectileManager.addProjectile(p);
       }
     }
 
+    // Queries before the next physics step must see the restored entities
+    enemyIndex.rebuild(getActiveEnemies());
+    playerIndex.rebuild(players);
+
     notifyObservers("LEVEL_RESTORED", this.level);
   }
 
@@ -19,6 +19,9 @@ public class GameStateMemento {
 
   public float currentWill;
 
+  // Fog of war, see LightingSystem#encodeExplored (null in older saves)
+  public String exploredFog;
+
   public GameStateMemento(
       List<PlayerMemento> players,
       List<EnemyMemento> enemies,
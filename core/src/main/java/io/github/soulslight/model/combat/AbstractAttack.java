@@ -9,8 +9,12 @@ import java.util.List;
  */
 public abstract class AbstractAttack implements AttackStrategy {
 
+  private final List<Entity> nearestScratch = new java.util.ArrayList<>();
+  // Reused result of selectTargets/findNearestTarget, consumed within executeAttack
+  private final List<Entity> selectedTargets = new java.util.ArrayList<>();
+
   @Override
-  public void executeAttack(Entity attacker, List<Entity> targets) {
+  public void executeAttack(Entity attacker, List<? extends Entity> targets) {
     // DO NOT return early if targets are null/empty. We might want to "whiff"
     // (attack air).
     List<Entity> finalTargets =
@@ -21,8 +25,8 @@ public abstract class AbstractAttack implements AttackStrategy {
     if (finalTargets.isEmpty()) {
       performNoTargetAttack(attacker);
     } else {
-      for (Entity target : finalTargets) {
-        performAttack(attacker, target);
+      for (int i = 0; i < finalTargets.size(); i++) {
+        performAttack(attacker, finalTargets.get(i));
       }
     }
   }
@@ -39,14 +43,15 @@ public abstract class AbstractAttack implements AttackStrategy {
    * Hook method to select which entities from the candidate list should receive the attack. Default
    * implementation: All entities within range/shape.
    */
-  protected List<Entity> selectTargets(Entity attacker, List<Entity> candidates) {
-    List<Entity> validTargets = new java.util.ArrayList<>();
-    for (Entity target : candidates) {
+  protected List<Entity> selectTargets(Entity attacker, List<? extends Entity> candidates) {
+    selectedTargets.clear();
+    for (int i = 0; i < candidates.size(); i++) {
+      Entity target = candidates.get(i);
       if (isInRange(attacker, target)) {
-        validTargets.add(target);
+        selectedTargets.add(target);
       }
     }
-    return validTargets;
+    return selectedTargets;
   }
 
   /**
@@ -62,23 +67,19 @@ public abstract class AbstractAttack implements AttackStrategy {
    * Helper method for single-target strategies. Returns a list containing the single nearest valid
    * target, or empty if none.
    */
-  protected List<Entity> findNearestTarget(Entity attacker, List<Entity> candidates) {
-    Entity nearest = null;
-    float minDst = Float.MAX_VALUE;
-
-    for (Entity e : candidates) {
-      if (e.isDead()) continue;
-      float dst = attacker.getPosition().dst(e.getPosition());
-      if (dst < minDst) {
-        minDst = dst;
-        nearest = e;
-      }
-    }
-
+  protected List<Entity> findNearestTarget(Entity attacker, List<? extends Entity> candidates) {
+    // Served from the enemy index when the candidates are the level's enemies
+    com.badlogic.gdx.math.Vector2 pos = attacker.getPosition();
+    Entity nearest =
+        io.github.soulslight.manager.GameManager.getInstance()
+            .getEnemyIndex()
+            .findNearest(candidates, pos.x, pos.y, Float.MAX_VALUE, nearestScratch);
+
+    selectedTargets.clear();
     if (nearest != null && isInRange(attacker, nearest)) {
-      return java.util.Collections.singletonList(nearest);
+      selectedTargets.add(nearest);
     }
-    return java.util.Collections.emptyList();
+    return selectedTargets;
   }
 
   /**
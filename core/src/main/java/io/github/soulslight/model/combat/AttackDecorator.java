@@ -42,7 +42,7 @@ public abstract class AttackDecorator implements AttackStrategy {
   }
 
   @Override
-  public void executeAttack(Entity attacker, List<Entity> targets) {
+  public void executeAttack(Entity attacker, List<? extends Entity> targets) {
     wrapped.executeAttack(attacker, targets);
   }
 
@@ -18,7 +18,7 @@ public interface AttackStrategy {
 
   String getSoundID();
 
-  void executeAttack(Entity attacker, List<Entity> targets);
+  void executeAttack(Entity attacker, List<? extends Entity> targets);
 
   /**
    * Checks if this strategy or any of its wrappers is of the specified type.
@@ -26,7 +26,7 @@ public class ContactDamageAttack extends AbstractAttack {
   }
 
   @Override
-  public void executeAttack(Entity attacker, List<Entity> targets) {
+  public void executeAttack(Entity attacker, List<? extends Entity> targets) {
     for (Entity target : targets) {
       if (attacker.getPosition().dst(target.getPosition()) <= getRange()) {
         target.takeDamage(getDamage());
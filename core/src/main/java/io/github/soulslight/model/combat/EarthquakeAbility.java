@@ -2,8 +2,10 @@ package io.github.soulslight.model.combat;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
+import io.github.soulslight.manager.GameManager;
 import io.github.soulslight.model.enemies.AbstractEnemy;
 import io.github.soulslight.model.entities.Player;
+import java.util.ArrayList;
 import java.util.List;
 
 public class EarthquakeAbility implements SpecialAbilityStrategy {
@@ -13,13 +15,19 @@ public class EarthquakeAbility implements SpecialAbilityStrategy {
   private static final float COOLDOWN = 5.0f;
   private static final float KNOCKBACK_FORCE = 500f;
 
+  private final List<AbstractEnemy> inRange = new ArrayList<>();
+
   @Override
   public void execute(Player player, List<AbstractEnemy> enemies) {
     if (enemies == null) return;
 
+    Vector2 origin = player.getPosition();
+    GameManager.getInstance()
+        .getEnemyIndex()
+        .queryRadius(enemies, origin.x, origin.y, RANGE, inRange);
+
     boolean hitAny = false;
-    for (AbstractEnemy enemy : enemies) {
-      if (enemy.isDead()) continue;
+    for (AbstractEnemy enemy : inRange) {
       if (player.getPosition().dst(enemy.getPosition()) < RANGE) {
         enemy.takeDamage(DAMAGE);
         if (enemy.getBody() != null) {
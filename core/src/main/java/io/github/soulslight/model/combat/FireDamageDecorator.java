@@ -14,7 +14,7 @@ public class FireDamageDecorator extends AttackDecorator {
   }
 
   @Override
-  public void executeAttack(Entity attacker, List<Entity> targets) {
+  public void executeAttack(Entity attacker, List<? extends Entity> targets) {
     // Perform normal attack (Damage + Knockback)
     super.executeAttack(attacker, targets);
 
@@ -6,6 +6,8 @@ import com.badlogic.gdx.Gdx;
 public class MageAttack extends AbstractAttack {
 
   private final float damage;
+  // Aim point of shots without a target, consumed by the listeners before the call returns
+  private final com.badlogic.gdx.math.Vector2 aimScratch = new com.badlogic.gdx.math.Vector2();
 
   public MageAttack(float damage) {
     this.damage = damage;
@@ -14,7 +16,7 @@ public class MageAttack extends AbstractAttack {
   @Override
   protected java.util.List<io.github.soulslight.model.entities.Entity> selectTargets(
       io.github.soulslight.model.entities.Entity attacker,
-      java.util.List<io.github.soulslight.model.entities.Entity> candidates) {
+      java.util.List<? extends io.github.soulslight.model.entities.Entity> candidates) {
     return findNearestTarget(attacker, candidates);
   }
 
@@ -35,7 +37,7 @@ public class MageAttack extends AbstractAttack {
   protected void performNoTargetAttack(io.github.soulslight.model.entities.Entity attacker) {
     if (attacker instanceof io.github.soulslight.model.entities.Player p) {
       com.badlogic.gdx.math.Vector2 targetPos =
-          p.getPosition().cpy().add(p.getFacingDirection().scl(getRange()));
+          p.getFacingDirection(aimScratch).scl(getRange()).add(p.getPosition());
       p.notifyProjectileRequest(
           p.getPosition(), targetPos, "fireball", getDamage()); // Linear fallback
     }
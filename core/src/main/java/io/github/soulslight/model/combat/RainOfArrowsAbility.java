@@ -2,14 +2,18 @@ package io.github.soulslight.model.combat;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
+import io.github.soulslight.manager.GameManager;
 import io.github.soulslight.model.enemies.AbstractEnemy;
 import io.github.soulslight.model.entities.Player;
+import java.util.ArrayList;
 import java.util.List;
 
 public class RainOfArrowsAbility implements SpecialAbilityStrategy {
 
   private static final float COOLDOWN = 6.0f;
 
+  private final List<AbstractEnemy> nearestScratch = new ArrayList<>();
+
   @Override
   public void execute(Player player, List<AbstractEnemy> enemies) {
     // Fires 5 arrows in a spread arc
@@ -39,17 +43,10 @@ public class RainOfArrowsAbility implements SpecialAbilityStrategy {
   }
 
   private AbstractEnemy findNearest(Player player, List<AbstractEnemy> enemies) {
-    AbstractEnemy nearest = null;
-    float minDst = Float.MAX_VALUE;
-    for (AbstractEnemy e : enemies) {
-      if (e.isDead()) continue;
-      float dst = player.getPosition().dst(e.getPosition());
-      if (dst < minDst) {
-        minDst = dst;
-        nearest = e;
-      }
-    }
-    return nearest;
+    Vector2 pos = player.getPosition();
+    return GameManager.getInstance()
+        .getEnemyIndex()
+        .findNearest(enemies, pos.x, pos.y, Float.MAX_VALUE, nearestScratch);
   }
 
   @Override
@@ -30,7 +30,7 @@ public class ShielderAttack extends AbstractAttack {
   }
 
   @Override
-  public void executeAttack(Entity attacker, List<Entity> targets) {
+  public void executeAttack(Entity attacker, List<? extends Entity> targets) {
     if (targets.isEmpty()) return;
 
     Entity target = targets.get(0);
@@ -9,6 +9,9 @@ import io.github.soulslight.model.entities.Entity;
 public class WarriorAttack extends AbstractAttack {
 
   private final float damage;
+  // Scratch vectors for the cone check and knockback
+  private final Vector2 facing = new Vector2();
+  private final Vector2 toTarget = new Vector2();
 
   public WarriorAttack(float damage) {
     this.damage = damage;
@@ -30,21 +33,22 @@ public class WarriorAttack extends AbstractAttack {
     if (attacker.getPosition().dst(target.getPosition()) > getRange()) return false;
 
     // Direction Check (Cone)
-    // Direction Check (Cone)
-    Vector2 facing = null;
+    boolean hasFacing = false;
 
     if (attacker instanceof io.github.soulslight.model.entities.Player p) {
-      facing = p.getFacingDirection();
+      p.getFacingDirection(facing);
+      hasFacing = true;
     } else if (attacker.getBody() != null) {
-      facing = attacker.getBody().getLinearVelocity().cpy();
+      facing.set(attacker.getBody().getLinearVelocity());
       if (facing.len2() < 0.01f) {
         return true; // No velocity (and not Player), assume hit 360 or no hit? original was true
       }
       facing.nor();
+      hasFacing = true;
     }
 
-    if (facing != null) {
-      Vector2 toTarget = target.getPosition().cpy().sub(attacker.getPosition()).nor();
+    if (hasFacing) {
+      toTarget.set(target.getPosition()).sub(attacker.getPosition()).nor();
       float dot = facing.dot(toTarget);
 
       // dot > 0.5 (~60 degrees total arc), dot > 0.707 (45 degrees / 90 total)
@@ -76,8 +80,8 @@ public class WarriorAttack extends AbstractAttack {
   protected void onHit(Entity target, Entity attacker) {
     if (target instanceof AbstractEnemy enemy) {
       // Calculate Knockback Direction (Away from attacker)
-      Vector2 knockbackDir = target.getPosition().cpy().sub(attacker.getPosition());
-      enemy.applyKnockback(knockbackDir, KNOCKBACK_FORCE, KNOCKBACK_DURATION);
+      toTarget.set(target.getPosition()).sub(attacker.getPosition());
+      enemy.applyKnockback(toTarget, KNOCKBACK_FORCE, KNOCKBACK_DURATION);
     }
   }
 
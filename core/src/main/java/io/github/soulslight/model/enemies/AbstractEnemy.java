@@ -1,6 +1,7 @@
 package io.github.soulslight.model.enemies;
 
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import io.github.soulslight.model.combat.ProjectileListener;
@@ -28,6 +29,10 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
   protected final float MAX_WANDER_DIST = 300f; // Raggio massimo dallo spawn
   // protected final float SENSOR_DIST = 50f;
   private EnemyState aiState;
+
+  // Row in the per-tick VisibilityCache, valid while visibilityStamp matches the cache
+  int visibilityRow = -1;
+  int visibilityStamp = 0;
   protected float speed;
   private List<EnemyDeathListener> deathListeners = new ArrayList<>();
 
@@ -132,10 +137,12 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
     Player nearest = null;
     float minDst = Float.MAX_VALUE;
 
-    for (Player p : players) {
+    VisibilityCache cache = visibilityCache();
+    for (int i = 0; i < players.size(); i++) {
+      Player p = players.get(i);
       if (p.isDead()) continue;
 
-      float dst = this.getPosition().dst(p.getPosition());
+      float dst = distanceTo(p, cache);
       if (dst < minDst) {
         minDst = dst;
         nearest = p;
@@ -144,11 +151,35 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
     return nearest;
   }
 
+  /**
+   * Distance to a player, read from this tick's {@link VisibilityCache} when available.
+   *
+   * @param cache The current cache, or null
+   */
+  protected float distanceTo(Player player, VisibilityCache cache) {
+    float cached = (cache != null) ? cache.getDistance(this, player) : -1f;
+    return cached >= 0 ? cached : this.getPosition().dst(player.getPosition());
+  }
+
+  protected static VisibilityCache visibilityCache() {
+    io.github.soulslight.manager.PathfindingManager pfm =
+        io.github.soulslight.manager.GameManager.getInstance().getPathfindingManager();
+    return pfm != null ? pfm.getVisibilityCache() : null;
+  }
+
   // metodo per vedere se i player sono nel raggio di vista
   public boolean canSeePlayer(Player player, World world) {
     if (player == null || player.isDead() || body == null) return false;
 
-    float aggroRange = 300f;
+    // Answered once per tick for every enemy/player pair
+    VisibilityCache cache = visibilityCache();
+    int cached = (cache != null) ? cache.lookup(this, player) : VisibilityCache.UNKNOWN;
+    if (cached != VisibilityCache.UNKNOWN) {
+      if (cached == VisibilityCache.VISIBLE) lastKnownPlayerPos.set(player.getPosition());
+      return cached == VisibilityCache.VISIBLE;
+    }
+
+    float aggroRange = VisibilityCache.AGGRO_RANGE;
     float dist = this.getPosition().dst(player.getPosition());
     if (dist > aggroRange) return false;
 
@@ -158,20 +189,10 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
       return true; // Too close, definitely visible
     }
 
-    final boolean[] hitWall = {false};
-    world.rayCast(
-        (fixture, point, normal, fraction) -> {
-          if (fixture.getBody().getType() == BodyDef.BodyType.StaticBody) {
-            hitWall[0] = true;
-            return fraction;
-          }
-          return 1;
-        },
-        this.getPosition(),
-        player.getPosition());
-
-    if (!hitWall[0]) {
-      lastKnownPlayerPos.set(player.getPosition());
+    Vector2 from = this.getPosition();
+    Vector2 to = player.getPosition();
+    if (isSegmentClear(world, from.x, from.y, to.x, to.y)) {
+      lastKnownPlayerPos.set(to);
       return true;
     }
     return false;
@@ -181,16 +202,21 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
   // Pathfinding state
   protected float pathTimer = 0;
   protected com.badlogic.gdx.math.Vector2 currentWaypoint = null;
-  protected com.badlogic.gdx.ai.pfa.DefaultGraphPath<
-          io.github.soulslight.model.pathfinding.DungeonNode>
-      currentPath = null;
+  protected final io.github.soulslight.model.pathfinding.GridPath currentPath =
+      new io.github.soulslight.model.pathfinding.GridPath();
   protected int pathIndex = 0;
+  private final io.github.soulslight.manager.PathfindingScheduler.Request pathRequest =
+      new io.github.soulslight.manager.PathfindingScheduler.Request();
+  private final Vector2 pathWaypoint = new Vector2();
+  // Scratch for steering math, so moving does not allocate
+  private final Vector2 moveDirection = new Vector2();
+  protected final Vector2 flowWaypoint = new Vector2();
   protected static final float TILE_SIZE = 32f; // Assuming 32x32 tiles
   protected static final float PATH_RECALC_INTERVAL = 0.5f;
 
   public void moveTowards(Vector2 targetPos, float deltaTime) {
     if (body == null) return;
-    Vector2 direction = targetPos.cpy().sub(body.getPosition());
+    Vector2 direction = moveDirection.set(targetPos).sub(body.getPosition());
     if (direction.len() > 5f) { // Deadzone per evitare tremolii
       direction.nor();
       body.setLinearVelocity(direction.scl(speed));
@@ -200,7 +226,10 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
     }
   }
 
-  /** Smart movement that uses A* pathfinding if direct Line of Sight is blocked. */
+  /**
+   * Smart movement that uses the shared player flow fields, or A* pathfinding for other targets, if
+   * direct Line of Sight is blocked.
+   */
   public void smartMoveTowards(Vector2 targetPos, float deltaTime) {
     if (body == null) return;
 
@@ -209,7 +238,19 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
     if (hasLineOfSight(targetPos)) {
       moveTowards(targetPos, deltaTime);
       // Clear path memory
-      currentPath = null;
+      currentPath.clear();
+      currentWaypoint = null;
+      return;
+    }
+
+    // Shared flow field: O(1) next-tile lookup when the target is a tracked player
+    io.github.soulslight.manager.PathfindingManager flowPfm =
+        io.github.soulslight.manager.GameManager.getInstance().getPathfindingManager();
+    if (flowPfm != null
+        && flowPfm.findFlowWaypoint(
+            getPosition().x, getPosition().y, targetPos.x, targetPos.y, flowWaypoint)) {
+      moveTowards(flowWaypoint, deltaTime);
+      currentPath.clear();
       currentWaypoint = null;
       return;
     }
@@ -217,29 +258,32 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
     // Pathfinding Logic
     pathTimer -= deltaTime;
 
-    // Recalculate path if timer expired or we have no path
-    if (pathTimer <= 0 || currentPath == null) {
+    // Recalculate path if timer expired or we have no path. The search runs in the scheduler's
+    // frame budget; until it answers we keep following the previous path
+    if (pathTimer <= 0 || currentPath.isEmpty()) {
       io.github.soulslight.manager.PathfindingManager pfm =
           io.github.soulslight.manager.GameManager.getInstance().getPathfindingManager();
       if (pfm != null) {
-        // Calculate path from self to target
-        currentPath = pfm.findPath(getPosition().x, getPosition().y, targetPos.x, targetPos.y);
-
-        if (currentPath != null && currentPath.getCount() > 1) {
-          // Index 0 is often the current node/start node, so start at 1
-          pathIndex = 1;
-          io.github.soulslight.model.pathfinding.DungeonNode firstNode = currentPath.get(pathIndex);
-          currentWaypoint =
-              new Vector2(
-                  firstNode.x * TILE_SIZE + TILE_SIZE / 2f,
-                  firstNode.y * TILE_SIZE + TILE_SIZE / 2f);
-        } else {
-          currentWaypoint = null;
-        }
+        pfm.getScheduler()
+            .submit(pathRequest, getPosition().x, getPosition().y, targetPos.x, targetPos.y);
       }
       pathTimer = PATH_RECALC_INTERVAL;
     }
 
+    // Pick up a finished search (reuses this enemy's path buffer)
+    if (pathRequest.poll(currentPath)) {
+      if (currentPath.getCount() > 1) {
+        // Index 0 is often the current node/start node, so start at 1
+        pathIndex = 1;
+        currentWaypoint =
+            pathWaypoint.set(
+                currentPath.getX(pathIndex) * TILE_SIZE + TILE_SIZE / 2f,
+                currentPath.getY(pathIndex) * TILE_SIZE + TILE_SIZE / 2f);
+      } else {
+        currentWaypoint = null;
+      }
+    }
+
     // Follow Path
     if (currentWaypoint != null) {
       moveTowards(currentWaypoint, deltaTime);
@@ -247,10 +291,10 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
       // Check if reached waypoint
       if (getPosition().dst(currentWaypoint) < 10f) {
         pathIndex++;
-        if (currentPath != null && pathIndex < currentPath.getCount()) {
-          io.github.soulslight.model.pathfinding.DungeonNode nextNode = currentPath.get(pathIndex);
+        if (pathIndex < currentPath.getCount()) {
           currentWaypoint.set(
-              nextNode.x * TILE_SIZE + TILE_SIZE / 2f, nextNode.y * TILE_SIZE + TILE_SIZE / 2f);
+              currentPath.getX(pathIndex) * TILE_SIZE + TILE_SIZE / 2f,
+              currentPath.getY(pathIndex) * TILE_SIZE + TILE_SIZE / 2f);
         } else {
           // Reached end of path
           currentWaypoint = null;
@@ -274,43 +318,72 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
   public boolean hasLineOfSight(Vector2 targetPos) {
     if (body == null) return false;
 
+    Vector2 from = body.getPosition();
+    float halfWidth = bodyRadius * 0.9f; // 90% of radius to be safe
+    io.github.soulslight.model.pathfinding.GridLineOfSight los = gridLineOfSight(body.getWorld());
+    if (los != null) {
+      return los.isClearWide(from.x, from.y, targetPos.x, targetPos.y, halfWidth);
+    }
+
     // Check center ray
-    if (!checkRay(body.getPosition(), targetPos)) return false;
+    World world = body.getWorld();
+    if (!isSegmentClear(world, from.x, from.y, targetPos.x, targetPos.y)) return false;
 
-    // Calculate perpendicular offset for width check
-    Vector2 dir = targetPos.cpy().sub(body.getPosition());
-    Vector2 perp =
-        new Vector2(-dir.y, dir.x).nor().scl(bodyRadius * 0.9f); // 90% of radius to be safe
+    // Perpendicular offset for width check
+    float dx = targetPos.x - from.x;
+    float dy = targetPos.y - from.y;
+    float len = (float) Math.sqrt(dx * dx + dy * dy);
+    if (len < 0.0001f) return true;
+    float px = -dy / len * halfWidth;
+    float py = dx / len * halfWidth;
 
-    // Check left ray
-    if (!checkRay(body.getPosition().cpy().add(perp), targetPos.cpy().add(perp))) return false;
+    // Left and right rays
+    return isSegmentClear(world, from.x + px, from.y + py, targetPos.x + px, targetPos.y + py)
+        && isSegmentClear(world, from.x - px, from.y - py, targetPos.x - px, targetPos.y - py);
+  }
 
-    // Check right ray
-    if (!checkRay(body.getPosition().cpy().sub(perp), targetPos.cpy().sub(perp))) return false;
+  /**
+   * Static-wall visibility between two points. Uses the level's tile grid when this enemy lives in
+   * the current level's world and falls back to a Box2D raycast otherwise.
+   */
+  private boolean isSegmentClear(World world, float x0, float y0, float x1, float y1) {
+    io.github.soulslight.model.pathfinding.GridLineOfSight los = gridLineOfSight(world);
+    if (los != null) return los.isClear(x0, y0, x1, y1);
 
-    return true;
+    // Box2D asserts on zero-length rays
+    if (Math.abs(x1 - x0) < 0.0001f && Math.abs(y1 - y0) < 0.0001f) return true;
+    wallRayCallback.hit = false;
+    world.rayCast(wallRayCallback, x0, y0, x1, y1);
+    return !wallRayCallback.hit;
   }
 
-  private boolean checkRay(Vector2 start, Vector2 end) {
-    final boolean[] hitWall = {false};
-    body.getWorld()
-        .rayCast(
-            (fixture, point, normal, fraction) -> {
-              if (fixture.getBody().getType() == BodyDef.BodyType.StaticBody) {
-                hitWall[0] = true;
-                return fraction;
-              }
-              return 1;
-            },
-            start,
-            end);
-    return !hitWall[0];
+  private static io.github.soulslight.model.pathfinding.GridLineOfSight gridLineOfSight(
+      World world) {
+    io.github.soulslight.manager.PathfindingManager pfm =
+        io.github.soulslight.manager.GameManager.getInstance().getPathfindingManager();
+    return pfm != null ? pfm.getLineOfSight(world) : null;
   }
 
+  // Reusable raycast callback for the Box2D fallback: reports any static body as a wall
+  private static final class WallRayCallback implements RayCastCallback {
+    boolean hit;
+
+    @Override
+    public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+      if (fixture.getBody().getType() == BodyDef.BodyType.StaticBody) {
+        hit = true;
+        return fraction;
+      }
+      return 1;
+    }
+  }
+
+  private final WallRayCallback wallRayCallback = new WallRayCallback();
+
   // metodo per scappare
   public void moveAway(Vector2 targetPos) {
     if (body == null) return;
-    Vector2 direction = body.getPosition().cpy().sub(targetPos).nor();
+    Vector2 direction = moveDirection.set(body.getPosition()).sub(targetPos).nor();
     body.setLinearVelocity(direction.scl(speed));
     this.position.set(body.getPosition());
   }
@@ -323,11 +396,13 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
 
     // serve per non farli allontanare troppo dallo spawn
     if (getPosition().dst(spawnPoint) > MAX_WANDER_DIST) {
-      patrolAngle = new Vector2(spawnPoint).sub(getPosition()).angleDeg();
+      patrolAngle =
+          MathUtils.atan2Deg360(spawnPoint.y - getPosition().y, spawnPoint.x - getPosition().x);
       wanderTimer = 2.0f;
     } else if (wanderTimer <= 0) {
-      patrolAngle = MathUtils.random(0, 360);
-      wanderTimer = MathUtils.random(3.0f, 6.0f);
+      RandomXS128 random = io.github.soulslight.manager.GameManager.getInstance().getRandom();
+      patrolAngle = random.nextInt(361);
+      wanderTimer = 3.0f + random.nextFloat() * 3.0f;
     }
 
     // Sensori per capire se stanno andano contro un muro e giare
@@ -349,46 +424,34 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
       patrolAngle %= 360;
     }
 
-    Vector2 dir = new Vector2(1, 0).setAngleDeg(patrolAngle);
     float patrolSpeed =
         speed * 0.3f; // i nemici sono più lenti durante la fase di pattuglia e accelerano quando
     // vedono igiocatori
 
-    body.setLinearVelocity(dir.scl(patrolSpeed));
+    body.setLinearVelocity(
+        MathUtils.cosDeg(patrolAngle) * patrolSpeed, MathUtils.sinDeg(patrolAngle) * patrolSpeed);
     this.position.set(body.getPosition());
   }
 
   // metodo che testa effettivamente la presenza di una parete lungo il cammino
   // dei nemici
   private boolean checkObstacle(float angleOffset) {
-    final boolean[] hit = {false};
-
     // distanza da cui verifica
-    float dynamicSensorDist = 60f;
+    return isWallAhead(patrolAngle + angleOffset, 60f);
+  }
 
+  /**
+   * Wall sensor used by wandering: is there a static wall within {@code distance} in the given
+   * direction?
+   *
+   * @param angleDeg Direction in degrees
+   */
+  public boolean isWallAhead(float angleDeg, float distance) {
+    if (body == null) return false;
     Vector2 rayStart = body.getPosition();
-
-    Vector2 rayEnd =
-        new Vector2(1, 0) // crea un vettore unitario
-            .setAngleDeg(
-                patrolAngle
-                    + angleOffset) // indirizza il vettore nella direzione giusta grazie all'offset
-            .scl(dynamicSensorDist) // lo moltiplica per la lunghezza del sensore
-            .add(rayStart); // in questo modo parte dal centro del nemico
-
-    body.getWorld()
-        .rayCast(
-            (fixture, point, normal, fraction) -> {
-              if (fixture.getBody().getType() == BodyDef.BodyType.StaticBody) {
-                hit[0] = true;
-                return fraction;
-              }
-              return 1;
-            },
-            rayStart,
-            rayEnd);
-
-    return hit[0];
+    float endX = rayStart.x + MathUtils.cosDeg(angleDeg) * distance;
+    float endY = rayStart.y + MathUtils.sinDeg(angleDeg) * distance;
+    return !isSegmentClear(body.getWorld(), rayStart.x, rayStart.y, endX, endY);
   }
 
   // setta le coordinate di spawn per farle ricordare
@@ -509,7 +572,8 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
 
   public void attack(List<Player> players) {
     if (this.attackStrategy == null) return;
-    this.attackStrategy.executeAttack(this, new ArrayList<>(players));
+    // Strategies only read the targets, so the caller's list is passed as is
+    this.attackStrategy.executeAttack(this, players);
   }
 
   public void addProjectileListener(ProjectileListener listener) {
@@ -523,9 +587,9 @@ public abstract class AbstractEnemy extends Entity implements Cloneable {
   }
 
   protected void notifyProjectileRequest(Vector2 origin, Vector2 target, String type) {
-    for (ProjectileListener listener : projectileListeners) {
+    for (int i = 0; i < projectileListeners.size(); i++) {
       float damage = (attackStrategy != null) ? attackStrategy.getDamage() : 15f;
-      listener.onProjectileRequest(origin, target, type, damage);
+      projectileListeners.get(i).onProjectileRequest(origin, target, type, damage);
     }
   }
 }
@@ -2,6 +2,7 @@ package io.github.soulslight.model.enemies;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import io.github.soulslight.manager.GameManager;
 import io.github.soulslight.model.combat.AttackStrategy;
 import io.github.soulslight.model.combat.MageAttack;
 import io.github.soulslight.model.combat.WarriorAttack;
@@ -142,8 +143,7 @@ public class Oblivion extends AbstractEnemy {
     }
 
     if (currentState != State.TELEPORT_OUT && currentState != State.TELEPORT_IN) {
-      Vector2 myPos = (body != null) ? body.getPosition() : this.position;
-      float distance = myPos.dst(target.getPosition());
+      float distance = distanceTo(target, visibilityCache());
 
       teleportTimer += deltaTime;
       if (attackCooldown > 0) attackCooldown -= deltaTime;
@@ -284,7 +284,7 @@ public class Oblivion extends AbstractEnemy {
   // Logica del teletrasporto a destra e a sinistra del player
   private void teleportToPlayer(Player target) {
 
-    float direction = MathUtils.randomBoolean() ? 1 : -1;
+    float direction = GameManager.getInstance().getRandom().nextBoolean() ? 1 : -1;
     float newX = target.getX() + (direction * TELEPORT_OFFSET);
 
     float newY = target.getY();
@@ -1,5 +1,6 @@
 package io.github.soulslight.model.enemies;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import io.github.soulslight.model.combat.ArcherAttack;
 import io.github.soulslight.model.combat.AttackStrategy;
@@ -10,6 +11,8 @@ public class Ranger extends AbstractEnemy {
 
   private static final float FLEE_DISTANCE = 200f;
   private static final float ATTACK_RANGE = 400f;
+  // Flee directions tried in order, relative to straight away from the threat
+  private static final float[] FLEE_ANGLES = {0, 45, -45, 90, -90, 135, -135};
 
   private enum State {
     COMBAT, // attacco, fuga
@@ -22,6 +25,10 @@ public class Ranger extends AbstractEnemy {
   private float attackTimer = 0;
   private boolean readyToShoot = false;
 
+  // Scratch for smartFlee, so fleeing does not allocate
+  private final Vector2 fleeDir = new Vector2();
+  private final Vector2 fleeTarget = new Vector2();
+
   public Ranger() {
     this(70, 50.0f, new ArcherAttack(7.0f));
   }
@@ -109,7 +116,7 @@ public class Ranger extends AbstractEnemy {
       if (attackTimer <= 0) {
         // readyToShoot = true; // Removed flag
         attackTimer = 2.0f; // Cooldown
-        System.out.println("RANGER: Fire!");
+        Gdx.app.log("Ranger", "Fire!");
 
         if (target != null) {
           notifyProjectileRequest(getPosition(), target.getPosition(), "enemy_arrow");
@@ -131,15 +138,15 @@ public class Ranger extends AbstractEnemy {
     }
 
     Vector2 start = body.getPosition();
-    Vector2 awayDir = start.cpy().sub(threatPos).nor();
+    float awayX = start.x - threatPos.x;
+    float awayY = start.y - threatPos.y;
 
     // Try multiple directions to find a valid spot
-    float[] angles = {0, 45, -45, 90, -90, 135, -135};
     float checkDist = 150f; // Distance to run to
 
-    for (float angle : angles) {
-      Vector2 candidateDir = awayDir.cpy().rotateDeg(angle);
-      Vector2 targetPos = start.cpy().add(candidateDir.scl(checkDist));
+    for (float angle : FLEE_ANGLES) {
+      Vector2 candidateDir = fleeDir.set(awayX, awayY).nor().rotateDeg(angle);
+      Vector2 targetPos = fleeTarget.set(start).mulAdd(candidateDir, checkDist);
 
       if (pfm.isWalkable(targetPos.x, targetPos.y)) {
         // Found a valid spot!
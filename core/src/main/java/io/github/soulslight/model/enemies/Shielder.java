@@ -8,6 +8,9 @@ public class Shielder extends AbstractEnemy {
 
   private List<AbstractEnemy> knownAllies;
   private final float GUARD_DISTANCE = 40.0f;
+  // Scratch for calculateInterceptionPoint
+  private final Vector2 interceptDir = new Vector2();
+  private final Vector2 interceptPoint = new Vector2();
 
   public Shielder() {
     super();
@@ -97,17 +100,19 @@ public class Shielder extends AbstractEnemy {
     }
   }
 
+  // Returns a scratch vector, valid until the next call
   private Vector2 calculateInterceptionPoint(Vector2 playerPos, Vector2 allyPos) {
     // Matematica vettoriale: (Player - Ally) normalizzato = Direzione
-    Vector2 direction = playerPos.cpy().sub(allyPos).nor();
+    Vector2 direction = interceptDir.set(playerPos).sub(allyPos).nor();
     // Punto finale = Posizione Alleato + (Direzione * DistanzaScudo)
-    return allyPos.cpy().mulAdd(direction, GUARD_DISTANCE);
+    return interceptPoint.set(allyPos).mulAdd(direction, GUARD_DISTANCE);
   }
 
   private int getRangerToProtect() {
     if (knownAllies == null) return 0;
     int count = 0;
-    for (AbstractEnemy ally : knownAllies) {
+    for (int i = 0; i < knownAllies.size(); i++) {
+      AbstractEnemy ally = knownAllies.get(i);
       if (ally.getHealth() > 0 && ally instanceof Ranger) count++;
     }
     return count;
@@ -119,7 +124,8 @@ public class Shielder extends AbstractEnemy {
 
     if (knownAllies == null) return null;
 
-    for (AbstractEnemy ally : knownAllies) {
+    for (int i = 0; i < knownAllies.size(); i++) {
+      AbstractEnemy ally = knownAllies.get(i);
       // Protegge solo i Ranger
       if (ally.getHealth() <= 0 || !(ally instanceof Ranger)) continue;
 
@@ -1,5 +1,6 @@
 package io.github.soulslight.model.enemies;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import io.github.soulslight.model.combat.ContactDamageAttack;
 import io.github.soulslight.model.entities.Player;
@@ -133,7 +134,8 @@ public class SpikedBall extends AbstractEnemy {
     Vector2 myPos = getPosition();
     float collisionRadius = 35f;
 
-    for (Player p : players) {
+    for (int i = 0; i < players.size(); i++) {
+      Player p = players.get(i);
       if (myPos.dst(p.getPosition()) < collisionRadius && !hasHitPlayer) {
         // Respinge il player
         this.chargeDirection.scl(-1);
@@ -162,7 +164,7 @@ public class SpikedBall extends AbstractEnemy {
         stopCharge();
       }
 
-      System.out.println("SpikedBall: RIMBALZO ANGOLARE!");
+      Gdx.app.log("SpikedBall", "RIMBALZO ANGOLARE!");
     }
   }
 
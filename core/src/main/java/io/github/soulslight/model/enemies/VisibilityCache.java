@@ -0,0 +1,157 @@
+package io.github.soulslight.model.enemies;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.soulslight.model.entities.Player;
+import io.github.soulslight.model.pathfinding.GridLineOfSight;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enemy-to-player visibility and distances, computed once per tick before enemy AI runs. States and
+ * behaviours that ask {@link AbstractEnemy#canSeePlayer} several times per frame for the same pair
+ * read the stored bit instead of casting another ray.
+ *
+ * <p>Entries are only valid between {@link #update} and {@link #invalidate}; outside that window
+ * lookups report {@link #UNKNOWN} and callers compute visibility themselves.
+ */
+public class VisibilityCache {
+  /** Range {@link AbstractEnemy#canSeePlayer} has always used. */
+  public static final float AGGRO_RANGE = 300f;
+
+  public static final int UNKNOWN = -1;
+  public static final int HIDDEN = 0;
+  public static final int VISIBLE = 1;
+
+  private Player[] players = new Player[4];
+  private int playerCount = 0;
+  private int rowCount = 0;
+  private float[] distances = new float[64];
+  private long[] visible = new long[1];
+  private int stamp = 0;
+  private boolean valid = false;
+
+  // Stats: rays cast by update() vs. rays callers would have cast without the cache
+  private int raycasts = 0;
+  private int rayLookups = 0;
+  private int lastTickRaycasts = 0;
+  private int lastTickRayLookups = 0;
+  private long totalSaved = 0;
+
+  /**
+   * Recomputes the table for this tick.
+   *
+   * @param los Grid line of sight for the enemies' world; with null nothing is cached
+   */
+  public void update(List<AbstractEnemy> enemies, List<Player> targets, GridLineOfSight los) {
+    finishTickStats();
+    stamp++;
+    valid = los != null;
+    if (!valid) return;
+
+    playerCount = targets.size();
+    if (players.length < playerCount) players = new Player[playerCount];
+    for (int i = 0; i < playerCount; i++) players[i] = targets.get(i);
+
+    int cells = enemies.size() * playerCount;
+    if (distances.length < cells) distances = new float[Math.max(cells, distances.length * 2)];
+    int words = (cells + 63) >>> 6;
+    if (visible.length < words) visible = new long[Math.max(words, visible.length * 2)];
+    Arrays.fill(visible, 0, words, 0L);
+
+    float range2 = AGGRO_RANGE * AGGRO_RANGE;
+    rowCount = 0;
+    for (int i = 0; i < enemies.size(); i++) {
+      AbstractEnemy enemy = enemies.get(i);
+      if (!enemy.isSpawned() || enemy.getBody() == null) continue;
+
+      int row = rowCount++;
+      enemy.visibilityRow = row;
+      enemy.visibilityStamp = stamp;
+
+      Vector2 from = enemy.getBody().getPosition();
+      for (int p = 0; p < playerCount; p++) {
+        Player player = players[p];
+        int cell = row * playerCount + p;
+        if (player == null) {
+          distances[cell] = Float.MAX_VALUE;
+          continue;
+        }
+
+        Vector2 to = player.getPosition();
+        float dx = to.x - from.x;
+        float dy = to.y - from.y;
+        float dist2 = dx * dx + dy * dy;
+        distances[cell] = (float) Math.sqrt(dist2);
+
+        if (player.isDead() || dist2 > range2) continue;
+        if (dist2 >= 0.01f) {
+          raycasts++;
+          if (!los.isClear(from.x, from.y, to.x, to.y)) continue;
+        }
+        visible[cell >>> 6] |= 1L << cell;
+      }
+    }
+  }
+
+  /** Ends the window in which entries are valid (call once enemy AI has run). */
+  public void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * @return {@link #VISIBLE}, {@link #HIDDEN}, or {@link #UNKNOWN} if the pair is not cached
+   */
+  public int lookup(AbstractEnemy enemy, Player player) {
+    int cell = cellOf(enemy, player);
+    if (cell < 0) return UNKNOWN;
+
+    // Lookups that would have needed a ray before (in range, alive, not on top of each other)
+    float dist = distances[cell];
+    if (!player.isDead() && dist <= AGGRO_RANGE && dist >= 0.1f) rayLookups++;
+    return (visible[cell >>> 6] & (1L << cell)) != 0 ? VISIBLE : HIDDEN;
+  }
+
+  /**
+   * @return Cached distance between the pair, or -1 if not cached
+   */
+  public float getDistance(AbstractEnemy enemy, Player player) {
+    int cell = cellOf(enemy, player);
+    return cell < 0 ? -1f : distances[cell];
+  }
+
+  private int cellOf(AbstractEnemy enemy, Player player) {
+    if (!valid || enemy.visibilityStamp != stamp) return -1;
+    for (int p = 0; p < playerCount; p++) {
+      if (players[p] == player) return enemy.visibilityRow * playerCount + p;
+    }
+    return -1;
+  }
+
+  private void finishTickStats() {
+    lastTickRaycasts = raycasts;
+    lastTickRayLookups = rayLookups;
+    totalSaved += rayLookups - raycasts;
+    raycasts = 0;
+    rayLookups = 0;
+  }
+
+  // --- Stats ---
+
+  /**
+   * @return Rays cast while building the last completed tick's table
+   */
+  public int getRaycastsLastTick() {
+    return lastTickRaycasts;
+  }
+
+  /**
+   * @return Rays avoided in the last completed tick (negative if the table cost more than it saved)
+   */
+  public int getRaycastsSavedLastTick() {
+    return lastTickRayLookups - lastTickRaycasts;
+  }
+
+  public long getTotalRaycastsSaved() {
+    return totalSaved;
+  }
+}
@@ -1,9 +1,9 @@
 package io.github.soulslight.model.enemies.ai;
 
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
+import io.github.soulslight.manager.GameManager;
 import io.github.soulslight.model.enemies.AbstractEnemy;
 import io.github.soulslight.model.entities.Player;
 import java.util.List;
@@ -37,8 +37,9 @@ public final class PatrolState implements EnemyState {
       patrolAngle = new Vector2(spawn).sub(pos).angleDeg();
       wanderTimer = 2.0f;
     } else if (wanderTimer <= 0) {
-      patrolAngle = MathUtils.random(0, 360);
-      wanderTimer = MathUtils.random(3.0f, 6.0f);
+      RandomXS128 random = GameManager.getInstance().getRandom();
+      patrolAngle = random.nextInt(361);
+      wanderTimer = 3.0f + random.nextFloat() * 3.0f;
     }
 
     boolean hitCenter = checkObstacle(enemy, 0);
@@ -62,27 +63,7 @@ public final class PatrolState implements EnemyState {
   }
 
   private boolean checkObstacle(AbstractEnemy enemy, float angleOffset) {
-    final boolean[] hit = {false};
     float dynamicSensorDist = 60f;
-    Body body = enemy.getBody();
-    Vector2 rayStart = body.getPosition();
-    Vector2 rayEnd =
-        new Vector2(1, 0)
-            .setAngleDeg(patrolAngle + angleOffset)
-            .scl(dynamicSensorDist)
-            .add(rayStart);
-
-    body.getWorld()
-        .rayCast(
-            (fixture, point, normal, fraction) -> {
-              if (fixture.getBody().getType() == BodyDef.BodyType.StaticBody) {
-                hit[0] = true;
-                return fraction;
-              }
-              return 1;
-            },
-            rayStart,
-            rayEnd);
-    return hit[0];
+    return enemy.isWallAhead(patrolAngle + angleOffset, dynamicSensorDist);
   }
 }
@@ -0,0 +1,28 @@
+package io.github.soulslight.model.entities;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Pools for the entities that come and go during combat. Factories obtain from here and the code
+ * that retires an entity frees it, so a steady fight does not allocate new objects.
+ */
+public final class EntityPools {
+
+  public static final Pool<Projectile> PROJECTILES =
+      new Pool<>(64, 1024) {
+        @Override
+        protected Projectile newObject() {
+          return new Projectile();
+        }
+      };
+
+  public static final Pool<ItemEntity> ITEMS =
+      new Pool<>(16, 256) {
+        @Override
+        protected ItemEntity newObject() {
+          return new ItemEntity();
+        }
+      };
+
+  private EntityPools() {}
+}
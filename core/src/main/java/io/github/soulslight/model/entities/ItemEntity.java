@@ -1,17 +1,28 @@
 package io.github.soulslight.model.entities;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Pool;
 import io.github.soulslight.model.Constants;
 import io.github.soulslight.model.items.AbstractItem;
 import io.github.soulslight.model.items.IRenderableItem;
 
-public class ItemEntity extends Entity {
+public class ItemEntity extends Entity implements Pool.Poolable {
 
-  private final AbstractItem item;
+  private AbstractItem item;
   private boolean markedForRemoval = false;
 
+  // Pooled instances start empty and are set up with init()
+  ItemEntity() {
+    super();
+  }
+
   public ItemEntity(AbstractItem item, World world, float x, float y) {
     super();
+    init(item, world, x, y);
+  }
+
+  /** Sets up a fresh (or pooled) item entity and its pickup sensor. */
+  public ItemEntity init(AbstractItem item, World world, float x, float y) {
     this.item = item; // Inventory item logic
     this.position.set(x, y);
 
@@ -21,6 +32,7 @@ public class ItemEntity extends Entity {
     }
 
     createBody(world, x, y);
+    return this;
   }
 
   private void createBody(World world, float x, float y) {
@@ -42,6 +54,16 @@ public class ItemEntity extends Entity {
     shape.dispose();
   }
 
+  /** Called once the body has been destroyed, before going back to the pool. */
+  @Override
+  public void reset() {
+    item = null;
+    body = null;
+    textureRegion = null;
+    markedForRemoval = false;
+    position.setZero();
+  }
+
   public AbstractItem getItem() {
     return item;
   }
@@ -268,8 +268,8 @@ public class Player extends Entity {
   }
 
   public void notifyProjectileRequest(Vector2 origin, Vector2 target, String type, float damage) {
-    for (ProjectileListener listener : projectileListeners) {
-      listener.onProjectileRequest(origin, target, type, damage);
+    for (int i = 0; i < projectileListeners.size(); i++) {
+      projectileListeners.get(i).onProjectileRequest(origin, target, type, damage);
     }
   }
 
@@ -278,8 +278,8 @@ public class Player extends Entity {
       io.github.soulslight.model.entities.Entity target,
       String type,
       float damage) {
-    for (ProjectileListener listener : projectileListeners) {
-      listener.onProjectileRequest(origin, target, type, damage);
+    for (int i = 0; i < projectileListeners.size(); i++) {
+      projectileListeners.get(i).onProjectileRequest(origin, target, type, damage);
     }
   }
 
@@ -288,13 +288,9 @@ public class Player extends Entity {
     // Higher attackSpeed = lower cooldown (attacks per second)
     attackCooldown = 1.0f / attackStrategy.getAttackSpeed();
 
-    // Cast strict typed list to raw Entity list for Strategy interface
-    // compatibility
-    // In a cleaner refactor, AbstractEnemy and Player would share a 'Combatant' or
-    // 'LivingEntity' base
-    // but here we just cast.
-    List<Entity> targets = new java.util.ArrayList<>(enemies);
-    attackStrategy.executeAttack(this, targets);
+    // Strategies only read the list; passing the level's own list lets them use the enemy
+    // spatial index
+    attackStrategy.executeAttack(this, enemies);
   }
 
   public void performSpecialAttack(List<AbstractEnemy> enemies) {
@@ -323,6 +319,11 @@ public class Player extends Entity {
     return facingDirection.cpy();
   }
 
+  /** Copies the facing direction into out, for callers that must not allocate. */
+  public Vector2 getFacingDirection(Vector2 out) {
+    return out.set(facingDirection);
+  }
+
   @Override
   public void takeDamage(float amount) {
     if (debugInvincible || invincibilityTimer > 0) return;
@@ -1,51 +1,81 @@
 package io.github.soulslight.model.entities;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.*;
-
-public class Projectile extends Entity {
+import com.badlogic.gdx.utils.Pool;
+import io.github.soulslight.model.Constants;
+
+/**
+ * A shot in flight. Projectiles have no Box2D body: once added to a {@link ProjectileStore} the
+ * store integrates their motion, and this object is the view that rendering, hit checks and saves
+ * read, refreshed from the store when read after it moved. Instances are recycled through {@link
+ * EntityPools#PROJECTILES} once they leave the store.
+ */
+public class Projectile extends Entity implements Pool.Poolable {
+  // Type ids, so hot paths compare ints instead of type strings
+  public static final int TYPE_OTHER = -1;
+  public static final int TYPE_ARROW = 0;
+  public static final int TYPE_FAST_ARROW = 1;
+  public static final int TYPE_FIREBALL = 2;
+  public static final int TYPE_HOMING_FIREBALL = 3;
+  public static final int TYPE_ENEMY_ARROW = 4;
 
   private float lifeTime = 10.0f; // Durata della freccia prima di sparire
   private boolean destroy = false;
-  private final float damage;
+  private float damage;
 
   // Memorizza la posizione precedente per calcolare la traiettoria
   private final Vector2 lastPosition = new Vector2();
+  private final Vector2 velocity = new Vector2();
+  private float rotation; // Degrees, follows the velocity
   private boolean isPlayerProjectile = false;
   private io.github.soulslight.model.entities.Entity target; // For homing projectiles
-  private final String type;
+  private String type;
+  private int typeId;
+  // Identifies one shot: a pooled instance gets a new id for each shot it is reused for
+  private static long nextShotId = 0;
+  private long shotId;
+
+  // Slot in the store moving this projectile, -1 when not in flight
+  ProjectileStore store;
+  int slot = -1;
+  // Store step the view was last refreshed at
+  int syncedStep;
+
+  // Pooled instances start empty and are set up with init()
+  Projectile() {
+    super();
+    this.type = "arrow";
+    this.typeId = TYPE_ARROW;
+  }
 
   // Compatibility Constructor 1
-  public Projectile(World world, float x, float y, Vector2 targetPos, boolean isPlayerProjectile) {
-    this(world, x, y, targetPos, isPlayerProjectile, null, 400f, 15f, "arrow");
+  public Projectile(float x, float y, Vector2 targetPos, boolean isPlayerProjectile) {
+    this(x, y, targetPos, isPlayerProjectile, null, 400f, 15f, "arrow");
   }
 
   // Compatibility Constructor 2
   public Projectile(
-      World world,
       float x,
       float y,
       Vector2 targetPos,
       boolean isPlayerProjectile,
       io.github.soulslight.model.entities.Entity target) {
-    this(world, x, y, targetPos, isPlayerProjectile, target, 400f, 15f, "arrow");
+    this(x, y, targetPos, isPlayerProjectile, target, 400f, 15f, "arrow");
   }
 
   // Compatibility Constructor 3: Speed but no damage
   public Projectile(
-      World world,
       float x,
       float y,
       Vector2 targetPos,
       boolean isPlayerProjectile,
       io.github.soulslight.model.entities.Entity target,
       float speed) {
-    this(world, x, y, targetPos, isPlayerProjectile, target, speed, 15f, "arrow");
+    this(x, y, targetPos, isPlayerProjectile, target, speed, 15f, "arrow");
   }
 
   // Master Constructor
   public Projectile(
-      World world,
       float x,
       float y,
       Vector2 targetPos,
@@ -55,95 +85,89 @@ public class Projectile extends Entity {
       float damage,
       String type) {
     super();
-    this.position = new Vector2(x, y);
+    init(x, y, targetPos, isPlayerProjectile, target, speed, damage, type);
+  }
+
+  // Costruttore per compatibilità (default nemici)
+  public Projectile(float x, float y, Vector2 targetPos) {
+    this(x, y, targetPos, false, null, 400f, 15f, "enemy_arrow");
+  }
+
+  /** Sets up a fresh (or pooled) projectile. Same arguments as the master constructor. */
+  public Projectile init(
+      float x,
+      float y,
+      Vector2 targetPos,
+      boolean isPlayerProjectile,
+      io.github.soulslight.model.entities.Entity target,
+      float speed,
+      float damage,
+      String type) {
+    this.position.set(x, y);
     this.lastPosition.set(x, y); // Inizializza la posizione precedente
     this.isPlayerProjectile = isPlayerProjectile;
     this.target = target;
     this.damage = damage;
     this.type = type != null ? type : "arrow";
+    this.typeId = typeIdOf(this.type);
+    this.shotId = ++nextShotId;
 
     // Calcola direzione
-    Vector2 direction = new Vector2(targetPos).sub(x, y).nor();
-
-    createBody(world, x, y);
-
-    this.body.setLinearVelocity(direction.scl(speed));
-    this.body.setTransform(this.body.getPosition(), direction.angleRad());
+    this.velocity.set(targetPos).sub(x, y).nor();
+    this.rotation = velocity.angleDeg();
+    this.velocity.scl(speed);
+    return this;
   }
 
-  // Costruttore per compatibilità (default nemici)
-  public Projectile(World world, float x, float y, Vector2 targetPos) {
-    this(world, x, y, targetPos, false, null, 400f, 15f, "enemy_arrow");
-  }
-
-  private void createBody(World world, float x, float y) {
-    BodyDef bdef = new BodyDef();
-    bdef.position.set(x, y);
-    bdef.type = BodyDef.BodyType.DynamicBody;
-    bdef.bullet = true;
-
-    this.body = world.createBody(bdef);
-
-    CircleShape shape = new CircleShape();
-    shape.setRadius(7f);
-
-    FixtureDef fdef = new FixtureDef();
-    fdef.shape = shape;
-    fdef.isSensor = true;
-
-    fdef.filter.categoryBits = io.github.soulslight.model.Constants.BIT_PROJECTILE;
-
-    // Friendly Fire / Collision Logic
-    if (isPlayerProjectile) {
-      // Player shots hit Enemies and Walls (Ignore Player)
-      fdef.filter.maskBits =
-          (short)
-              (io.github.soulslight.model.Constants.BIT_ENEMY
-                  | io.github.soulslight.model.Constants.BIT_WALL);
-    } else {
-      // Enemy shots hit Players and Walls (Ignore Enemy)
-      fdef.filter.maskBits =
-          (short)
-              (io.github.soulslight.model.Constants.BIT_PLAYER
-                  | io.github.soulslight.model.Constants.BIT_WALL);
-    }
-
-    this.body.createFixture(fdef);
-    this.body.setUserData(this);
-    shape.dispose();
+  @Override
+  public void reset() {
+    position.setZero();
+    lastPosition.setZero();
+    velocity.setZero();
+    rotation = 0f;
+    lifeTime = 10.0f;
+    destroy = false;
+    damage = 0f;
+    isPlayerProjectile = false;
+    target = null;
+    type = "arrow";
+    typeId = TYPE_ARROW;
+    store = null;
+    slot = -1;
+    syncedStep = 0;
   }
 
-  @Override
-  public void update(float delta) {
-    lastPosition.set(this.position);
-
-    // Homing Logic
-    if (target != null && !target.isDead() && body != null) {
-      Vector2 myPos = body.getPosition();
-      Vector2 targetPos = target.getPosition();
-      Vector2 desiredVelocity = targetPos.cpy().sub(myPos).nor().scl(400f);
-
-      Vector2 currentVelocity = body.getLinearVelocity();
-      // Steer factor: 0.1 smooth, 1.0 instant
-      float steerFactor = 0.15f;
-      Vector2 newVelocity = currentVelocity.lerp(desiredVelocity, steerFactor);
-
-      body.setLinearVelocity(newVelocity);
-      body.setTransform(myPos, newVelocity.angleRad());
-    }
+  // Pulls the flight state from the store if it moved since the last read
+  private void refresh() {
+    if (store != null && syncedStep != store.steps) store.syncView(slot);
+  }
 
-    // ALWAYS sync rotation with velocity (fixes "always facing right" issue)
-    if (body != null) {
-      Vector2 vel = body.getLinearVelocity();
-      if (vel.len2() > 0.1f) {
-        body.setTransform(body.getPosition(), vel.angleRad());
-      }
+  // Called by the store with the current state of the slot
+  void sync(float x, float y, float lastX, float lastY, float vx, float vy, float life) {
+    position.set(x, y);
+    lastPosition.set(lastX, lastY);
+    velocity.set(vx, vy);
+    lifeTime = life;
+    // Keep facing the direction of travel (fixes "always facing right" issue)
+    if (vx * vx + vy * vy > 0.1f) {
+      rotation = (float) Math.toDegrees(Math.atan2(vy, vx));
     }
+  }
 
-    super.update(delta);
+  // Called by the store when the projectile leaves it; the view keeps the final state
+  void detach() {
+    refresh();
+    store = null;
+    slot = -1;
+    destroy = true;
+  }
 
-    lifeTime -= delta;
-    if (lifeTime <= 0) destroy = true;
+  /**
+   * @return Id of the current shot, to tell recycled instances apart (state kept per projectile
+   *     must be dropped when it changes)
+   */
+  public long getShotId() {
+    return shotId;
   }
 
   public boolean shouldDestroy() {
@@ -152,17 +176,57 @@ public class Projectile extends Entity {
 
   public void markDestroy() {
     this.destroy = true;
+    if (store != null) store.kill(slot);
   }
 
   public float getDamage() {
     return damage;
   }
 
+  @Override
+  public Vector2 getPosition() {
+    refresh();
+    return position;
+  }
+
+  @Override
+  public float getX() {
+    refresh();
+    return position.x;
+  }
+
+  @Override
+  public float getY() {
+    refresh();
+    return position.y;
+  }
+
   public float getRotation() {
-    return (float) Math.toDegrees(body.getAngle());
+    refresh();
+    return rotation;
+  }
+
+  public Vector2 getVelocity() {
+    refresh();
+    return velocity;
+  }
+
+  public void setVelocity(float vx, float vy) {
+    velocity.set(vx, vy);
+    if (store != null) store.setVelocity(slot, vx, vy);
+  }
+
+  public float getLifeTime() {
+    refresh();
+    return lifeTime;
+  }
+
+  public io.github.soulslight.model.entities.Entity getTarget() {
+    return target;
   }
 
   public Vector2 getLastPosition() {
+    refresh();
     return lastPosition;
   }
 
@@ -173,4 +237,22 @@ public class Projectile extends Entity {
   public String getType() {
     return type;
   }
+
+  /**
+   * @return One of the TYPE_ constants; homing fireball variants share TYPE_HOMING_FIREBALL
+   */
+  public int getTypeId() {
+    return typeId;
+  }
+
+  private static int typeIdOf(String type) {
+    return switch (type) {
+      case Constants.PROJ_ARROW -> TYPE_ARROW;
+      case Constants.PROJ_FAST_ARROW -> TYPE_FAST_ARROW;
+      case Constants.PROJ_FIREBALL -> TYPE_FIREBALL;
+      case Constants.PROJ_ENEMY_ARROW -> TYPE_ENEMY_ARROW;
+      default ->
+          type.startsWith(Constants.PROJ_HOMING_FIREBALL) ? TYPE_HOMING_FIREBALL : TYPE_OTHER;
+    };
+  }
 }
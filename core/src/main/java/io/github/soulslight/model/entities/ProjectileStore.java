@@ -0,0 +1,237 @@
+package io.github.soulslight.model.entities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Flight state of every live projectile, one parallel array per field, packed into slots [0,
+ * size()). The store moves projectiles itself (no Box2D bodies): a step is a single pass over the
+ * arrays, and removed slots are refilled by swapping the last slot in, so storage is reused and
+ * never fragments no matter how many shots come and go.
+ *
+ * <p>Each slot keeps its {@link Projectile} as the object view for the rest of the game. Views are
+ * refreshed lazily: a step only advances a step counter, and a view copies its slot the next time
+ * it is read. Views of removed projectiles go back to {@link EntityPools#PROJECTILES}.
+ */
+public class ProjectileStore {
+  // Homing shots steer towards their target at this speed
+  private static final float HOMING_SPEED = 400f;
+  // Steer factor: 0.1 smooth, 1.0 instant
+  private static final float STEER_FACTOR = 0.15f;
+
+  private float[] x = new float[64];
+  private float[] y = new float[64];
+  private float[] lastX = new float[64];
+  private float[] lastY = new float[64];
+  private float[] vx = new float[64];
+  private float[] vy = new float[64];
+  private float[] life = new float[64];
+  private float[] damage = new float[64];
+  private boolean[] playerOwned = new boolean[64];
+  private boolean[] dead = new boolean[64];
+  private Entity[] target = new Entity[64];
+  private Projectile[] handles = new Projectile[64];
+  private int size = 0;
+
+  // Bumped by every integrate; views older than this re-read their slot
+  int steps = 0;
+
+  // Slot order mirrored as a list for views
+  private final List<Projectile> active = new ArrayList<>();
+  private final List<Projectile> activeView = Collections.unmodifiableList(active);
+
+  /**
+   * Puts the projectile in flight from its current state.
+   *
+   * @return Its slot
+   */
+  public int add(Projectile p) {
+    if (p.store == this) return p.slot;
+    ensureCapacity(size + 1);
+
+    int i = size++;
+    x[i] = p.getPosition().x;
+    y[i] = p.getPosition().y;
+    lastX[i] = p.getLastPosition().x;
+    lastY[i] = p.getLastPosition().y;
+    vx[i] = p.getVelocity().x;
+    vy[i] = p.getVelocity().y;
+    life[i] = p.getLifeTime();
+    damage[i] = p.getDamage();
+    playerOwned[i] = p.isPlayerProjectile();
+    dead[i] = p.shouldDestroy();
+    target[i] = p.getTarget();
+    handles[i] = p;
+    active.add(p);
+
+    p.store = this;
+    p.slot = i;
+    p.syncedStep = steps;
+    return i;
+  }
+
+  /**
+   * Advances every live projectile by delta: remembers the previous position, moves along the
+   * velocity, steers homing shots and ages them. Views pick the new state up when next read.
+   */
+  public void integrate(float delta) {
+    steps++;
+    for (int i = 0; i < size; i++) {
+      if (dead[i]) continue;
+
+      lastX[i] = x[i];
+      lastY[i] = y[i];
+      x[i] += vx[i] * delta;
+      y[i] += vy[i] * delta;
+
+      // Homing Logic: blend the velocity towards the target for the next step
+      Entity t = target[i];
+      if (t != null && !t.isDead()) {
+        float dx = t.getPosition().x - x[i];
+        float dy = t.getPosition().y - y[i];
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        if (len > 0f) {
+          vx[i] += (dx / len * HOMING_SPEED - vx[i]) * STEER_FACTOR;
+          vy[i] += (dy / len * HOMING_SPEED - vy[i]) * STEER_FACTOR;
+        }
+      }
+
+      life[i] -= delta;
+      if (life[i] <= 0) dead[i] = true;
+    }
+  }
+
+  /**
+   * Drops every dead slot, filling the hole with the last live one.
+   *
+   * @return Number of projectiles removed
+   */
+  public int removeDead() {
+    int removed = 0;
+    int i = 0;
+    while (i < size) {
+      if (!dead[i]) {
+        i++;
+        continue;
+      }
+      Projectile gone = handles[i];
+      gone.detach();
+      EntityPools.PROJECTILES.free(gone);
+      removed++;
+      moveSlot(size - 1, i);
+      size--;
+      handles[size] = null;
+      target[size] = null;
+      active.remove(size);
+    }
+    return removed;
+  }
+
+  /** Removes every projectile. */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      handles[i].detach();
+      EntityPools.PROJECTILES.free(handles[i]);
+      handles[i] = null;
+      target[i] = null;
+    }
+    size = 0;
+    active.clear();
+  }
+
+  public void kill(int slot) {
+    dead[slot] = true;
+  }
+
+  public void setVelocity(int slot, float newVx, float newVy) {
+    vx[slot] = newVx;
+    vy[slot] = newVy;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isDead(int slot) {
+    return dead[slot];
+  }
+
+  public float getX(int slot) {
+    return x[slot];
+  }
+
+  public float getY(int slot) {
+    return y[slot];
+  }
+
+  public float getLastX(int slot) {
+    return lastX[slot];
+  }
+
+  public float getLastY(int slot) {
+    return lastY[slot];
+  }
+
+  public float getDamage(int slot) {
+    return damage[slot];
+  }
+
+  public boolean isPlayerOwned(int slot) {
+    return playerOwned[slot];
+  }
+
+  public Projectile getProjectile(int slot) {
+    return handles[slot];
+  }
+
+  /**
+   * @return Live projectiles in slot order (read-only)
+   */
+  public List<Projectile> getProjectiles() {
+    return activeView;
+  }
+
+  // Copies the slot into its view
+  void syncView(int slot) {
+    Projectile p = handles[slot];
+    p.sync(x[slot], y[slot], lastX[slot], lastY[slot], vx[slot], vy[slot], life[slot]);
+    p.syncedStep = steps;
+  }
+
+  private void moveSlot(int from, int to) {
+    if (from == to) return;
+    x[to] = x[from];
+    y[to] = y[from];
+    lastX[to] = lastX[from];
+    lastY[to] = lastY[from];
+    vx[to] = vx[from];
+    vy[to] = vy[from];
+    life[to] = life[from];
+    damage[to] = damage[from];
+    playerOwned[to] = playerOwned[from];
+    dead[to] = dead[from];
+    target[to] = target[from];
+    handles[to] = handles[from];
+    handles[to].slot = to;
+    active.set(to, handles[to]);
+  }
+
+  private void ensureCapacity(int needed) {
+    if (x.length >= needed) return;
+    int capacity = Math.max(needed, x.length * 2);
+    x = Arrays.copyOf(x, capacity);
+    y = Arrays.copyOf(y, capacity);
+    lastX = Arrays.copyOf(lastX, capacity);
+    lastY = Arrays.copyOf(lastY, capacity);
+    vx = Arrays.copyOf(vx, capacity);
+    vy = Arrays.copyOf(vy, capacity);
+    life = Arrays.copyOf(life, capacity);
+    damage = Arrays.copyOf(damage, capacity);
+    playerOwned = Arrays.copyOf(playerOwned, capacity);
+    dead = Arrays.copyOf(dead, capacity);
+    target = Arrays.copyOf(target, capacity);
+    handles = Arrays.copyOf(handles, capacity);
+  }
+}
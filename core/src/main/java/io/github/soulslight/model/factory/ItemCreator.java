@@ -2,7 +2,7 @@ package io.github.soulslight.model.factory;
 
 import com.badlogic.gdx.physics.box2d.World;
 import io.github.soulslight.model.entities.Entity;
-import io.github.soulslight.model.entities.ItemEntity;
+import io.github.soulslight.model.entities.EntityPools;
 import io.github.soulslight.model.items.AbstractItem;
 
 /** GoF Pattern: Factory Method (ConcreteCreator) Creates Item entities. */
@@ -14,6 +14,6 @@ public class ItemCreator extends EntityCreator {
       throw new IllegalArgumentException("ItemCreator requires AbstractItem argument");
     }
     AbstractItem item = (AbstractItem) args[0];
-    return new ItemEntity(item, world, x, y);
+    return EntityPools.ITEMS.obtain().init(item, world, x, y);
   }
 }
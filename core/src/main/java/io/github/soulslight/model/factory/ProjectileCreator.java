@@ -3,6 +3,7 @@ package io.github.soulslight.model.factory;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 import io.github.soulslight.model.entities.Entity;
+import io.github.soulslight.model.entities.EntityPools;
 import io.github.soulslight.model.entities.Projectile;
 
 /** GoF Pattern: Factory Method (ConcreteCreator) Creates Projectile entities. */
@@ -22,6 +23,21 @@ public class ProjectileCreator extends EntityCreator {
     float damage = (Float) args[4];
     String type = (args.length > 5) ? (String) args[5] : "arrow";
 
-    return new Projectile(world, x, y, target, isPlayerSource, sourceEntity, speed, damage, type);
+    return createProjectile(x, y, target, isPlayerSource, sourceEntity, speed, damage, type);
+  }
+
+  /** Typed form of {@link #createEntity}, without the boxing and array of the varargs call. */
+  public Projectile createProjectile(
+      float x,
+      float y,
+      Vector2 target,
+      boolean isPlayerSource,
+      Entity sourceEntity,
+      float speed,
+      float damage,
+      String type) {
+    return EntityPools.PROJECTILES
+        .obtain()
+        .init(x, y, target, isPlayerSource, sourceEntity, speed, damage, type);
   }
 }
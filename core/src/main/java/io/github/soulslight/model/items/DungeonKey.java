@@ -11,7 +11,6 @@ public class DungeonKey extends AbstractItem {
 
   @Override
   public TextureRegion getTexture() {
-    return new TextureRegion(
-        ResourceManager.getInstance().getItemTexture("item_key")); // Placeholder support
+    return ResourceManager.getInstance().getItemRegion("item_key"); // Placeholder support
   }
 }
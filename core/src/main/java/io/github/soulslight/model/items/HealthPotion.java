@@ -17,7 +17,6 @@ public class HealthPotion extends AbstractItem implements IStackable {
 
   @Override
   public TextureRegion getTexture() {
-    return new TextureRegion(
-        ResourceManager.getInstance().getItemTexture("inv_objects/health_potion.png"));
+    return ResourceManager.getInstance().getItemRegion("inv_objects/health_potion.png");
   }
 }
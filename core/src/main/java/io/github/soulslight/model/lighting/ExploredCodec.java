@@ -0,0 +1,114 @@
+package io.github.soulslight.model.lighting;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Run-length encoding of the explored bitset for save files. Layout: the number of cells, then the
+ * lengths of the alternating runs of unexplored and explored cells (starting with unexplored, so
+ * the first run may be 0), all as unsigned LEB128 varints. Explored areas are a few blobs with long
+ * runs per row: a 240x240-subcell map explored from four spots takes about 900 bytes, against 7200
+ * for the raw bits and far more as a JSON boolean array.
+ */
+final class ExploredCodec {
+
+  private ExploredCodec() {}
+
+  /**
+   * @param bits One bit per cell, as in {@link LightingSystem#getExplored()}
+   * @param count Number of cells
+   */
+  static byte[] encode(long[] bits, int count) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+    writeVarint(out, count);
+    int pos = 0;
+    boolean value = false;
+    while (pos < count) {
+      int next = nextIndexOf(bits, pos, count, !value);
+      writeVarint(out, next - pos);
+      pos = next;
+      value = !value;
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes into out, which is cleared first.
+   *
+   * @return False if data is malformed or was encoded for another number of cells (out is left
+   *     cleared)
+   */
+  static boolean decode(byte[] data, long[] out, int count) {
+    Arrays.fill(out, 0L);
+    if (decodeRuns(data, out, count)) return true;
+    Arrays.fill(out, 0L);
+    return false;
+  }
+
+  // Sets the explored runs, stopping at the first malformed one
+  private static boolean decodeRuns(byte[] data, long[] out, int count) {
+    int[] cursor = {0};
+    if (readVarint(data, cursor) != count) return false;
+
+    int pos = 0;
+    boolean value = false;
+    while (pos < count) {
+      int run = readVarint(data, cursor);
+      if (run < 0 || run > count - pos) return false;
+      if (value) setRange(out, pos, pos + run);
+      pos += run;
+      value = !value;
+    }
+    // Trailing bytes mean the runs were not written by encode
+    return cursor[0] == data.length;
+  }
+
+  // First index in [from, count) whose bit equals set, or count
+  private static int nextIndexOf(long[] bits, int from, int count, boolean set) {
+    int word = from >>> 6;
+    long current = (set ? bits[word] : ~bits[word]) & (-1L << from);
+    while (true) {
+      if (current != 0) {
+        return Math.min(count, (word << 6) + Long.numberOfTrailingZeros(current));
+      }
+      if (++word >= bits.length) return count;
+      current = set ? bits[word] : ~bits[word];
+    }
+  }
+
+  // Sets the bits of [from, to)
+  private static void setRange(long[] bits, int from, int to) {
+    if (from >= to) return;
+    int first = from >>> 6;
+    int last = (to - 1) >>> 6;
+    long firstMask = -1L << from;
+    long lastMask = -1L >>> -to;
+    if (first == last) {
+      bits[first] |= firstMask & lastMask;
+      return;
+    }
+    bits[first] |= firstMask;
+    for (int w = first + 1; w < last; w++) bits[w] = -1L;
+    bits[last] |= lastMask;
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+
+  // -1 when the data ends early or the value does not fit an int
+  private static int readVarint(byte[] data, int[] cursor) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      if (cursor[0] >= data.length) return -1;
+      byte b = data[cursor[0]++];
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    return -1;
+  }
+}
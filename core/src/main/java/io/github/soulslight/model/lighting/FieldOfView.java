@@ -4,15 +4,13 @@ import java.util.Arrays;
 
 /**
  * This class provides methods for calculating Field of View in grids. Field of View (FOV)
- * algorithms determine how much area surrounding a point can be seen. They return a two dimensional
- * array of doubles, representing the amount of view (almost always sight) which the origin has of
- * each cell. <br>
- * The input resistanceMap is considered the percent of opacity. This resistance is on top of the
- * resistance applied from the light spreading out. You can obtain a resistance map by looping over
- * all the x,y positions in your grid-based map and running a switch statement on each cell,
- * assigning a double to the same x,y position in a double[][]. The value should be between 0.0
- * (unblocked) for things light passes through, 1.0 (blocked) for things light can't pass at all,
- * and possibly other values for translucent obstacles. <br>
+ * algorithms determine how much area surrounding a point can be seen. They fill an array of floats,
+ * representing the amount of view (almost always sight) which the origin has of each cell. <br>
+ * Grids are flat, row by row: cell (x, y) is at index {@code y * width + x}. <br>
+ * The input resistanceMap is considered the opacity of each cell, as an unsigned byte: 0 for things
+ * light passes through, {@link #OPAQUE} (255) for things light can't pass at all. You can obtain a
+ * resistance map by looping over all the x,y positions in your grid-based map and assigning a byte
+ * to the matching index. <br>
  * The returned light map is considered the percent of light in the cells. <br>
  * Currently, all implementations provide percentage levels of light from 0.0 (unlit) to 1.0 (fully
  * lit). <br>
@@ -23,25 +21,29 @@ import java.util.Arrays;
  */
 public class FieldOfView {
 
+  /** Resistance of a cell light can't pass. */
+  public static final byte OPAQUE = (byte) 255;
+
+  // xx, xy, yx, yy of the eight octants
+  private static final int[][] OCTANTS = {
+    {0, 1, 1, 0}, {1, 0, 0, 1}, {0, 1, -1, 0}, {1, 0, 0, -1},
+    {0, -1, -1, 0}, {-1, 0, 0, -1}, {0, -1, 1, 0}, {-1, 0, 0, 1}
+  };
+
   /** Unneeded. */
   protected FieldOfView() {}
 
-  /**
-   * Fills a 2D double array with the given value.
-   *
-   * @param array a 2D double array that will be modified
-   * @param value the value to fill {@code array} with
-   */
-  public static void fill(double[][] array, double value) {
-    for (int i = 0; i < array.length; i++) {
-      Arrays.fill(array[i], value);
-    }
-  }
-
   public static double radius(double x, double y) {
     return Math.sqrt(x * x + y * y);
   }
 
+  /**
+   * @return True if cell index is flagged in the bitset
+   */
+  public static boolean isSet(long[] bits, int index) {
+    return (bits[index >>> 6] & (1L << index)) != 0;
+  }
+
   /**
    * Calculates the Field Of View for the provided map from the given x, y coordinates. Assigns to,
    * and returns, a light map where the values represent a percentage of fully lit. Always uses
@@ -53,166 +55,93 @@ public class FieldOfView {
    * Radius determinations based on Euclidean calculations. Values in {@code light} will be 1.0 at
    * the light source and will decrease steadily as they get further away.
    *
-   * @param resistanceMap the grid of cells to calculate on; 1.0 resists all light, 0.0 does not
-   *     resist
+   * @param resistanceMap the grid of cells to calculate on; {@link #OPAQUE} resists all light, 0
+   *     does not resist
    * @param light the grid of cells which will represent the alpha overlay (amount of light)
+   * @param width the number of cells in a row of both grids
    * @param startX the horizontal component of the starting location
    * @param startY the vertical component of the starting location
    * @param radius the distance the light will extend to
    * @return the computed light grid
    */
-  public static double[][] reuseFOV(
-      double[][] resistanceMap, double[][] light, int startX, int startY, double radius) {
+  public static float[] reuseFOV(
+      byte[] resistanceMap, float[] light, int width, int startX, int startY, double radius) {
+    Arrays.fill(light, 0f);
+    return castFOV(resistanceMap, light, null, width, startX, startY, radius);
+  }
+
+  /**
+   * Same shadowcasting as {@link #reuseFOV}, but {@code light} is not cleared: the caller resets
+   * the cells a previous cast could have lit (at most {@code radius} away from its origin), so the
+   * cost depends on the radius and not on the size of the map. Every cell given some light is also
+   * flagged in {@code explored}, when not null.
+   *
+   * @param explored bitset of the cells ever seen, one bit per cell index, updated in place; may be
+   *     null
+   * @return the computed light grid
+   */
+  public static float[] castFOV(
+      byte[] resistanceMap,
+      float[] light,
+      long[] explored,
+      int width,
+      int startX,
+      int startY,
+      double radius) {
+    return castFOV(resistanceMap, width, light, 0, 0, width, explored, startX, startY, radius);
+  }
+
+  /**
+   * Same as {@link #castFOV(byte[], float[], long[], int, int, int, double)}, writing the light
+   * into a window of the grid: cell (x, y) goes to {@code light[(y - lightY) * lightWidth + x -
+   * lightX]}. The window must cover every cell within {@code radius} of the origin that lies inside
+   * the grid; this lets several lights be cast side by side into small buffers.
+   *
+   * @param width the number of cells in a row of resistanceMap (and of explored)
+   * @param lightX the grid column of the first column of the window
+   * @param lightY the grid row of the first row of the window
+   * @param lightWidth the number of cells in a row of the window
+   */
+  public static float[] castFOV(
+      byte[] resistanceMap,
+      int width,
+      float[] light,
+      int lightX,
+      int lightY,
+      int lightWidth,
+      long[] explored,
+      int startX,
+      int startY,
+      double radius) {
     double decay = 1 / radius;
-    fill(light, 0);
-    light[startY][startX] =
-        Math.min(1.0, radius); // make the starting space full power unless radius is tiny
+    int origin = startY * width + startX;
+    float originLight = (float) Math.min(1.0, radius); // full power unless radius is tiny
+    light[(startY - lightY) * lightWidth + startX - lightX] = originLight;
+    if (explored != null && originLight > 0f) explored[origin >>> 6] |= 1L << origin;
 
-    final int height = light.length, width = light[0].length;
-    shadowCast(
-        1,
-        1.0,
-        0.0,
-        0,
-        1,
-        1,
-        0,
-        radius,
-        startY,
-        startX,
-        decay,
-        light,
-        resistanceMap,
-        0,
-        0,
-        height,
-        width);
-    shadowCast(
-        1,
-        1.0,
-        0.0,
-        1,
-        0,
-        0,
-        1,
-        radius,
-        startY,
-        startX,
-        decay,
-        light,
-        resistanceMap,
-        0,
-        0,
-        height,
-        width);
-    shadowCast(
-        1,
-        1.0,
-        0.0,
-        0,
-        1,
-        -1,
-        0,
-        radius,
-        startY,
-        startX,
-        decay,
-        light,
-        resistanceMap,
-        0,
-        0,
-        height,
-        width);
-    shadowCast(
-        1,
-        1.0,
-        0.0,
-        1,
-        0,
-        0,
-        -1,
-        radius,
-        startY,
-        startX,
-        decay,
-        light,
-        resistanceMap,
-        0,
-        0,
-        height,
-        width);
-    shadowCast(
-        1,
-        1.0,
-        0.0,
-        0,
-        -1,
-        -1,
-        0,
-        radius,
-        startY,
-        startX,
-        decay,
-        light,
-        resistanceMap,
-        0,
-        0,
-        height,
-        width);
-    shadowCast(
-        1,
-        1.0,
-        0.0,
-        -1,
-        0,
-        0,
-        -1,
-        radius,
-        startY,
-        startX,
-        decay,
-        light,
-        resistanceMap,
-        0,
-        0,
-        height,
-        width);
-    shadowCast(
-        1,
-        1.0,
-        0.0,
-        0,
-        -1,
-        1,
-        0,
-        radius,
-        startY,
-        startX,
-        decay,
-        light,
-        resistanceMap,
-        0,
-        0,
-        height,
-        width);
-    shadowCast(
-        1,
-        1.0,
-        0.0,
-        -1,
-        0,
-        0,
-        1,
-        radius,
-        startY,
-        startX,
-        decay,
-        light,
-        resistanceMap,
-        0,
-        0,
-        height,
-        width);
+    int height = resistanceMap.length / width;
+    for (int[] octant : OCTANTS) {
+      shadowCast(
+          1,
+          1.0,
+          0.0,
+          octant[0],
+          octant[1],
+          octant[2],
+          octant[3],
+          radius,
+          startY,
+          startX,
+          decay,
+          light,
+          lightX,
+          lightY,
+          lightWidth,
+          explored,
+          resistanceMap,
+          width,
+          height);
+    }
     return light;
   }
 
@@ -228,19 +157,21 @@ public class FieldOfView {
       int startY,
       int startX,
       double decay,
-      double[][] lightMap,
-      double[][] map,
-      int minY,
-      int minX,
-      int maxY,
-      int maxX) {
+      float[] lightMap,
+      int lightX,
+      int lightY,
+      int lightWidth,
+      long[] explored,
+      byte[] map,
+      int width,
+      int height) {
     double newStart = 0;
     if (start < end) {
       return;
     }
     boolean blocked = false;
     for (int distance = row;
-        distance <= radius && distance < maxY - minY + maxX - minX && !blocked;
+        distance <= radius && distance < height + width && !blocked;
         distance++) {
       int deltaX = -distance;
       for (int deltaY = -distance; deltaY <= 0; deltaY++) {
@@ -249,27 +180,31 @@ public class FieldOfView {
         double leftSlope = (deltaY - 0.5f) / (deltaX + 0.5f);
         double rightSlope = (deltaY + 0.5f) / (deltaX - 0.5f);
 
-        if (!(currentY >= minY && currentX >= minX && currentY < maxY && currentX < maxX)
+        if (!(currentY >= 0 && currentX >= 0 && currentY < height && currentX < width)
             || start < rightSlope) {
           continue;
         } else if (end > leftSlope) {
           break;
         }
+        int index = currentY * width + currentX;
         double deltaRadius = radius(deltaY, deltaX);
         // check if it's within the lightable area and light if needed
         if (deltaRadius <= radius) {
-          lightMap[currentY][currentX] = 1.0 - decay * deltaRadius;
+          float value = (float) (1.0 - decay * deltaRadius);
+          lightMap[(currentY - lightY) * lightWidth + currentX - lightX] = value;
+          if (explored != null && value > 0f) explored[index >>> 6] |= 1L << index;
         }
 
+        boolean wall = map[index] == OPAQUE;
         if (blocked) { // previous cell was a blocking one
-          if (map[currentY][currentX] >= 1) { // hit a wall
+          if (wall) { // hit a wall
             newStart = rightSlope;
           } else {
             blocked = false;
             start = newStart;
           }
         } else {
-          if (map[currentY][currentX] >= 1 && distance < radius) { // hit a wall within sight line
+          if (wall && distance < radius) { // hit a wall within sight line
             blocked = true;
             shadowCast(
                 distance + 1,
@@ -284,11 +219,13 @@ public class FieldOfView {
                 startX,
                 decay,
                 lightMap,
+                lightX,
+                lightY,
+                lightWidth,
+                explored,
                 map,
-                minY,
-                minX,
-                maxY,
-                maxX); // recurse with different initial settings
+                width,
+                height); // recurse with different initial settings
             newStart = rightSlope;
           }
         }
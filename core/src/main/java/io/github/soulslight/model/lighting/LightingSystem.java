@@ -11,10 +11,16 @@ import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
 public class LightingSystem {
   private static final int SUBDIVISIONS = 4; // Higher = smoother edges, costlier
   private static final float MIN_ALPHA = 0.0f; // Completely dark when unseen
+  // Sight radius of a player in tiles (approx 10-12 tiles looks good)
+  private static final int SIGHT_RADIUS = 16;
+  // Below this many lights or subcells to cast, worker threads cost more than they save
+  private static final int PARALLEL_MIN_LIGHTS = 3;
+  private static final int PARALLEL_MIN_CELLS = 32 * 1024;
 
-  private double[][] resistance; // 1.0 = blocks light
-  private double[][] visible; // Current light levels (0.0 to 1.0)
-  private boolean[][] explored; // Fog of War: true if ever seen
+  // Flat grids, row by row: subcell (x, y) is at y * widthBig + x
+  private byte[] resistance; // FieldOfView.OPAQUE = blocks light
+  private float[] visible; // Current light levels (0.0 to 1.0)
+  private long[] explored; // Fog of War bitset: bit set if ever seen
 
   private int width; // Map width in tiles
   private int height; // Map height in tiles
@@ -24,21 +30,126 @@ public class LightingSystem {
   // Cache map reference to avoid re-extracting layer constantly if possible
   private TiledMapTileLayer mainLayer;
 
+  // Subdivided rows changed since the renderer last uploaded them (empty when min > max)
+  private int dirtyRowMin = 0;
+  private int dirtyRowMax = -1;
+  // Light sources of the frame being built, in subcells
+  private float tileSize = 1f;
+  private int[] lightX = new int[8];
+  private int[] lightY = new int[8];
+  private float[] lightRadius = new float[8];
+  // Player sight, as opposed to a dynamic light: only sight explores the map
+  private boolean[] lightSight = new boolean[8];
+  private int lightCount = 0;
+  // Sources of the last cast (-1 before the first one): the same sources give the same light
+  private int[] castX = new int[8];
+  private int[] castY = new int[8];
+  private float[] castRadius = new float[8];
+  private boolean[] castSight = new boolean[8];
+  private int castCount = -1;
+  // Set by invalidate(): the next update casts even if the sources did not move
+  private boolean castPending = false;
+  // Box each source of the last cast could have lit, as minX, minY, maxX, maxY
+  private int[] litBoxes = new int[32];
+  // Light of each source when several are blended, over its box only
+  private float[][] windows = new float[8][];
+  // One reusable task per window, forked to the common pool when casting in parallel
+  private CastTask[] castTasks = new CastTask[0];
+  private boolean parallel = true;
+
   public LightingSystem() {}
 
-  /** The latest visibility grid. */
-  public double[][] getVisible() {
+  /** The latest visibility grid, {@link #getGridWidth()} subcells per row. */
+  public float[] getVisible() {
     return visible;
   }
 
-  public boolean[][] getExplored() {
+  /** Explored bitset, one bit per subcell index (see {@link FieldOfView#isSet}). */
+  public long[] getExplored() {
     return explored;
   }
 
+  public boolean isExplored(int subX, int subY) {
+    return FieldOfView.isSet(explored, subY * widthBig + subX);
+  }
+
+  /**
+   * @return The explored bitset run-length encoded (see {@link ExploredCodec}) as Base64, for save
+   *     files; null before a level is prepared
+   */
+  public String encodeExplored() {
+    if (explored == null) return null;
+    return new String(
+        com.badlogic.gdx.utils.Base64Coder.encode(
+            ExploredCodec.encode(explored, widthBig * heightBig)));
+  }
+
+  /**
+   * Restores the fog of war saved by {@link #encodeExplored()}, after {@link
+   * #prepareLightingOverlay} for the same map. A null, corrupted or mismatched value leaves the map
+   * unexplored.
+   *
+   * @return True if the saved state was applied
+   */
+  public boolean restoreExplored(String encoded) {
+    if (explored == null || encoded == null || encoded.isEmpty()) return false;
+    boolean restored;
+    try {
+      byte[] data = com.badlogic.gdx.utils.Base64Coder.decode(encoded);
+      restored = ExploredCodec.decode(data, explored, widthBig * heightBig);
+    } catch (IllegalArgumentException e) {
+      java.util.Arrays.fill(explored, 0L);
+      restored = false;
+    }
+    markDirtyRows(0, heightBig - 1);
+    return restored;
+  }
+
+  /**
+   * @return Width of the grids in subcells
+   */
+  public int getGridWidth() {
+    return widthBig;
+  }
+
+  /**
+   * @return Height of the grids in subcells
+   */
+  public int getGridHeight() {
+    return heightBig;
+  }
+
   public int getSubdivisions() {
     return SUBDIVISIONS;
   }
 
+  /**
+   * @return First subdivided row whose light or explored state changed since {@link
+   *     #clearDirtyRows()}
+   */
+  public int getDirtyRowMin() {
+    return dirtyRowMin;
+  }
+
+  /**
+   * @return Last changed row (inclusive), below {@link #getDirtyRowMin()} when nothing changed
+   */
+  public int getDirtyRowMax() {
+    return dirtyRowMax;
+  }
+
+  /** Called once the changed rows have been consumed (uploaded to the light map). */
+  public void clearDirtyRows() {
+    dirtyRowMin = Integer.MAX_VALUE;
+    dirtyRowMax = -1;
+  }
+
+  private void markDirtyRows(int from, int to) {
+    if (from > to) return;
+    dirtyRowMin = Math.min(dirtyRowMin, from);
+    dirtyRowMax = Math.max(dirtyRowMax, to);
+  }
+
   /** Call when a new level is loaded. */
   public void prepareLightingOverlay(TiledMap map) {
     if (map.getLayers().getCount() == 0) return;
@@ -51,11 +162,16 @@ public class LightingSystem {
     widthBig = width * SUBDIVISIONS;
     heightBig = height * SUBDIVISIONS;
 
-    visible = new double[heightBig][widthBig];
-    resistance = new double[heightBig][widthBig];
-    explored = new boolean[heightBig][widthBig];
+    visible = new float[widthBig * heightBig];
+    resistance = new byte[widthBig * heightBig];
+    explored = new long[(widthBig * heightBig + 63) >>> 6];
 
     updateResistanceMap();
+
+    dirtyRowMin = 0;
+    dirtyRowMax = heightBig - 1;
+    lightCount = 0;
+    castCount = -1;
   }
 
   /** Updates resistance based on map walls. */
@@ -64,13 +180,12 @@ public class LightingSystem {
       for (int x = 0; x < width; x++) {
         boolean blocksLight = isBlocker(x, y);
 
-        double resValue = blocksLight ? 1.0 : 0.0;
+        byte resValue = blocksLight ? FieldOfView.OPAQUE : 0;
 
         // Set value for the SxS sub-block
         for (int sy = 0; sy < SUBDIVISIONS; sy++) {
-          for (int sx = 0; sx < SUBDIVISIONS; sx++) {
-            resistance[y * SUBDIVISIONS + sy][x * SUBDIVISIONS + sx] = resValue;
-          }
+          int rowStart = (y * SUBDIVISIONS + sy) * widthBig + x * SUBDIVISIONS;
+          java.util.Arrays.fill(resistance, rowStart, rowStart + SUBDIVISIONS, resValue);
         }
       }
     }
@@ -91,37 +206,238 @@ public class LightingSystem {
   }
 
   /**
-   * Updates Line of Sight based on player position.
+   * Updates Line of Sight based on player position, as its only light source.
    *
    * @param playerX Player X in WORLD coordinates
    * @param playerY Player Y in WORLD coordinates
    * @param tileSize Size of a tile in pixels (usually 16 or 32)
    */
   public void update(float playerX, float playerY, float tileSize) {
-    if (resistance == null) return;
+    beginLights(tileSize);
+    addSightLight(playerX, playerY);
+    updateLights();
+  }
+
+  /**
+   * Starts the list of light sources of this frame, followed by the add*Light calls and {@link
+   * #updateLights()}.
+   *
+   * @param tileSize Size of a tile in pixels
+   */
+  public void beginLights(float tileSize) {
+    this.tileSize = tileSize;
+    lightCount = 0;
+  }
+
+  /**
+   * Adds a player's sight. It snaps to the center of the tile, so the light is only recomputed when
+   * the player enters another tile. What it lights becomes explored.
+   */
+  public void addSightLight(float worldX, float worldY) {
+    int tx = (int) (worldX / tileSize);
+    int ty = (int) (worldY / tileSize);
+    addSource(
+        tx * SUBDIVISIONS + SUBDIVISIONS / 2,
+        ty * SUBDIVISIONS + SUBDIVISIONS / 2,
+        SIGHT_RADIUS * SUBDIVISIONS,
+        true);
+  }
 
-    // Convert world pos to tile pos
-    int tx = (int) (playerX / tileSize);
-    int ty = (int) (playerY / tileSize);
+  /**
+   * Adds a dynamic light (projectile, portal), following its position subcell by subcell. It lights
+   * the map without exploring it.
+   */
+  public void addLight(float worldX, float worldY, float radiusTiles) {
+    addSource(
+        (int) (worldX / tileSize * SUBDIVISIONS),
+        (int) (worldY / tileSize * SUBDIVISIONS),
+        radiusTiles * SUBDIVISIONS,
+        false);
+  }
 
-    // Convert to subdivided pos
-    // Center in the sub-cell
-    int startX = tx * SUBDIVISIONS + SUBDIVISIONS / 2;
-    int startY = ty * SUBDIVISIONS + SUBDIVISIONS / 2;
+  private void addSource(int subX, int subY, float radius, boolean sight) {
+    if (subX < 0 || subY < 0 || subX >= widthBig || subY >= heightBig || radius <= 0f) return;
+    if (lightCount == lightX.length) {
+      lightX = java.util.Arrays.copyOf(lightX, lightCount * 2);
+      lightY = java.util.Arrays.copyOf(lightY, lightCount * 2);
+      lightRadius = java.util.Arrays.copyOf(lightRadius, lightCount * 2);
+      lightSight = java.util.Arrays.copyOf(lightSight, lightCount * 2);
+    }
+    lightX[lightCount] = subX;
+    lightY[lightCount] = subY;
+    lightRadius[lightCount] = radius;
+    lightSight[lightCount] = sight;
+    lightCount++;
+  }
 
-    // Sight radius in tiles (approx 10-12 tiles looks good)
-    int sightRadius = 16;
-    double radiusBig = sightRadius * SUBDIVISIONS;
+  /** Makes the next {@link #updateLights()} cast again, even with the same sources. */
+  public void invalidate() {
+    castPending = true;
+  }
 
-    FieldOfView.reuseFOV(resistance, visible, startX, startY, radiusBig);
+  /** Casting several lights on worker threads; on by default. Off gives the same result. */
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
 
-    // Update explored state
-    for (int y = 0; y < heightBig; y++) {
-      for (int x = 0; x < widthBig; x++) {
-        if (visible[y][x] > 0.0) {
-          explored[y][x] = true;
-        }
+  /**
+   * Recomputes the light of the sources added since {@link #beginLights}, combined by keeping the
+   * brightest value of each subcell. Nothing is done while the sources stay the same, and only the
+   * boxes the previous and the new sources can reach are cleared and cast.
+   */
+  public void updateLights() {
+    if (resistance == null || (!castPending && sameSourcesAsLastCast())) return;
+    castPending = false;
+
+    // Light never reaches past the radius: clear only what the previous cast could have lit
+    for (int i = 0; i < castCount; i++) {
+      int b = i * 4;
+      for (int y = litBoxes[b + 1]; y <= litBoxes[b + 3]; y++) {
+        java.util.Arrays.fill(
+            visible, y * widthBig + litBoxes[b], y * widthBig + litBoxes[b + 2] + 1, 0f);
+      }
+      markDirtyRows(litBoxes[b + 1], litBoxes[b + 3]);
+    }
+
+    rememberSources();
+    int cells = 0;
+    for (int i = 0; i < castCount; i++) {
+      int b = i * 4;
+      markDirtyRows(litBoxes[b + 1], litBoxes[b + 3]);
+      cells += (litBoxes[b + 2] - litBoxes[b] + 1) * (litBoxes[b + 3] - litBoxes[b + 1] + 1);
+    }
+
+    if (castCount == 1) {
+      // Marks the explored cells while casting, instead of scanning the whole grid afterwards
+      FieldOfView.castFOV(
+          resistance,
+          visible,
+          castSight[0] ? explored : null,
+          widthBig,
+          castX[0],
+          castY[0],
+          castRadius[0]);
+    } else if (castCount > 1) {
+      // Each source is cast into its own window, then blended here on the calling thread
+      if (parallel && castCount >= PARALLEL_MIN_LIGHTS && cells >= PARALLEL_MIN_CELLS) {
+        castWindowsInParallel();
+      } else {
+        for (int i = 0; i < castCount; i++) castWindow(i);
       }
+      for (int i = 0; i < castCount; i++) blendWindow(i);
+    }
+  }
+
+  // The pool casts every window but the first, which the calling thread casts meanwhile
+  private void castWindowsInParallel() {
+    if (castTasks.length < castCount) {
+      int made = castTasks.length;
+      castTasks = java.util.Arrays.copyOf(castTasks, windows.length);
+      for (int i = made; i < castTasks.length; i++) castTasks[i] = new CastTask(i);
+    }
+    for (int i = 1; i < castCount; i++) {
+      castTasks[i].reinitialize();
+      castTasks[i].fork();
+    }
+    castWindow(0);
+    for (int i = 1; i < castCount; i++) castTasks[i].join();
+  }
+
+  private boolean sameSourcesAsLastCast() {
+    if (lightCount != castCount) return false;
+    for (int i = 0; i < lightCount; i++) {
+      if (lightX[i] != castX[i]
+          || lightY[i] != castY[i]
+          || lightRadius[i] != castRadius[i]
+          || lightSight[i] != castSight[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Copies the sources into the cast ones and computes the box of each
+  private void rememberSources() {
+    if (castX.length < lightCount) {
+      castX = new int[lightX.length];
+      castY = new int[lightX.length];
+      castRadius = new float[lightX.length];
+      castSight = new boolean[lightX.length];
+      litBoxes = new int[lightX.length * 4];
+      windows = java.util.Arrays.copyOf(windows, lightX.length);
+    }
+    System.arraycopy(lightX, 0, castX, 0, lightCount);
+    System.arraycopy(lightY, 0, castY, 0, lightCount);
+    System.arraycopy(lightRadius, 0, castRadius, 0, lightCount);
+    System.arraycopy(lightSight, 0, castSight, 0, lightCount);
+    castCount = lightCount;
+
+    for (int i = 0; i < castCount; i++) {
+      int reach = (int) Math.ceil(castRadius[i]) + 1;
+      int b = i * 4;
+      litBoxes[b] = Math.max(0, castX[i] - reach);
+      litBoxes[b + 1] = Math.max(0, castY[i] - reach);
+      litBoxes[b + 2] = Math.min(widthBig - 1, castX[i] + reach);
+      litBoxes[b + 3] = Math.min(heightBig - 1, castY[i] + reach);
+    }
+  }
+
+  // Runs on worker threads: only touches windows[i]
+  private void castWindow(int i) {
+    int b = i * 4;
+    int boxWidth = litBoxes[b + 2] - litBoxes[b] + 1;
+    int cells = boxWidth * (litBoxes[b + 3] - litBoxes[b + 1] + 1);
+    float[] window = windows[i];
+    if (window == null || window.length < cells) {
+      // Sized for the widest light: slots change light and boxes clipped by the map edge grow
+      float radius = Math.max(castRadius[i], SIGHT_RADIUS * SUBDIVISIONS);
+      int side = 2 * ((int) Math.ceil(radius) + 1) + 1;
+      window = new float[Math.max(cells, side * side)];
+      windows[i] = window;
+    } else {
+      java.util.Arrays.fill(window, 0, cells, 0f);
+    }
+    FieldOfView.castFOV(
+        resistance,
+        widthBig,
+        window,
+        litBoxes[b],
+        litBoxes[b + 1],
+        boxWidth,
+        null,
+        castX[i],
+        castY[i],
+        castRadius[i]);
+  }
+
+  private void blendWindow(int i) {
+    int b = i * 4;
+    int minX = litBoxes[b];
+    int boxWidth = litBoxes[b + 2] - minX + 1;
+    float[] window = windows[i];
+    boolean sight = castSight[i];
+    int local = 0;
+    for (int y = litBoxes[b + 1]; y <= litBoxes[b + 3]; y++) {
+      int index = y * widthBig + minX;
+      for (int x = 0; x < boxWidth; x++, local++, index++) {
+        float value = window[local];
+        if (value <= 0f) continue;
+        if (value > visible[index]) visible[index] = value;
+        if (sight) explored[index >>> 6] |= 1L << index;
+      }
+    }
+  }
+
+  private final class CastTask extends java.util.concurrent.RecursiveAction {
+    private final int slot;
+
+    CastTask(int slot) {
+      this.slot = slot;
+    }
+
+    @Override
+    protected void compute() {
+      castWindow(slot);
     }
   }
 }
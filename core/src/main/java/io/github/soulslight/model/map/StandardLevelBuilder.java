@@ -8,11 +8,8 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.FixtureDef;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
+import io.github.soulslight.manager.GameManager;
 import io.github.soulslight.model.enemies.AbstractEnemy;
 import io.github.soulslight.model.enemies.EnemyFactory;
 import io.github.soulslight.model.enemies.Oblivion;
@@ -34,6 +31,7 @@ import java.util.Random;
  */
 public class StandardLevelBuilder implements ILevelBuilder {
   private Level level;
+  private WallColliderBuilder.Mode wallMode = WallColliderBuilder.Mode.MERGED;
 
   public StandardLevelBuilder() {
     this.level = new Level();
@@ -157,7 +155,7 @@ public class StandardLevelBuilder implements ILevelBuilder {
     }
 
     // Shuffles spawn points
-    Collections.shuffle(spawnPoints);
+    Collections.shuffle(spawnPoints, GameManager.getInstance().getRandom());
 
     int index = 0;
 
@@ -239,7 +237,7 @@ public class StandardLevelBuilder implements ILevelBuilder {
     float totalMapHeight = prop.get("height", Integer.class) * tileH;
 
     TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(0);
-    Random rng = new Random();
+    Random rng = GameManager.getInstance().getRandom();
 
     for (Room room : level.getRoomManager().getRooms()) {
       // Skip portal rooms (last room = no enemies, just portal)
@@ -322,6 +320,12 @@ public class StandardLevelBuilder implements ILevelBuilder {
   }
 
   // --- Wall physics generation ---
+  /** Collision layout used by {@link #buildPhysicsFromMap}; merged unless set otherwise. */
+  public StandardLevelBuilder setWallColliderMode(WallColliderBuilder.Mode mode) {
+    this.wallMode = mode;
+    return this;
+  }
+
   @Override
   public ILevelBuilder buildPhysicsFromMap(World world) {
     createCollisionFromProperties(world);
@@ -330,49 +334,7 @@ public class StandardLevelBuilder implements ILevelBuilder {
 
   private void createCollisionFromProperties(World world) {
     TiledMapTileLayer layer = (TiledMapTileLayer) level.getMap().getLayers().get(0);
-    float tileSize = layer.getTileWidth();
-
-    for (int x = 0; x < layer.getWidth(); x++) {
-      for (int y = 0; y < layer.getHeight(); y++) {
-        TiledMapTileLayer.Cell cell = layer.getCell(x, y);
-
-        if (cell != null && cell.getTile() != null) {
-
-          boolean isWall = false;
-
-          // in case of tmx file: boolean "isWall"
-          if (cell.getTile().getProperties().containsKey("isWall")) {
-            isWall = cell.getTile().getProperties().get("isWall", false, Boolean.class);
-          }
-          // in case of generated maps: "type" = "wall" property
-          else if (cell.getTile().getProperties().containsKey("type")) {
-            isWall = "wall".equals(cell.getTile().getProperties().get("type", String.class));
-          }
-
-          if (isWall) {
-            createWallBody(world, x * tileSize, y * tileSize, tileSize);
-          }
-        }
-      }
-    }
-  }
-
-  private void createWallBody(World world, float x, float y, float size) {
-    BodyDef bdef = new BodyDef();
-    bdef.position.set(x + size / 2, y + size / 2);
-    bdef.type = BodyDef.BodyType.StaticBody;
-
-    Body body = world.createBody(bdef);
-    float halfSize = Math.max(0.1f, size / 2f);
-    PolygonShape shape = new PolygonShape();
-    shape.setAsBox(halfSize, halfSize);
-
-    FixtureDef fdef = new FixtureDef();
-    fdef.shape = shape;
-    fdef.friction = 0f;
-
-    body.createFixture(fdef);
-    shape.dispose();
+    WallColliderBuilder.build(world, layer, wallMode);
   }
 
   // --- ambient settings ---
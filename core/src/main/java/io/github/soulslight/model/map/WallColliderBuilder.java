@@ -0,0 +1,159 @@
+package io.github.soulslight.model.map;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * Creates the static wall collision for a tile layer. By default contiguous wall tiles are greedily
+ * merged into as few rectangles as possible, all attached to a single static body; the original
+ * one-body-per-tile layout is kept behind {@link Mode#PER_TILE} so both can be compared.
+ */
+public final class WallColliderBuilder {
+
+  /** Collision layout for wall tiles. */
+  public enum Mode {
+    PER_TILE,
+    MERGED
+  }
+
+  /** Outcome of a build, for comparing the two modes. */
+  public record Stats(Mode mode, int wallTiles, int bodies, int fixtures, long buildNanos) {}
+
+  private WallColliderBuilder() {}
+
+  /**
+   * Builds wall collision for every wall tile of the layer in the given mode.
+   *
+   * @return Stats of this build
+   */
+  public static Stats build(World world, TiledMapTileLayer layer, Mode mode) {
+    long startTime = System.nanoTime();
+    int width = layer.getWidth();
+    int height = layer.getHeight();
+    float tileSize = layer.getTileWidth();
+
+    boolean[] walls = new boolean[width * height];
+    int wallTiles = 0;
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        if (isWall(layer.getCell(x, y))) {
+          walls[y * width + x] = true;
+          wallTiles++;
+        }
+      }
+    }
+
+    int bodies;
+    int fixtures;
+    if (mode == Mode.PER_TILE) {
+      for (int i = 0; i < walls.length; i++) {
+        if (!walls[i]) continue;
+        createWallBody(world, (i % width) * tileSize, (i / width) * tileSize, tileSize);
+      }
+      bodies = wallTiles;
+      fixtures = wallTiles;
+    } else {
+      BodyDef bdef = new BodyDef();
+      bdef.type = BodyDef.BodyType.StaticBody;
+      Body body = world.createBody(bdef);
+      fixtures = mergeWalls(body, walls, width, height, tileSize);
+      bodies = 1;
+    }
+
+    return new Stats(mode, wallTiles, bodies, fixtures, System.nanoTime() - startTime);
+  }
+
+  /**
+   * Greedy meshing: take the first unclaimed wall tile in scan order, grow it right as far as
+   * possible, then grow that strip upwards while every tile of the next row is an unclaimed wall.
+   *
+   * @return Number of rectangles (fixtures) created
+   */
+  private static int mergeWalls(Body body, boolean[] walls, int width, int height, float tileSize) {
+    boolean[] claimed = new boolean[walls.length];
+    int rectangles = 0;
+
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        int index = y * width + x;
+        if (!walls[index] || claimed[index]) continue;
+
+        int w = 1;
+        while (x + w < width && walls[index + w] && !claimed[index + w]) w++;
+
+        int h = 1;
+        grow:
+        while (y + h < height) {
+          int row = (y + h) * width + x;
+          for (int i = 0; i < w; i++) {
+            if (!walls[row + i] || claimed[row + i]) break grow;
+          }
+          h++;
+        }
+
+        for (int dy = 0; dy < h; dy++) {
+          for (int dx = 0; dx < w; dx++) {
+            claimed[(y + dy) * width + x + dx] = true;
+          }
+        }
+        addBox(body, x, y, w, h, tileSize);
+        rectangles++;
+      }
+    }
+    return rectangles;
+  }
+
+  // One static body per tile, as walls were always built before merging
+  private static void createWallBody(World world, float x, float y, float size) {
+    BodyDef bdef = new BodyDef();
+    bdef.position.set(x + size / 2, y + size / 2);
+    bdef.type = BodyDef.BodyType.StaticBody;
+
+    Body body = world.createBody(bdef);
+    float halfSize = Math.max(0.1f, size / 2f);
+    PolygonShape shape = new PolygonShape();
+    shape.setAsBox(halfSize, halfSize);
+
+    FixtureDef fdef = new FixtureDef();
+    fdef.shape = shape;
+    fdef.friction = 0f;
+
+    body.createFixture(fdef);
+    shape.dispose();
+  }
+
+  // Box of w x h tiles whose bottom-left tile is (x, y), on a body sitting at the origin
+  private static void addBox(Body body, int x, int y, int w, int h, float tileSize) {
+    float halfW = w * tileSize / 2f;
+    float halfH = h * tileSize / 2f;
+
+    PolygonShape shape = new PolygonShape();
+    shape.setAsBox(halfW, halfH, new Vector2(x * tileSize + halfW, y * tileSize + halfH), 0f);
+
+    FixtureDef fdef = new FixtureDef();
+    fdef.shape = shape;
+    fdef.friction = 0f;
+
+    body.createFixture(fdef);
+    shape.dispose();
+  }
+
+  private static boolean isWall(TiledMapTileLayer.Cell cell) {
+    if (cell == null || cell.getTile() == null) return false;
+
+    // in case of tmx file: boolean "isWall"
+    if (cell.getTile().getProperties().containsKey("isWall")) {
+      return cell.getTile().getProperties().get("isWall", false, Boolean.class);
+    }
+    // in case of generated maps: "type" = "wall" property
+    if (cell.getTile().getProperties().containsKey("type")) {
+      return "wall".equals(cell.getTile().getProperties().get("type", String.class));
+    }
+    return false;
+  }
+}
@@ -20,9 +20,14 @@ public abstract class Subject {
     observers.remove(observer);
   }
 
+  /** Lets hot paths skip building event data nobody listens to. */
+  protected boolean hasObservers() {
+    return !observers.isEmpty();
+  }
+
   protected void notifyObservers(String eventType, Object data) {
-    for (Observer observer : observers) {
-      observer.update(eventType, data);
+    for (int i = 0; i < observers.size(); i++) {
+      observers.get(i).update(eventType, data);
     }
   }
 }
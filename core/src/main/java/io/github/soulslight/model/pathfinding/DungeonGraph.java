@@ -1,93 +1,207 @@
 package io.github.soulslight.model.pathfinding;
 
-import com.badlogic.gdx.ai.pfa.Connection;
-import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.utils.Array;
 
-public class DungeonGraph implements IndexedGraph<DungeonNode> {
-  private DungeonNode[] nodes;
-  private int width;
-  private int height;
+/**
+ * Packed navigation grid built from the ground layer. Nodes are plain ints ({@code y * width + x})
+ * and each one owns a single byte whose bits mark which of the 8 neighbours can be entered from it,
+ * so the whole graph is two byte arrays instead of one object per tile and one per connection.
+ *
+ * <p>Dynamic obstacles such as locked doors sit in an overlay on top of the static terrain (see
+ * {@link #setBlocked}); toggling one only touches the surrounding masks.
+ */
+public class DungeonGraph {
+  public static final int NO_NODE = -1;
+
+  /** Direction offsets: the first 4 are orthogonal, the last 4 diagonal. */
+  public static final int[] DX = {0, 0, 1, -1, 1, 1, -1, -1};
+
+  public static final int[] DY = {1, -1, 0, 0, 1, -1, 1, -1};
+  public static final int DIRECTIONS = 8;
+
+  private final int width;
+  private final int height;
   private final float tileSize;
+  private final byte[] terrain;
+  private final byte[] blockers;
+  private final byte[] walkable;
+  private final byte[] neighbours;
+  private final int[] offsets = new int[DIRECTIONS];
+  private int version = 0;
 
   public DungeonGraph(TiledMapTileLayer layer) {
     this.width = layer.getWidth();
     this.height = layer.getHeight();
     this.tileSize = layer.getTileWidth();
-    this.nodes = new DungeonNode[width * height];
+    this.terrain = new byte[width * height];
+    this.blockers = new byte[width * height];
+    this.walkable = new byte[width * height];
+    this.neighbours = new byte[width * height];
+
+    for (int dir = 0; dir < DIRECTIONS; dir++) {
+      offsets[dir] = DY[dir] * width + DX[dir];
+    }
 
-    // Create Nodes
     int index = 0;
     for (int y = 0; y < height; y++) {
       for (int x = 0; x < width; x++) {
-        boolean isWall = isWall(layer, x, y);
-        nodes[index] = new DungeonNode(x, y, index, isWall);
-        index++;
+        terrain[index++] = isWall(layer, x, y) ? (byte) 0 : (byte) 1;
       }
     }
+    System.arraycopy(terrain, 0, walkable, 0, terrain.length);
 
-    // Connect Neighbors
-    int[] dx = {0, 0, 1, -1};
-    int[] dy = {1, -1, 0, 0};
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        neighbours[y * width + x] = computeNeighbourMask(x, y);
+      }
+    }
+  }
 
-    // Diagonal support
-    int[] diagX = {1, 1, -1, -1};
-    int[] diagY = {1, -1, 1, -1};
+  private byte computeNeighbourMask(int x, int y) {
+    if (isWall(x, y)) return 0;
 
-    for (DungeonNode node : nodes) {
-      if (node.isWall) continue;
+    int mask = 0;
+    for (int dir = 0; dir < DIRECTIONS; dir++) {
+      int nx = x + DX[dir];
+      int ny = y + DY[dir];
+      if (isWall(nx, ny)) continue;
 
-      // Orthogonal
-      for (int i = 0; i < 4; i++) {
-        int nx = node.x + dx[i];
-        int ny = node.y + dy[i];
-        addConnectionIfExists(node, nx, ny);
-      }
+      // Only allow diagonals if both adjacent orthogonal tiles are walkable (prevent cutting
+      // corners through walls)
+      if (dir >= 4 && (isWall(nx, y) || isWall(x, ny))) continue;
 
-      // Diagonal (Optional, enables smoother movement)
-      for (int i = 0; i < 4; i++) {
-        int nx = node.x + diagX[i];
-        int ny = node.y + diagY[i];
-
-        // Only add diagonal if both adjacent orthogonal tiles are walkable (prevent
-        // cutting corners through walls)
-        if (isValid(nx, ny) && !isWall(nx, ny)) {
-          if (!isWall(node.x + diagX[i], node.y) && !isWall(node.x, node.y + diagY[i])) {
-            addConnectionIfExists(node, nx, ny);
-          }
-        }
-      }
+      mask |= 1 << dir;
     }
+    return (byte) mask;
+  }
+
+  private DungeonGraph(DungeonGraph source) {
+    this.width = source.width;
+    this.height = source.height;
+    this.tileSize = source.tileSize;
+    this.terrain = source.terrain.clone();
+    this.blockers = source.blockers.clone();
+    this.walkable = source.walkable.clone();
+    this.neighbours = source.neighbours.clone();
+    System.arraycopy(source.offsets, 0, offsets, 0, DIRECTIONS);
+    this.version = source.version;
   }
 
-  private void addConnectionIfExists(DungeonNode node, int nx, int ny) {
-    if (isValid(nx, ny)) {
-      DungeonNode neighbor = getNode(nx, ny);
-      if (!neighbor.isWall) {
-        node.addConnection(neighbor);
+  /**
+   * Copies the current walkability into a detached graph made only of primitive arrays, safe to
+   * search from worker threads. The copy must not be modified; take a new one after {@link
+   * #getVersion()} changes.
+   */
+  public DungeonGraph snapshot() {
+    return new DungeonGraph(this);
+  }
+
+  // --- Dynamic Obstacles ---
+
+  /**
+   * Adds or removes a dynamic blocker on a tile. Blockers stack, so a tile covered by two doors
+   * only opens once both are gone. When the tile's walkability flips, only its own mask and those
+   * of its 8 neighbours are recomputed.
+   *
+   * @param blocked True to add a blocker, false to remove one
+   */
+  public void setBlocked(int x, int y, boolean blocked) {
+    if (!isValid(x, y)) return;
+    int index = y * width + x;
+
+    if (blocked) {
+      blockers[index]++;
+    } else if (blockers[index] > 0) {
+      blockers[index]--;
+    }
+
+    byte now = (terrain[index] != 0 && blockers[index] == 0) ? (byte) 1 : (byte) 0;
+    if (now == walkable[index]) return;
+    walkable[index] = now;
+
+    for (int ny = y - 1; ny <= y + 1; ny++) {
+      for (int nx = x - 1; nx <= x + 1; nx++) {
+        if (isValid(nx, ny)) neighbours[ny * width + nx] = computeNeighbourMask(nx, ny);
       }
     }
+    version++;
   }
 
-  public DungeonNode getNode(int x, int y) {
-    if (!isValid(x, y)) return null;
-    return nodes[y * width + x];
+  /**
+   * @return Counter bumped whenever walkability changes; compare against a stored value to detect
+   *     stale paths or fields
+   */
+  public int getVersion() {
+    return version;
   }
 
-  public DungeonNode getNodeAtWorldPos(float worldX, float worldY) {
-    int x = (int) (worldX / tileSize);
-    int y = (int) (worldY / tileSize);
-    return getNode(x, y);
+  // --- Node Queries ---
+
+  public int getNodeCount() {
+    return walkable.length;
   }
 
-  private boolean isValid(int x, int y) {
-    return x >= 0 && x < width && y >= 0 && y < height;
+  public int getWidth() {
+    return width;
   }
 
-  private boolean isWall(int x, int y) {
+  public int getHeight() {
+    return height;
+  }
+
+  public float getTileSize() {
+    return tileSize;
+  }
+
+  public int indexOf(int x, int y) {
+    if (!isValid(x, y)) return NO_NODE;
+    return y * width + x;
+  }
+
+  public int getIndexAtWorldPos(float worldX, float worldY) {
+    if (worldX < 0 || worldY < 0) return NO_NODE;
+    return indexOf((int) (worldX / tileSize), (int) (worldY / tileSize));
+  }
+
+  public int xOf(int index) {
+    return index % width;
+  }
+
+  public int yOf(int index) {
+    return index / width;
+  }
+
+  public float worldCenterX(int index) {
+    return xOf(index) * tileSize + tileSize / 2f;
+  }
+
+  public float worldCenterY(int index) {
+    return yOf(index) * tileSize + tileSize / 2f;
+  }
+
+  public boolean isWalkable(int index) {
+    return index >= 0 && index < walkable.length && walkable[index] != 0;
+  }
+
+  public boolean isWall(int x, int y) {
     if (!isValid(x, y)) return true;
-    return nodes[y * width + x].isWall;
+    return walkable[y * width + x] == 0;
+  }
+
+  /**
+   * @return Bitmask of enterable neighbours; bit {@code d} refers to {@link #DX}/{@link #DY}[d]
+   */
+  public int getNeighbourMask(int index) {
+    return neighbours[index] & 0xFF;
+  }
+
+  /** Index of the neighbour in the given direction. Only valid if its mask bit is set. */
+  public int getNeighbour(int index, int dir) {
+    return index + offsets[dir];
+  }
+
+  private boolean isValid(int x, int y) {
+    return x >= 0 && x < width && y >= 0 && y < height;
   }
 
   // Helper to parse from layer
@@ -104,19 +218,4 @@ public class DungeonGraph implements IndexedGraph<DungeonNode> {
 
     return false;
   }
-
-  @Override
-  public int getIndex(DungeonNode node) {
-    return node.getIndex();
-  }
-
-  @Override
-  public int getNodeCount() {
-    return nodes.length;
-  }
-
-  @Override
-  public Array<Connection<DungeonNode>> getConnections(DungeonNode fromNode) {
-    return fromNode.getConnections();
-  }
 }
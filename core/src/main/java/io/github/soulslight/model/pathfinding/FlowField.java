@@ -0,0 +1,112 @@
+package io.github.soulslight.model.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Dijkstra map (flow field) towards a single goal tile. Every reachable node stores the index of
+ * the neighbour one step closer to the goal, so any number of followers resolve their next waypoint
+ * with one array lookup instead of running their own A* search.
+ */
+public class FlowField {
+  public static final int UNREACHABLE = -1;
+
+  private final DungeonGraph graph;
+  private final int[] distance;
+  private final int[] nextHop;
+  private final int[] queue;
+  private int goalIndex = UNREACHABLE;
+  private int builtVersion;
+  private int rebuildCount = 0;
+
+  public FlowField(DungeonGraph graph) {
+    this.graph = graph;
+    int count = graph.getNodeCount();
+    this.distance = new int[count];
+    this.nextHop = new int[count];
+    this.queue = new int[count];
+    Arrays.fill(distance, UNREACHABLE);
+    Arrays.fill(nextHop, UNREACHABLE);
+  }
+
+  /**
+   * Moves the goal to the given tile. The field is only recomputed when the goal tile actually
+   * changes or a door has opened or closed since, so a player standing still (or moving inside one
+   * tile) costs nothing.
+   *
+   * @return True if the field was rebuilt
+   */
+  public boolean setGoal(int goalX, int goalY) {
+    int index = graph.indexOf(goalX, goalY);
+    if (!graph.isWalkable(index)) index = UNREACHABLE;
+    if (index == goalIndex && builtVersion == graph.getVersion()) return false;
+
+    goalIndex = index;
+    rebuild();
+    return true;
+  }
+
+  /** Drops the goal, e.g. when the tracked player dies. */
+  public void clear() {
+    if (goalIndex == UNREACHABLE) return;
+    goalIndex = UNREACHABLE;
+    Arrays.fill(distance, UNREACHABLE);
+    Arrays.fill(nextHop, UNREACHABLE);
+  }
+
+  private void rebuild() {
+    Arrays.fill(distance, UNREACHABLE);
+    Arrays.fill(nextHop, UNREACHABLE);
+    builtVersion = graph.getVersion();
+    if (goalIndex == UNREACHABLE) return;
+
+    // Every step costs 1 here, so a breadth-first sweep yields an exact Dijkstra map
+    int head = 0;
+    int tail = 0;
+    distance[goalIndex] = 0;
+    nextHop[goalIndex] = goalIndex;
+    queue[tail++] = goalIndex;
+
+    while (head < tail) {
+      int current = queue[head++];
+      int mask = graph.getNeighbourMask(current);
+      for (int dir = 0; dir < DungeonGraph.DIRECTIONS; dir++) {
+        if ((mask & (1 << dir)) == 0) continue;
+
+        int neighbor = graph.getNeighbour(current, dir);
+        if (distance[neighbor] != UNREACHABLE) continue;
+        distance[neighbor] = distance[current] + 1;
+        nextHop[neighbor] = current;
+        queue[tail++] = neighbor;
+      }
+    }
+    rebuildCount++;
+  }
+
+  public boolean hasGoal() {
+    return goalIndex != UNREACHABLE;
+  }
+
+  public int getGoalIndex() {
+    return goalIndex;
+  }
+
+  /**
+   * @return Index of the next node towards the goal, or {@link #UNREACHABLE}
+   */
+  public int getNextHop(int nodeIndex) {
+    if (nodeIndex < 0 || nodeIndex >= nextHop.length) return UNREACHABLE;
+    return nextHop[nodeIndex];
+  }
+
+  /**
+   * @return Steps from the node to the goal, or {@link #UNREACHABLE}
+   */
+  public int getDistance(int nodeIndex) {
+    if (nodeIndex < 0 || nodeIndex >= distance.length) return UNREACHABLE;
+    return distance[nodeIndex];
+  }
+
+  public int getRebuildCount() {
+    return rebuildCount;
+  }
+}
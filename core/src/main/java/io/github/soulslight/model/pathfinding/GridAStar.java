@@ -0,0 +1,245 @@
+package io.github.soulslight.model.pathfinding;
+
+/**
+ * A* over the packed {@link DungeonGraph}. All per-node bookkeeping lives in int arrays sized once
+ * for the grid, and a generation stamp replaces clearing them between searches, so a search
+ * allocates nothing.
+ *
+ * <p>Costs are octile (10 orthogonal, 14 diagonal) with a matching admissible heuristic. Searches
+ * can run in one go ({@link #search}) or in slices ({@link #begin}/{@link #step}) spread over
+ * several frames.
+ */
+public class GridAStar {
+  /** Progress of an interruptible search. */
+  public enum Status {
+    RUNNING,
+    FOUND,
+    FAILED
+  }
+
+  private static final int ORTHOGONAL_COST = 10;
+  private static final int DIAGONAL_COST = 14;
+
+  private final DungeonGraph graph;
+  private final int[] gCost;
+  private final int[] fCost;
+  private final int[] parent;
+  private final int[] seenStamp;
+  private final int[] closedStamp;
+
+  // Binary min-heap on fCost; heapIndex maps node -> slot for decrease-key
+  private final int[] heap;
+  private final int[] heapIndex;
+  private int heapSize;
+
+  private int generation = 0;
+  private Status status = Status.FAILED;
+  private int goal;
+  private int goalX;
+  private int goalY;
+  private int lastExpanded;
+
+  public GridAStar(DungeonGraph graph) {
+    this.graph = graph;
+    int count = graph.getNodeCount();
+    this.gCost = new int[count];
+    this.fCost = new int[count];
+    this.parent = new int[count];
+    this.seenStamp = new int[count];
+    this.closedStamp = new int[count];
+    this.heap = new int[count];
+    this.heapIndex = new int[count];
+  }
+
+  /**
+   * Searches a path between two nodes.
+   *
+   * @param start Start node index
+   * @param goal Goal node index
+   * @param out Receives the path (start and goal included); cleared on failure
+   * @return True if the goal is reachable
+   */
+  public boolean search(int start, int goal, GridPath out) {
+    out.reset(graph.getWidth());
+    if (!begin(start, goal)) return false;
+    if (step(Integer.MAX_VALUE) != Status.FOUND) return false;
+    buildPath(out);
+    return true;
+  }
+
+  /**
+   * Starts an interruptible search. Drive it with {@link #step} until it stops returning {@link
+   * Status#RUNNING}; starting another search in between discards this one.
+   *
+   * @return False if the query is invalid (no search is started)
+   */
+  public boolean begin(int start, int goal) {
+    lastExpanded = 0;
+    heapSize = 0;
+    if (start < 0 || goal < 0 || !graph.isWalkable(goal)) {
+      status = Status.FAILED;
+      return false;
+    }
+
+    nextGeneration();
+    this.goal = goal;
+    goalX = graph.xOf(goal);
+    goalY = graph.yOf(goal);
+
+    seenStamp[start] = generation;
+    gCost[start] = 0;
+    parent[start] = DungeonGraph.NO_NODE;
+    fCost[start] = heuristic(start);
+    push(start);
+    status = Status.RUNNING;
+    return true;
+  }
+
+  /**
+   * Expands up to {@code maxExpansions} nodes of the search started by {@link #begin}.
+   *
+   * @return The search status after this slice
+   */
+  public Status step(int maxExpansions) {
+    if (status != Status.RUNNING) return status;
+
+    for (int expanded = 0; expanded < maxExpansions; expanded++) {
+      if (heapSize == 0) {
+        status = Status.FAILED;
+        return status;
+      }
+
+      int current = pop();
+      closedStamp[current] = generation;
+      lastExpanded++;
+
+      if (current == goal) {
+        status = Status.FOUND;
+        return status;
+      }
+
+      int mask = graph.getNeighbourMask(current);
+      for (int dir = 0; dir < DungeonGraph.DIRECTIONS; dir++) {
+        if ((mask & (1 << dir)) == 0) continue;
+
+        int next = graph.getNeighbour(current, dir);
+        if (closedStamp[next] == generation) continue;
+
+        int g = gCost[current] + (dir < 4 ? ORTHOGONAL_COST : DIAGONAL_COST);
+        if (seenStamp[next] != generation) {
+          seenStamp[next] = generation;
+          gCost[next] = g;
+          parent[next] = current;
+          fCost[next] = g + heuristic(next);
+          push(next);
+        } else if (g < gCost[next]) {
+          gCost[next] = g;
+          parent[next] = current;
+          fCost[next] = g + heuristic(next);
+          siftUp(heapIndex[next]);
+        }
+      }
+    }
+    return status;
+  }
+
+  /**
+   * Writes the path of a search that returned {@link Status#FOUND}.
+   *
+   * @param out Receives the path, start and goal included
+   */
+  public void buildPath(GridPath out) {
+    out.reset(graph.getWidth());
+    if (status != Status.FOUND) return;
+
+    int length = 0;
+    for (int node = goal; node != DungeonGraph.NO_NODE; node = parent[node]) length++;
+
+    out.setCount(length);
+    int i = length - 1;
+    for (int node = goal; node != DungeonGraph.NO_NODE; node = parent[node]) {
+      out.set(i--, node);
+    }
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public DungeonGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * @return Nodes expanded by the last search
+   */
+  public int getLastExpandedCount() {
+    return lastExpanded;
+  }
+
+  private int heuristic(int node) {
+    int dx = Math.abs(graph.xOf(node) - goalX);
+    int dy = Math.abs(graph.yOf(node) - goalY);
+    return ORTHOGONAL_COST * (dx + dy) + (DIAGONAL_COST - 2 * ORTHOGONAL_COST) * Math.min(dx, dy);
+  }
+
+  private void nextGeneration() {
+    if (generation == Integer.MAX_VALUE) {
+      java.util.Arrays.fill(seenStamp, 0);
+      java.util.Arrays.fill(closedStamp, 0);
+      generation = 0;
+    }
+    generation++;
+  }
+
+  // --- Heap ---
+
+  private void push(int node) {
+    heap[heapSize] = node;
+    heapIndex[node] = heapSize;
+    siftUp(heapSize++);
+  }
+
+  private int pop() {
+    int top = heap[0];
+    heapSize--;
+    if (heapSize > 0) {
+      heap[0] = heap[heapSize];
+      heapIndex[heap[0]] = 0;
+      siftDown(0);
+    }
+    return top;
+  }
+
+  private void siftUp(int slot) {
+    int node = heap[slot];
+    int f = fCost[node];
+    while (slot > 0) {
+      int parentSlot = (slot - 1) >> 1;
+      int parentNode = heap[parentSlot];
+      if (fCost[parentNode] <= f) break;
+      heap[slot] = parentNode;
+      heapIndex[parentNode] = slot;
+      slot = parentSlot;
+    }
+    heap[slot] = node;
+    heapIndex[node] = slot;
+  }
+
+  private void siftDown(int slot) {
+    int node = heap[slot];
+    int f = fCost[node];
+    int half = heapSize >> 1;
+    while (slot < half) {
+      int child = 2 * slot + 1;
+      int right = child + 1;
+      if (right < heapSize && fCost[heap[right]] < fCost[heap[child]]) child = right;
+      if (f <= fCost[heap[child]]) break;
+      heap[slot] = heap[child];
+      heapIndex[heap[slot]] = slot;
+      slot = child;
+    }
+    heap[slot] = node;
+    heapIndex[node] = slot;
+  }
+}
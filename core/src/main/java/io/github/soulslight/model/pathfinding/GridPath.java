@@ -0,0 +1,80 @@
+package io.github.soulslight.model.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Reusable path buffer of node indices, ordered from start to goal. Callers keep one instance and
+ * let every search overwrite it, so following a path never allocates.
+ */
+public class GridPath {
+  private int[] nodes;
+  private int count;
+  private int width = 1;
+
+  public GridPath() {
+    this(64);
+  }
+
+  public GridPath(int initialCapacity) {
+    this.nodes = new int[Math.max(1, initialCapacity)];
+  }
+
+  /**
+   * Empties the buffer for a grid of the given width (needed for {@link #getX}/{@link #getY}).
+   *
+   * @param width Width of the grid the node indices belong to
+   */
+  public void reset(int width) {
+    this.width = width;
+    this.count = 0;
+  }
+
+  public void clear() {
+    this.count = 0;
+  }
+
+  /** Sizes the buffer for exactly {@code size} nodes, to be filled with {@link #set}. */
+  void setCount(int size) {
+    if (size > nodes.length) {
+      int capacity = nodes.length;
+      while (capacity < size) capacity *= 2;
+      nodes = Arrays.copyOf(nodes, capacity);
+    }
+    count = size;
+  }
+
+  void set(int i, int node) {
+    nodes[i] = node;
+  }
+
+  public void add(int node) {
+    setCount(count + 1);
+    nodes[count - 1] = node;
+  }
+
+  public void set(GridPath other) {
+    this.width = other.width;
+    setCount(other.count);
+    System.arraycopy(other.nodes, 0, nodes, 0, other.count);
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  public int get(int i) {
+    return nodes[i];
+  }
+
+  public int getX(int i) {
+    return nodes[i] % width;
+  }
+
+  public int getY(int i) {
+    return nodes[i] / width;
+  }
+}
@@ -0,0 +1,309 @@
+package io.github.soulslight.model.pathfinding;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.soulslight.model.room.DoorPosition;
+import io.github.soulslight.model.room.RoomData;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Two-level (HPA*-style) pathfinder for room-based dungeons. Rooms from {@link RoomData} form the
+ * clusters and the doors detected during generation are the portals between them. Portal-to-portal
+ * costs are measured once at build time, so a long-range query is a small Dijkstra over the portals
+ * followed by a tile-level A* for the first segment only.
+ */
+public class HierarchicalPathfinder {
+  private static final short CORRIDOR = -1;
+  private static final int NO_PORTAL = -1;
+  private static final int UNREACHABLE = -2;
+  private static final int INFINITY = Integer.MAX_VALUE;
+
+  // Cap for floods started from corridor tiles, which are not bounded by a room
+  private static final int QUERY_FLOOD_LIMIT = 4096;
+
+  private final DungeonGraph graph;
+  private final GridAStar tileSearch;
+
+  private final short[] clusterOf;
+  private final int[] portalAt;
+  private final int[] portalTiles;
+  private final int[][] edgeTarget;
+  private final int[][] edgeCost;
+
+  // Flood scratch (stamped, never cleared)
+  private final int[] floodStamp;
+  private final int[] floodDist;
+  private final int[] floodQueue;
+  private int floodGeneration = 0;
+
+  // Abstract search scratch: portals + start + goal
+  private final int[] startCost;
+  private final int[] goalCost;
+  private final int[] abstractDist;
+  private final int[] abstractPrev;
+  private final boolean[] settled;
+
+  public HierarchicalPathfinder(DungeonGraph graph, GridAStar tileSearch, List<RoomData> rooms) {
+    this.graph = graph;
+    this.tileSearch = tileSearch;
+
+    int nodeCount = graph.getNodeCount();
+    this.clusterOf = new short[nodeCount];
+    this.portalAt = new int[nodeCount];
+    this.floodStamp = new int[nodeCount];
+    this.floodDist = new int[nodeCount];
+    this.floodQueue = new int[nodeCount];
+    Arrays.fill(clusterOf, CORRIDOR);
+    Arrays.fill(portalAt, NO_PORTAL);
+
+    float tileSize = graph.getTileSize();
+    int[] portalOwner = new int[nodeCount];
+    int portalCount = 0;
+
+    for (int r = 0; r < rooms.size(); r++) {
+      Rectangle bounds = rooms.get(r).bounds();
+      int minX = (int) (bounds.x / tileSize);
+      int minY = (int) (bounds.y / tileSize);
+      int maxX = (int) ((bounds.x + bounds.width) / tileSize);
+      int maxY = (int) ((bounds.y + bounds.height) / tileSize);
+      for (int y = minY; y < maxY; y++) {
+        for (int x = minX; x < maxX; x++) {
+          int index = graph.indexOf(x, y);
+          if (index != DungeonGraph.NO_NODE) clusterOf[index] = (short) r;
+        }
+      }
+    }
+
+    // Portals sit on the corridor tile at the center of each detected door run
+    for (int r = 0; r < rooms.size(); r++) {
+      for (DoorPosition door : rooms.get(r).doorPositions()) {
+        int index = graph.getIndexAtWorldPos(door.position().x, door.position().y);
+        if (!graph.isWalkable(index) || portalAt[index] != NO_PORTAL) continue;
+        portalAt[index] = portalCount;
+        portalOwner[portalCount] = r;
+        portalCount++;
+      }
+    }
+
+    this.portalTiles = new int[portalCount];
+    for (int i = 0; i < nodeCount; i++) {
+      if (portalAt[i] != NO_PORTAL) portalTiles[portalAt[i]] = i;
+    }
+
+    this.startCost = new int[portalCount];
+    this.goalCost = new int[portalCount];
+    this.abstractDist = new int[portalCount + 2];
+    this.abstractPrev = new int[portalCount + 2];
+    this.settled = new boolean[portalCount + 2];
+
+    // Abstract edges: everything a portal reaches through the corridors or any room it opens into.
+    // A door shared by two rooms is registered once, so both sides are flooded to keep the edges
+    // symmetric.
+    this.edgeTarget = new int[portalCount][];
+    this.edgeCost = new int[portalCount][];
+    int[] reached = new int[portalCount];
+    int[] roomReached = new int[portalCount];
+    IntArray adjacentRooms = new IntArray(4);
+    for (int p = 0; p < portalCount; p++) {
+      collectAdjacentRooms(portalTiles[p], portalOwner[p], adjacentRooms);
+      Arrays.fill(reached, INFINITY);
+      for (int i = 0; i < adjacentRooms.size; i++) {
+        flood(portalTiles[p], adjacentRooms.get(i), true, Integer.MAX_VALUE, roomReached);
+        for (int q = 0; q < portalCount; q++) {
+          reached[q] = Math.min(reached[q], roomReached[q]);
+        }
+      }
+
+      int edges = 0;
+      for (int q = 0; q < portalCount; q++) {
+        if (q != p && reached[q] != INFINITY) edges++;
+      }
+      edgeTarget[p] = new int[edges];
+      edgeCost[p] = new int[edges];
+      int e = 0;
+      for (int q = 0; q < portalCount; q++) {
+        if (q == p || reached[q] == INFINITY) continue;
+        edgeTarget[p][e] = q;
+        edgeCost[p][e] = reached[q];
+        e++;
+      }
+    }
+  }
+
+  /**
+   * Finds the path to the first portal on the abstract route towards the goal. When both ends are
+   * in the same cluster the full tile path is returned instead.
+   *
+   * @param out Receives the tile path of the current segment
+   * @return True if the goal is reachable
+   */
+  public boolean findPath(int start, int goal, GridPath out) {
+    if (start == DungeonGraph.NO_NODE || !graph.isWalkable(goal)) {
+      out.reset(graph.getWidth());
+      return false;
+    }
+
+    short startCluster = clusterOf[start];
+    short goalCluster = clusterOf[goal];
+    if (startCluster != CORRIDOR && startCluster == goalCluster) {
+      return tileSearch.search(start, goal, out);
+    }
+
+    // Connect start: portals reachable without leaving its cluster
+    if (!floodFrom(start, startCost)) return tileSearch.search(start, goal, out);
+    if (floodStamp[goal] == floodGeneration) return tileSearch.search(start, goal, out);
+
+    // Connect goal (the grid is symmetric, so flooding from the goal gives costs into it)
+    if (!floodFrom(goal, goalCost)) return tileSearch.search(start, goal, out);
+
+    int next = solveAbstract(start);
+    if (next == UNREACHABLE) {
+      out.reset(graph.getWidth());
+      return false;
+    }
+    // Standing on the last portal already: the goal is in the next cluster
+    if (next == NO_PORTAL) return tileSearch.search(start, goal, out);
+    return tileSearch.search(start, portalTiles[next], out);
+  }
+
+  public int getPortalCount() {
+    return portalTiles.length;
+  }
+
+  public int getClusterOf(int index) {
+    return clusterOf[index];
+  }
+
+  // The room that registered the portal plus every other room touching its tile
+  private void collectAdjacentRooms(int portalTile, int owner, IntArray out) {
+    out.clear();
+    out.add(owner);
+    if (clusterOf[portalTile] != CORRIDOR && !out.contains(clusterOf[portalTile])) {
+      out.add(clusterOf[portalTile]);
+    }
+    int mask = graph.getNeighbourMask(portalTile);
+    for (int dir = 0; dir < DungeonGraph.DIRECTIONS; dir++) {
+      if ((mask & (1 << dir)) == 0) continue;
+      short cluster = clusterOf[graph.getNeighbour(portalTile, dir)];
+      if (cluster != CORRIDOR && !out.contains(cluster)) out.add(cluster);
+    }
+  }
+
+  private boolean floodFrom(int source, int[] costs) {
+    short cluster = clusterOf[source];
+    if (cluster == CORRIDOR) {
+      return flood(source, CORRIDOR, true, QUERY_FLOOD_LIMIT, costs);
+    }
+    return flood(source, cluster, false, Integer.MAX_VALUE, costs);
+  }
+
+  /**
+   * Breadth-first flood from {@code source} over tiles of {@code room} and the corridors, recording
+   * the step count to every portal met.
+   *
+   * @param expandCorridors If false, corridor tiles are reached but not expanded
+   * @return False if the node limit was hit before the flood finished
+   */
+  private boolean flood(int source, int room, boolean expandCorridors, int limit, int[] costs) {
+    Arrays.fill(costs, INFINITY);
+    floodGeneration++;
+
+    int head = 0;
+    int tail = 0;
+    floodStamp[source] = floodGeneration;
+    floodDist[source] = 0;
+    floodQueue[tail++] = source;
+
+    while (head < tail) {
+      int current = floodQueue[head++];
+      if (portalAt[current] != NO_PORTAL && costs[portalAt[current]] == INFINITY) {
+        costs[portalAt[current]] = floodDist[current];
+      }
+      if (current != source && clusterOf[current] == CORRIDOR && !expandCorridors) continue;
+
+      int mask = graph.getNeighbourMask(current);
+      for (int dir = 0; dir < DungeonGraph.DIRECTIONS; dir++) {
+        if ((mask & (1 << dir)) == 0) continue;
+
+        int next = graph.getNeighbour(current, dir);
+        if (floodStamp[next] == floodGeneration) continue;
+        short cluster = clusterOf[next];
+        if (cluster != CORRIDOR && cluster != room) continue;
+
+        if (tail >= limit) return false;
+        floodStamp[next] = floodGeneration;
+        floodDist[next] = floodDist[current] + 1;
+        floodQueue[tail++] = next;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Dijkstra over portals plus the virtual start and goal nodes. The graph has a few dozen nodes,
+   * so the quadratic scan beats maintaining a heap.
+   *
+   * @return The first portal to walk to, {@link #NO_PORTAL} if the route needs none besides the
+   *     start tile, or {@link #UNREACHABLE}
+   */
+  private int solveAbstract(int start) {
+    int portals = portalTiles.length;
+    int startNode = portals;
+    int goalNode = portals + 1;
+
+    Arrays.fill(abstractDist, INFINITY);
+    Arrays.fill(abstractPrev, NO_PORTAL);
+    Arrays.fill(settled, false);
+    abstractDist[startNode] = 0;
+
+    while (true) {
+      int current = NO_PORTAL;
+      int best = INFINITY;
+      for (int i = 0; i < abstractDist.length; i++) {
+        if (!settled[i] && abstractDist[i] < best) {
+          best = abstractDist[i];
+          current = i;
+        }
+      }
+      if (current == NO_PORTAL) return UNREACHABLE;
+      if (current == goalNode) break;
+      settled[current] = true;
+
+      if (current == startNode) {
+        for (int p = 0; p < portals; p++) {
+          if (startCost[p] != INFINITY && isOpen(p)) relax(current, p, startCost[p]);
+        }
+        continue;
+      }
+
+      if (goalCost[current] != INFINITY) relax(current, goalNode, goalCost[current]);
+      int[] targets = edgeTarget[current];
+      int[] costs = edgeCost[current];
+      for (int e = 0; e < targets.length; e++) {
+        if (isOpen(targets[e])) relax(current, targets[e], costs[e]);
+      }
+    }
+
+    // Walk back to the first portal that is not the tile we are already standing on
+    int first = NO_PORTAL;
+    for (int node = abstractPrev[goalNode]; node != startNode; node = abstractPrev[node]) {
+      if (portalTiles[node] != start) first = node;
+    }
+    return first;
+  }
+
+  // Portals under a locked door stay in the graph but cannot be routed through
+  private boolean isOpen(int portal) {
+    return graph.isWalkable(portalTiles[portal]);
+  }
+
+  private void relax(int from, int to, int cost) {
+    if (settled[to]) return;
+    int candidate = abstractDist[from] + cost;
+    if (candidate < abstractDist[to]) {
+      abstractDist[to] = candidate;
+      abstractPrev[to] = from;
+    }
+  }
+}
@@ -28,19 +28,16 @@ public class Box2DPhysicsAdapter implements ContactListener {
     Object userA = getUserData(fa);
     Object userB = getUserData(fb);
 
-    handler.handleBeginContact(userA, userB);
-
-    // SpikedBall special case needing Normal
-    Vector2 normal = contact.getWorldManifold().getNormal();
-
-    // Check A vs Wall
-    if (isSpikedBall(userA) && isWall(fb)) {
-      handler.handleSpikedBallHit(userA, normal.cpy());
-    }
-    // Check B vs Wall (invert normal)
-    if (isSpikedBall(userB) && isWall(fa)) {
-      handler.handleSpikedBallHit(userB, normal.cpy().scl(-1));
-    }
+    short categoryA = getCategory(fa);
+    short categoryB = getCategory(fb);
+
+    // The manifold is computed on demand by Box2D: only fetch it for pairs that use the normal
+    Vector2 normal =
+        handler.needsManifold(categoryA, categoryB)
+            ? contact.getWorldManifold().getNormal()
+            : null;
+
+    handler.handleBeginContact(userA, userB, categoryA, categoryB, normal);
   }
 
   @Override
@@ -51,7 +48,7 @@ public class Box2DPhysicsAdapter implements ContactListener {
     Object userA = getUserData(fa);
     Object userB = getUserData(fb);
 
-    handler.handleEndContact(userA, userB);
+    handler.handleEndContact(userA, userB, getCategory(fa), getCategory(fb));
   }
 
   @Override
@@ -65,12 +62,8 @@ public class Box2DPhysicsAdapter implements ContactListener {
     return f.getBody().getUserData();
   }
 
-  private boolean isSpikedBall(Object o) {
-    return o instanceof io.github.soulslight.model.enemies.SpikedBall;
-  }
-
-  private boolean isWall(Fixture f) {
-    // Check for static body as Wall proxy
-    return f != null && f.getBody().getType() == BodyDef.BodyType.StaticBody;
+  // Fixture.getFilterData() fills a cached Filter, no allocation
+  private short getCategory(Fixture f) {
+    return f == null ? 0 : f.getFilterData().categoryBits;
   }
 }
@@ -1,11 +1,26 @@
 package io.github.soulslight.model.physics;
 
+import com.badlogic.gdx.math.Vector2;
+
 /**
  * GoF Pattern: Adapter (Adaptee Interface) Defines the domain-specific collision handling methods
  * that operate on game entities rather than Box2D fixtures.
  */
 public interface CollisionHandler {
-  void handleBeginContact(Object userA, Object userB);
+  /**
+   * @return True if contacts between the two categories need the contact normal, which the adapter
+   *     then fetches from the physics engine
+   */
+  boolean needsManifold(short categoryA, short categoryB);
+
+  /**
+   * @param categoryA Collision category bits (Constants.BIT_*) of the first fixture
+   * @param categoryB Collision category bits of the second fixture
+   * @param normal Contact normal from the first fixture to the second, null unless {@link
+   *     #needsManifold} asked for it
+   */
+  void handleBeginContact(
+      Object userA, Object userB, short categoryA, short categoryB, Vector2 normal);
 
-  void handleEndContact(Object userA, Object userB);
+  void handleEndContact(Object userA, Object userB, short categoryA, short categoryB);
 }
@@ -0,0 +1,113 @@
+package io.github.soulslight.model.physics;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Collision rules indexed by the category bits (Constants.BIT_*) of the two fixtures in contact. A
+ * contact between categories nobody registered for costs one array lookup; otherwise only the rules
+ * of that pair run, with the two objects already in the order they were registered in.
+ *
+ * <p>Categories are indexed by their lowest set bit, fixtures being given a single BIT_* each.
+ */
+public final class ContactDispatchTable {
+
+  /**
+   * Logic for one pair of categories. a belongs to the first registered category, b to the other.
+   */
+  public interface Rule {
+    /**
+     * @param normal Contact normal pointing from a to b, only when registered with the manifold
+     *     (null otherwise). Reused: copy it to keep it.
+     */
+    void begin(Object a, Object b, Vector2 normal);
+
+    default void end(Object a, Object b) {}
+  }
+
+  private static final int CATEGORIES = Short.SIZE + 1;
+  private static final int NO_CATEGORY = Short.SIZE;
+
+  private static final class Entry {
+    final Rule rule;
+    // Fixtures arrive in the opposite order of registration
+    final boolean swapped;
+    Entry next;
+
+    Entry(Rule rule, boolean swapped) {
+      this.rule = rule;
+      this.swapped = swapped;
+    }
+  }
+
+  private final Entry[] entries = new Entry[CATEGORIES * CATEGORIES];
+  private final boolean[] needsManifold = new boolean[CATEGORIES * CATEGORIES];
+  private final Vector2 flippedNormal = new Vector2();
+
+  /**
+   * Adds a rule for contacts between the two categories, run after the ones already registered for
+   * the pair.
+   *
+   * @param manifold True if the rule needs the contact normal
+   */
+  public void register(short categoryA, short categoryB, boolean manifold, Rule rule) {
+    int a = indexOf(categoryA);
+    int b = indexOf(categoryB);
+    append(a * CATEGORIES + b, rule, false, manifold);
+    if (a != b) append(b * CATEGORIES + a, rule, true, manifold);
+  }
+
+  /**
+   * @return True if some rule is registered for the pair
+   */
+  public boolean handles(short categoryA, short categoryB) {
+    return entries[cellOf(categoryA, categoryB)] != null;
+  }
+
+  /**
+   * @return True if a rule of the pair needs the contact normal
+   */
+  public boolean needsManifold(short categoryA, short categoryB) {
+    return needsManifold[cellOf(categoryA, categoryB)];
+  }
+
+  /**
+   * @param normal Box2D world manifold normal (from A to B), or null if not fetched
+   */
+  public void dispatchBegin(
+      Object userA, Object userB, short categoryA, short categoryB, Vector2 normal) {
+    for (Entry e = entries[cellOf(categoryA, categoryB)]; e != null; e = e.next) {
+      if (!e.swapped) {
+        e.rule.begin(userA, userB, normal);
+      } else {
+        e.rule.begin(userB, userA, normal != null ? flippedNormal.set(normal).scl(-1f) : null);
+      }
+    }
+  }
+
+  public void dispatchEnd(Object userA, Object userB, short categoryA, short categoryB) {
+    for (Entry e = entries[cellOf(categoryA, categoryB)]; e != null; e = e.next) {
+      if (!e.swapped) e.rule.end(userA, userB);
+      else e.rule.end(userB, userA);
+    }
+  }
+
+  private void append(int cell, Rule rule, boolean swapped, boolean manifold) {
+    Entry entry = new Entry(rule, swapped);
+    if (entries[cell] == null) {
+      entries[cell] = entry;
+    } else {
+      Entry tail = entries[cell];
+      while (tail.next != null) tail = tail.next;
+      tail.next = entry;
+    }
+    needsManifold[cell] |= manifold;
+  }
+
+  private static int cellOf(short categoryA, short categoryB) {
+    return indexOf(categoryA) * CATEGORIES + indexOf(categoryB);
+  }
+
+  private static int indexOf(short category) {
+    return category == 0 ? NO_CATEGORY : Integer.numberOfTrailingZeros(category & 0xFFFF);
+  }
+}
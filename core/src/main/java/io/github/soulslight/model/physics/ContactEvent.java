@@ -0,0 +1,24 @@
+package io.github.soulslight.model.physics;
+
+/**
+ * Data of a "COLLISION_START" notification: the collision category bits (Constants.BIT_*) of the
+ * two fixtures that started touching. A single instance is reused for every contact, so observers
+ * must read it during the notification and not keep it.
+ */
+public final class ContactEvent {
+  private short categoryA;
+  private short categoryB;
+
+  void set(short categoryA, short categoryB) {
+    this.categoryA = categoryA;
+    this.categoryB = categoryB;
+  }
+
+  public short getCategoryA() {
+    return categoryA;
+  }
+
+  public short getCategoryB() {
+    return categoryB;
+  }
+}
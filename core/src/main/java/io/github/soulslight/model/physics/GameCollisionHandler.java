@@ -1,6 +1,7 @@
 package io.github.soulslight.model.physics;
 
 import com.badlogic.gdx.math.Vector2;
+import io.github.soulslight.model.Constants;
 import io.github.soulslight.model.enemies.SpikedBall;
 import io.github.soulslight.model.entities.ItemEntity;
 import io.github.soulslight.model.entities.Player;
@@ -11,93 +12,83 @@ import io.github.soulslight.model.room.RoomSensor;
  * GoF Pattern: Adapter (Adaptee Implementation) Contains the actual business logic for handling
  * collisions between game objects. This class is decoupled from Box2D physics engine details
  * (Figures/Contacts).
+ *
+ * <p>Each piece of logic is registered in a {@link ContactDispatchTable} for the category pairs it
+ * cares about, so contacts such as enemy-enemy or enemy-wall reach no logic at all.
  */
 public class GameCollisionHandler extends io.github.soulslight.model.observer.Subject
     implements CollisionHandler {
 
-  @Override
-  public void handleBeginContact(Object userA, Object userB) {
-    // Notify observers instead of direct logging
-    notifyContact(userA, userB);
-
-    // Feature Logic: RoomSensor
-    checkRoomSensor(userA, userB);
-    checkRoomSensor(userB, userA);
-
-    // Feature Logic: Portal
-    checkPortal(userA, userB, true);
-    checkPortal(userB, userA, true);
+  // Reused for every notification, see ContactEvent
+  private final ContactEvent contactEvent = new ContactEvent();
+  private final ContactDispatchTable table = new ContactDispatchTable();
+
+  public GameCollisionHandler() {
+    // Feature Logic: RoomSensor and Portal (both sensors only see players)
+    table.register(
+        Constants.BIT_PLAYER,
+        Constants.BIT_SENSOR,
+        false,
+        new ContactDispatchTable.Rule() {
+          @Override
+          public void begin(Object player, Object sensor, Vector2 normal) {
+            if (!(player instanceof Player)) return;
+            if (sensor instanceof RoomSensor roomSensor) roomSensor.onPlayerContact();
+            else if (sensor instanceof Portal portal) portal.onPlayerEnter();
+          }
+
+          @Override
+          public void end(Object player, Object sensor) {
+            if (player instanceof Player && sensor instanceof Portal portal) portal.onPlayerExit();
+          }
+        });
 
     // Feature Logic: Item Pickup
-    checkItem(userA, userB);
-    checkItem(userB, userA);
-
-    // Feature Logic: SpikedBall (Wall hit handled differently?)
-    checkSpikedBall(userA, userB);
-    checkSpikedBall(userB, userA);
+    table.register(
+        Constants.BIT_PLAYER,
+        Constants.BIT_ITEM,
+        false,
+        (player, item, normal) -> pickUp(player, item));
+
+    // Feature Logic: SpikedBall bounces off walls and closed doors, needs the contact normal
+    ContactDispatchTable.Rule bounce = (enemy, wall, normal) -> bounce(enemy, normal);
+    table.register(Constants.BIT_ENEMY, Constants.BIT_WALL, true, bounce);
+    table.register(Constants.BIT_ENEMY, Constants.BIT_DOOR, true, bounce);
   }
 
   @Override
-  public void handleEndContact(Object userA, Object userB) {
-    // Portal exit
-    checkPortal(userA, userB, false);
-    checkPortal(userB, userA, false);
+  public boolean needsManifold(short categoryA, short categoryB) {
+    return table.needsManifold(categoryA, categoryB);
   }
 
-  private void notifyContact(Object a, Object b) {
-    String nameA = getName(a);
-    String nameB = getName(b);
-    // Send the collision string as data
-    notifyObservers("COLLISION_START", nameA + " <-> " + nameB);
-  }
-
-  private String getName(Object o) {
-    if (o instanceof Player) return "Player";
-    if (o == null) return "Wall/Static"; // Assumption for null UserData
-    return o.getClass().getSimpleName();
-  }
-
-  private void checkRoomSensor(Object entity, Object sensor) {
-    if (entity instanceof Player && sensor instanceof RoomSensor) {
-      ((RoomSensor) sensor).onPlayerContact();
+  @Override
+  public void handleBeginContact(
+      Object userA, Object userB, short categoryA, short categoryB, Vector2 normal) {
+    // Notify observers instead of direct logging; nothing is built when nobody listens
+    if (hasObservers()) {
+      contactEvent.set(categoryA, categoryB);
+      notifyObservers("COLLISION_START", contactEvent);
     }
+
+    table.dispatchBegin(userA, userB, categoryA, categoryB, normal);
   }
 
-  private void checkPortal(Object entity, Object sensor, boolean entering) {
-    if (entity instanceof Player && sensor instanceof Portal) {
-      if (entering) {
-        ((Portal) sensor).onPlayerEnter();
-      } else {
-        ((Portal) sensor).onPlayerExit();
-      }
-    }
+  @Override
+  public void handleEndContact(Object userA, Object userB, short categoryA, short categoryB) {
+    table.dispatchEnd(userA, userB, categoryA, categoryB);
   }
 
-  private void checkItem(Object playerObj, Object itemObj) {
-    if (playerObj instanceof Player && itemObj instanceof ItemEntity) {
-      Player player = (Player) playerObj;
-      ItemEntity itemEntity = (ItemEntity) itemObj;
+  private void pickUp(Object playerObj, Object itemObj) {
+    if (playerObj instanceof Player player && itemObj instanceof ItemEntity itemEntity) {
       if (player.pickUpItem(itemEntity.getItem())) {
         itemEntity.kill();
       }
     }
   }
 
-  private void checkSpikedBall(Object enemyObj, Object wallObj) {
-    if (enemyObj instanceof SpikedBall) {
-      // Wall detection. In default Box2D setup, walls often have null UserData.
-      // We rely on the Adapter passing a "Wall" object or we check for null if we
-      // assume only walls are null.
-      if (wallObj == null || wallObj.toString().equals("Wall")) {
-
-        // Strategy: SpikedBall needs real physics info.
-      }
-    }
-  }
-
-  public void handleSpikedBallHit(Object spikedBall, Vector2 normal) {
-    if (spikedBall instanceof SpikedBall spikedBall1) {
-      spikedBall1.onWallHit(normal);
+  private void bounce(Object enemyObj, Vector2 normal) {
+    if (enemyObj instanceof SpikedBall spikedBall && normal != null) {
+      spikedBall.onWallHit(normal);
     }
   }
 }
@@ -0,0 +1,406 @@
+package io.github.soulslight.model.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.soulslight.model.entities.Entity;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid hash over entity positions, one cell per tile. Refreshed once per physics step with
+ * {@link #update}, it answers radius, segment-sweep and nearest-k queries by looking only at the
+ * cells around the query instead of scanning every entity.
+ *
+ * <p>Every query takes the candidate list the caller would otherwise scan. When the index was built
+ * from that same list, and the list has not been marked changed since, it is used; otherwise (no
+ * game running, a different list, entities added or removed since the last step) the query falls
+ * back to a linear scan with the same results. Whoever adds to or removes from the indexed list
+ * calls {@link #markChanged()}. Dead entities are never returned and all distance tests use the
+ * entities' current positions; cells are searched with one cell of slack for movement since the
+ * last refresh.
+ */
+public class SpatialIndex {
+  /** One tile. */
+  public static final float DEFAULT_CELL_SIZE = 32f;
+
+  private final float cellSize;
+
+  // List the index mirrors; the stamp is bumped on every add/remove, and remembered when indexed
+  private List<?> source;
+  private int modCount;
+  private int indexedModCount;
+
+  // Per indexed entity (index = position in the source list)
+  private Entity[] entities = new Entity[16];
+  private int[] cellX = new int[16];
+  private int[] cellY = new int[16];
+  private int[] next = new int[16];
+  private int[] prev = new int[16];
+  private int count = 0;
+
+  // Hash buckets: head entity of each chain, -1 if empty
+  private int[] heads = new int[32];
+  private int mask = 31;
+
+  // Cell bounds of everything indexed, to clamp queries
+  private int minCellX, minCellY, maxCellX, maxCellY;
+
+  // Sort keys for the results of the current query
+  private float[] keys = new float[16];
+  private int[] orders = new int[16];
+
+  public SpatialIndex() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  public SpatialIndex(float cellSize) {
+    this.cellSize = cellSize;
+    Arrays.fill(heads, -1);
+  }
+
+  /**
+   * Records that entities were added to or removed from the indexed list. Queries fall back to a
+   * linear scan until the next {@link #update}, which rebuilds the index.
+   */
+  public void markChanged() {
+    modCount++;
+  }
+
+  /**
+   * Brings the index in line with the list. If it is the list indexed last time and it has not been
+   * marked changed, only entities that changed cell are moved; otherwise the index is rebuilt.
+   */
+  public void update(List<? extends Entity> list) {
+    if (list != source || modCount != indexedModCount) {
+      rebuild(list);
+      return;
+    }
+
+    for (int i = 0; i < count; i++) {
+      Vector2 pos = entities[i].getPosition();
+      int cx = cellOf(pos.x);
+      int cy = cellOf(pos.y);
+      if (cx != cellX[i] || cy != cellY[i]) {
+        unlink(i);
+        cellX[i] = cx;
+        cellY[i] = cy;
+        link(i);
+        includeInBounds(cx, cy);
+      }
+    }
+  }
+
+  /** Indexes every entity of the list from scratch. */
+  public void rebuild(List<? extends Entity> list) {
+    source = list;
+    indexedModCount = modCount;
+    count = list.size();
+    ensureCapacity(count);
+
+    int buckets = Math.max(32, Integer.highestOneBit(Math.max(1, count * 2) - 1) << 1);
+    if (heads.length != buckets) heads = new int[buckets];
+    mask = buckets - 1;
+    Arrays.fill(heads, -1);
+
+    minCellX = minCellY = Integer.MAX_VALUE;
+    maxCellX = maxCellY = Integer.MIN_VALUE;
+    for (int i = 0; i < count; i++) {
+      Entity e = list.get(i);
+      Vector2 pos = e.getPosition();
+      entities[i] = e;
+      cellX[i] = cellOf(pos.x);
+      cellY[i] = cellOf(pos.y);
+      link(i);
+      includeInBounds(cellX[i], cellY[i]);
+    }
+    Arrays.fill(entities, count, entities.length, null);
+  }
+
+  /** Forgets the indexed list; every query falls back to a linear scan until the next update. */
+  public void clear() {
+    source = null;
+    Arrays.fill(entities, 0, count, null);
+    count = 0;
+    Arrays.fill(heads, -1);
+  }
+
+  /**
+   * @return Whether queries on this list are answered from the index: it is the indexed list and
+   *     nothing was added or removed since
+   */
+  public boolean covers(List<?> candidates) {
+    return candidates != null && candidates == source && modCount == indexedModCount;
+  }
+
+  /**
+   * Living candidates within radius of (x, y), in no particular order.
+   *
+   * @param out Cleared and filled with the result
+   * @return Number of entities found
+   */
+  public <E extends Entity> int queryRadius(
+      List<? extends E> candidates, float x, float y, float radius, List<E> out) {
+    out.clear();
+    if (candidates == null) return 0;
+    float radius2 = radius * radius;
+
+    if (!covers(candidates)) {
+      for (int i = 0; i < candidates.size(); i++) {
+        E e = candidates.get(i);
+        if (!e.isDead() && e.getPosition().dst2(x, y) <= radius2) out.add(e);
+      }
+      return out.size();
+    }
+
+    int x0 = Math.max(minCellX, cellOf(x - radius) - 1);
+    int x1 = Math.min(maxCellX, cellOf(x + radius) + 1);
+    int y0 = Math.max(minCellY, cellOf(y - radius) - 1);
+    int y1 = Math.min(maxCellY, cellOf(y + radius) + 1);
+    for (int cy = y0; cy <= y1; cy++) {
+      for (int cx = x0; cx <= x1; cx++) {
+        for (int i = heads[hash(cx, cy)]; i >= 0; i = next[i]) {
+          if (cellX[i] != cx || cellY[i] != cy) continue;
+          Entity e = entities[i];
+          if (!e.isDead() && e.getPosition().dst2(x, y) <= radius2) out.add(cast(e));
+        }
+      }
+    }
+    return out.size();
+  }
+
+  /**
+   * Living candidates within radius of the segment (x0, y0)-(x1, y1), i.e. everything a circle of
+   * that radius sweeping along it would touch. Results are ordered by how far along the segment
+   * they are hit, so the first one is what a projectile moving that way reaches first.
+   *
+   * @param out Cleared and filled with the result
+   * @return Number of entities found
+   */
+  public <E extends Entity> int querySegment(
+      List<? extends E> candidates,
+      float x0,
+      float y0,
+      float x1,
+      float y1,
+      float radius,
+      List<E> out) {
+    out.clear();
+    if (candidates == null) return 0;
+
+    if (!covers(candidates)) {
+      for (int i = 0; i < candidates.size(); i++) {
+        E e = candidates.get(i);
+        if (!e.isDead()) sweepTest(e, i, x0, y0, x1, y1, radius, out);
+      }
+      return out.size();
+    }
+
+    int cx0 = Math.max(minCellX, cellOf(Math.min(x0, x1) - radius) - 1);
+    int cx1 = Math.min(maxCellX, cellOf(Math.max(x0, x1) + radius) + 1);
+    int cy0 = Math.max(minCellY, cellOf(Math.min(y0, y1) - radius) - 1);
+    int cy1 = Math.min(maxCellY, cellOf(Math.max(y0, y1) + radius) + 1);
+    for (int cy = cy0; cy <= cy1; cy++) {
+      for (int cx = cx0; cx <= cx1; cx++) {
+        for (int i = heads[hash(cx, cy)]; i >= 0; i = next[i]) {
+          if (cellX[i] != cx || cellY[i] != cy) continue;
+          Entity e = entities[i];
+          if (!e.isDead()) sweepTest(cast(e), i, x0, y0, x1, y1, radius, out);
+        }
+      }
+    }
+    return out.size();
+  }
+
+  /**
+   * Up to k living candidates closest to (x, y) and no further than maxRadius, nearest first. Ties
+   * go to the entity earlier in the candidate list.
+   *
+   * @param out Cleared and filled with the result
+   * @return Number of entities found
+   */
+  public <E extends Entity> int queryNearest(
+      List<? extends E> candidates, float x, float y, int k, float maxRadius, List<E> out) {
+    out.clear();
+    if (candidates == null || k <= 0) return 0;
+    float maxRadius2 = maxRadius * maxRadius;
+
+    if (!covers(candidates)) {
+      for (int i = 0; i < candidates.size(); i++) {
+        E e = candidates.get(i);
+        if (!e.isDead()) offerNearest(e, i, e.getPosition().dst2(x, y), maxRadius2, k, out);
+      }
+      return out.size();
+    }
+    if (count == 0) return 0;
+
+    // Walk outwards ring by ring until no unvisited cell can hold anything closer
+    int cx = cellOf(x);
+    int cy = cellOf(y);
+    int maxRing =
+        Math.max(Math.max(cx - minCellX, maxCellX - cx), Math.max(cy - minCellY, maxCellY - cy));
+    for (int ring = 0; ring <= maxRing; ring++) {
+      // Entities may sit one cell away from where they were indexed
+      float reach = (ring - 2) * cellSize;
+      if (reach > 0) {
+        float reach2 = reach * reach;
+        if (reach2 > maxRadius2) break;
+        if (out.size() == k && reach2 > keys[k - 1]) break;
+      }
+
+      if (ring == 0) {
+        scanNearest(cx, cy, x, y, maxRadius2, k, out);
+        continue;
+      }
+      for (int dx = -ring; dx <= ring; dx++) {
+        scanNearest(cx + dx, cy - ring, x, y, maxRadius2, k, out);
+        scanNearest(cx + dx, cy + ring, x, y, maxRadius2, k, out);
+      }
+      for (int dy = -ring + 1; dy < ring; dy++) {
+        scanNearest(cx - ring, cy + dy, x, y, maxRadius2, k, out);
+        scanNearest(cx + ring, cy + dy, x, y, maxRadius2, k, out);
+      }
+    }
+    return out.size();
+  }
+
+  /**
+   * @return Closest living candidate within maxRadius, or null
+   */
+  public <E extends Entity> E findNearest(
+      List<? extends E> candidates, float x, float y, float maxRadius, List<E> scratch) {
+    return queryNearest(candidates, x, y, 1, maxRadius, scratch) > 0 ? scratch.get(0) : null;
+  }
+
+  public float getCellSize() {
+    return cellSize;
+  }
+
+  /**
+   * @return Number of entities currently indexed
+   */
+  public int size() {
+    return count;
+  }
+
+  // --- Internals ---
+
+  private <E extends Entity> void scanNearest(
+      int cx, int cy, float x, float y, float maxRadius2, int k, List<E> out) {
+    if (cx < minCellX || cx > maxCellX || cy < minCellY || cy > maxCellY) return;
+    for (int i = heads[hash(cx, cy)]; i >= 0; i = next[i]) {
+      if (cellX[i] != cx || cellY[i] != cy) continue;
+      Entity e = entities[i];
+      if (!e.isDead()) offerNearest(cast(e), i, e.getPosition().dst2(x, y), maxRadius2, k, out);
+    }
+  }
+
+  // Keeps out as the k best (distance, list order) pairs seen so far, sorted
+  private <E extends Entity> void offerNearest(
+      E e, int order, float dist2, float maxRadius2, int k, List<E> out) {
+    if (dist2 > maxRadius2) return;
+    int size = out.size();
+    if (size == k && !precedes(dist2, order, keys[k - 1], orders[k - 1])) return;
+
+    if (size < k) {
+      ensureKeyCapacity(size + 1);
+      out.add(e);
+      size++;
+    }
+    int pos = size - 1;
+    while (pos > 0 && precedes(dist2, order, keys[pos - 1], orders[pos - 1])) {
+      out.set(pos, out.get(pos - 1));
+      keys[pos] = keys[pos - 1];
+      orders[pos] = orders[pos - 1];
+      pos--;
+    }
+    out.set(pos, e);
+    keys[pos] = dist2;
+    orders[pos] = order;
+  }
+
+  // Adds e, sorted by the fraction of the segment at which it is closest, if the sweep touches it
+  private <E extends Entity> void sweepTest(
+      E e, int order, float x0, float y0, float x1, float y1, float radius, List<E> out) {
+    Vector2 pos = e.getPosition();
+    float dx = x1 - x0;
+    float dy = y1 - y0;
+    float len2 = dx * dx + dy * dy;
+    float t = len2 > 0f ? ((pos.x - x0) * dx + (pos.y - y0) * dy) / len2 : 0f;
+    t = Math.max(0f, Math.min(1f, t));
+    float px = x0 + dx * t - pos.x;
+    float py = y0 + dy * t - pos.y;
+    if (px * px + py * py > radius * radius) return;
+
+    int pos2 = out.size();
+    ensureKeyCapacity(pos2 + 1);
+    out.add(e);
+    while (pos2 > 0 && precedes(t, order, keys[pos2 - 1], orders[pos2 - 1])) {
+      out.set(pos2, out.get(pos2 - 1));
+      keys[pos2] = keys[pos2 - 1];
+      orders[pos2] = orders[pos2 - 1];
+      pos2--;
+    }
+    out.set(pos2, e);
+    keys[pos2] = t;
+    orders[pos2] = order;
+  }
+
+  private static boolean precedes(float key, int order, float otherKey, int otherOrder) {
+    return key < otherKey || (key == otherKey && order < otherOrder);
+  }
+
+  // Only called when the index covers the caller's list, so every entity is an E
+  @SuppressWarnings("unchecked")
+  private static <E extends Entity> E cast(Entity e) {
+    return (E) e;
+  }
+
+  private int cellOf(float coord) {
+    return (int) Math.floor(coord / cellSize);
+  }
+
+  private int hash(int cx, int cy) {
+    return ((cx * 0x8DA6B343) ^ (cy * 0xD8163841)) & mask;
+  }
+
+  private void link(int i) {
+    int bucket = hash(cellX[i], cellY[i]);
+    int head = heads[bucket];
+    next[i] = head;
+    prev[i] = -1;
+    if (head >= 0) prev[head] = i;
+    heads[bucket] = i;
+  }
+
+  private void unlink(int i) {
+    if (prev[i] >= 0) {
+      next[prev[i]] = next[i];
+    } else {
+      heads[hash(cellX[i], cellY[i])] = next[i];
+    }
+    if (next[i] >= 0) prev[next[i]] = prev[i];
+  }
+
+  private void includeInBounds(int cx, int cy) {
+    minCellX = Math.min(minCellX, cx);
+    minCellY = Math.min(minCellY, cy);
+    maxCellX = Math.max(maxCellX, cx);
+    maxCellY = Math.max(maxCellY, cy);
+  }
+
+  private void ensureCapacity(int size) {
+    if (entities.length >= size) return;
+    int capacity = Math.max(size, entities.length * 2);
+    entities = Arrays.copyOf(entities, capacity);
+    cellX = Arrays.copyOf(cellX, capacity);
+    cellY = Arrays.copyOf(cellY, capacity);
+    next = Arrays.copyOf(next, capacity);
+    prev = Arrays.copyOf(prev, capacity);
+  }
+
+  private void ensureKeyCapacity(int size) {
+    if (keys.length >= size) return;
+    int capacity = Math.max(size, keys.length * 2);
+    keys = Arrays.copyOf(keys, capacity);
+    orders = Arrays.copyOf(orders, capacity);
+  }
+}
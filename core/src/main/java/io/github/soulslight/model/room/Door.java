@@ -2,11 +2,15 @@ package io.github.soulslight.model.room;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import io.github.soulslight.manager.GameManager;
+import io.github.soulslight.manager.PathfindingManager;
 import io.github.soulslight.model.Constants;
+import io.github.soulslight.model.pathfinding.DungeonGraph;
 
 /**
  * Represents a door that can be locked/unlocked. When locked, creates a static physics body to
- * block passage. When unlocked, removes the blocking body.
+ * block passage and marks the covered tiles as blocked on the navigation grid. When unlocked,
+ * removes both.
  */
 public class Door {
 
@@ -25,6 +29,7 @@ public class Door {
   private Body physicsBody;
   private boolean locked;
   private World world;
+  private DungeonGraph blockedGraph; // Graph the door's tiles were blocked on, if any
 
   /**
    * Creates a new door at the specified position.
@@ -80,6 +85,12 @@ public class Door {
 
     shape.dispose();
     locked = true;
+
+    PathfindingManager pfm = GameManager.getInstance().getPathfindingManager();
+    if (pfm != null) {
+      blockedGraph = pfm.getGraph();
+      setTilesBlocked(blockedGraph, true);
+    }
   }
 
   /** Unlocks the door by destroying the blocking body. */
@@ -91,6 +102,27 @@ public class Door {
       physicsBody = null;
     }
     locked = false;
+
+    // Release on the graph we blocked, even if the level's graph was rebuilt since
+    if (blockedGraph != null) {
+      setTilesBlocked(blockedGraph, false);
+      blockedGraph = null;
+    }
+  }
+
+  private void setTilesBlocked(DungeonGraph graph, boolean blocked) {
+    float tileSize = graph.getTileSize();
+    // Inset by one unit so edges lying exactly on tile borders don't claim the next tile
+    int minX = (int) ((position.x - width / 2f + 1f) / tileSize);
+    int maxX = (int) ((position.x + width / 2f - 1f) / tileSize);
+    int minY = (int) ((position.y - height / 2f + 1f) / tileSize);
+    int maxY = (int) ((position.y + height / 2f - 1f) / tileSize);
+
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        graph.setBlocked(x, y, blocked);
+      }
+    }
   }
 
   // --- Getters ---
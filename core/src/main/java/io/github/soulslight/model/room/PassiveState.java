@@ -26,8 +26,10 @@ public final class PassiveState implements RoomState {
   public void update(Room room, float deltaTime) {
     // Check if any player is FULLY inside the room to trigger combat
     if (room.getRoomManager() != null) {
-      for (io.github.soulslight.model.entities.Player player : room.getRoomManager().getPlayers()) {
-        if (room.isPlayerFullyInRoom(player)) {
+      java.util.List<io.github.soulslight.model.entities.Player> players =
+          room.getRoomManager().getPlayers();
+      for (int i = 0; i < players.size(); i++) {
+        if (room.isPlayerFullyInRoom(players.get(i))) {
           triggerCombatOrClear(room);
           return;
         }
@@ -187,6 +187,16 @@ public class Portal {
     return position.cpy();
   }
 
+  /** Position X without the copy {@link #getPosition()} makes, for per-frame readers. */
+  public float getX() {
+    return position.x;
+  }
+
+  /** Position Y without the copy {@link #getPosition()} makes, for per-frame readers. */
+  public float getY() {
+    return position.y;
+  }
+
   public boolean isPlayerInRange() {
     return playerInRange;
   }
@@ -86,18 +86,20 @@ public class RoomManager {
 
   /** Locks all doors in all rooms. Called when combat begins in any room. */
   public void lockAllDoors() {
-    for (Room room : rooms) {
-      for (Door door : room.getDoors()) {
-        door.lock();
+    for (int i = 0; i < rooms.size(); i++) {
+      List<Door> doors = rooms.get(i).getDoors();
+      for (int d = 0; d < doors.size(); d++) {
+        doors.get(d).lock();
       }
     }
   }
 
   /** Unlocks all doors in all rooms. Called when any room is cleared. */
   public void unlockAllDoors() {
-    for (Room room : rooms) {
-      for (Door door : room.getDoors()) {
-        door.unlock();
+    for (int i = 0; i < rooms.size(); i++) {
+      List<Door> doors = rooms.get(i).getDoors();
+      for (int d = 0; d < doors.size(); d++) {
+        doors.get(d).unlock();
       }
     }
   }
@@ -108,8 +110,8 @@ public class RoomManager {
    * @param deltaTime Time since last update
    */
   public void update(float deltaTime) {
-    for (Room room : rooms) {
-      room.update(deltaTime);
+    for (int i = 0; i < rooms.size(); i++) {
+      rooms.get(i).update(deltaTime);
     }
   }
 
@@ -175,8 +177,8 @@ public class RoomManager {
    * @return The portal room, or null if none exists
    */
   public PortalRoom getPortalRoom() {
-    for (Room room : rooms) {
-      if (room instanceof PortalRoom pr) {
+    for (int i = 0; i < rooms.size(); i++) {
+      if (rooms.get(i) instanceof PortalRoom pr) {
         return pr;
       }
     }
@@ -1,28 +1,50 @@
 package io.github.soulslight.utils;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import io.github.soulslight.model.observer.Observer;
-import java.util.HashMap;
-import java.util.Map;
+import io.github.soulslight.model.physics.ContactEvent;
 
 /**
  * Observer that monitors collisions and periodically logs a summary report. Helps reduce log spam
  * by aggregating collision events.
+ *
+ * <p>Contacts are counted per pair of collision categories (Constants.BIT_*) in a fixed matrix
+ * indexed by bit position, so counting never allocates however many bodies touch per step.
  */
 public class CollisionMonitor implements Observer {
 
-  private final Map<String, Integer> collisionCounts = new HashMap<>();
-  private float timer = 0f;
+  // One row/column per category bit, plus one for fixtures without a category
+  private static final int CATEGORIES = Short.SIZE + 1;
+  private static final int NO_CATEGORY = Short.SIZE;
+  private static final String[] CATEGORY_NAMES = {
+    "Wall/Static", "Player", "Enemy", "Sensor", "Door", "Projectile", "Item"
+  };
   private static final float REPORT_INTERVAL = 10.0f;
 
+  // Only the upper triangle is used: pairs are stored with the lower index first
+  private final int[] counts = new int[CATEGORIES * CATEGORIES];
+  private float timer = 0f;
+
   @Override
   public void update(String eventType, Object data) {
-    if ("COLLISION_START".equals(eventType) && data instanceof String) {
-      String key = (String) data;
-      collisionCounts.merge(key, 1, Integer::sum);
+    if ("COLLISION_START".equals(eventType) && data instanceof ContactEvent contact) {
+      recordContact(contact.getCategoryA(), contact.getCategoryB());
     }
   }
 
+  /** Counts one contact between fixtures of the given categories, in either order. */
+  public void recordContact(short categoryA, short categoryB) {
+    counts[cellOf(categoryA, categoryB)]++;
+  }
+
+  /**
+   * @return Contacts counted between the two categories since the last report
+   */
+  public int getCount(short categoryA, short categoryB) {
+    return counts[cellOf(categoryA, categoryB)];
+  }
+
   public void tick(float deltaTime) {
     timer += deltaTime;
     if (timer >= REPORT_INTERVAL) {
@@ -31,21 +53,45 @@ public class CollisionMonitor implements Observer {
     }
   }
 
+  private static int cellOf(short categoryA, short categoryB) {
+    int a = indexOf(categoryA);
+    int b = indexOf(categoryB);
+    return a <= b ? a * CATEGORIES + b : b * CATEGORIES + a;
+  }
+
+  // Lowest bit of the category: fixtures are given a single BIT_* each
+  private static int indexOf(short category) {
+    return category == 0 ? NO_CATEGORY : Integer.numberOfTrailingZeros(category & 0xFFFF);
+  }
+
+  private static String nameOf(int index) {
+    if (index == NO_CATEGORY) return "None";
+    return index < CATEGORY_NAMES.length ? CATEGORY_NAMES[index] : "Bit " + index;
+  }
+
   private void printReport() {
-    if (collisionCounts.isEmpty()) {
-      // Optional: Log silence or heartbeat
-      // Gdx.app.log("CollisionMonitor", "No collisions in the last " +
-      // REPORT_INTERVAL + "s");
+    // Nobody would read it: skip building the strings
+    if (Gdx.app.getLogLevel() < Application.LOG_INFO) {
+      java.util.Arrays.fill(counts, 0);
       return;
     }
-
-    Gdx.app.log("CollisionMonitor", "--- Collision Status (Last " + REPORT_INTERVAL + "s) ---");
-    for (Map.Entry<String, Integer> entry : collisionCounts.entrySet()) {
-      Gdx.app.log(
-          "CollisionMonitor", String.format("  [%3d] %s", entry.getValue(), entry.getKey()));
+    boolean header = false;
+    for (int a = 0; a < CATEGORIES; a++) {
+      for (int b = a; b < CATEGORIES; b++) {
+        int count = counts[a * CATEGORIES + b];
+        if (count == 0) continue;
+        if (!header) {
+          Gdx.app.log(
+              "CollisionMonitor", "--- Collision Status (Last " + REPORT_INTERVAL + "s) ---");
+          header = true;
+        }
+        Gdx.app.log(
+            "CollisionMonitor", String.format("  [%3d] %s <-> %s", count, nameOf(a), nameOf(b)));
+      }
     }
+    if (!header) return;
     Gdx.app.log("CollisionMonitor", "---------------------------------------------");
 
-    collisionCounts.clear();
+    java.util.Arrays.fill(counts, 0);
   }
 }
@@ -0,0 +1,218 @@
+package io.github.soulslight.utils;
+
+import java.util.Arrays;
+
+/**
+ * Pattern: Singleton Times the phases of every frame (GameModel.update and GameScreen.render) and
+ * keeps the last {@value #SAMPLES} frames in a ring buffer, for rolling min/avg/p99 per phase.
+ *
+ * <p>Phases are timed with laps: {@link #start()} once, then {@link #lap} after each phase, which
+ * charges the time since the previous lap to that phase. A phase lapped several times in a frame
+ * (physics substeps) adds up. While disabled every call returns immediately without reading the
+ * clock.
+ */
+public final class FrameProfiler {
+
+  /** Timed phases, update phases first, then render phases. */
+  public enum Phase {
+    PLAYERS("Players"),
+    ENEMY_AI("Enemy AI"),
+    PHYSICS("Physics"),
+    PROJECTILES("Projectiles"),
+    ROOMS("Rooms"),
+    LIGHTING("Lighting"),
+    MAP("Map"),
+    SPRITES("Sprites"),
+    PARTICLES("Particles"),
+    LIGHT_OVERLAY("Light overlay"),
+    HUD("HUD"),
+    // Whole frame, from one endFrame to the next
+    FRAME("Frame");
+
+    private final String label;
+
+    Phase(String label) {
+      this.label = label;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+
+    public boolean isUpdate() {
+      return ordinal() <= LIGHTING.ordinal();
+    }
+
+    public boolean isRender() {
+      return ordinal() >= MAP.ordinal() && ordinal() <= HUD.ordinal();
+    }
+  }
+
+  public static final int SAMPLES = 240;
+  private static final Phase[] PHASES = Phase.values();
+
+  private static FrameProfiler instance;
+
+  private boolean enabled = false;
+
+  // Frame being measured
+  private final long[] current = new long[PHASES.length];
+  private long lastFrameEnd = 0L;
+
+  // History (nanoseconds), one ring per phase sharing head/count
+  private final long[][] history = new long[PHASES.length][SAMPLES];
+  private int head = 0;
+  private int count = 0;
+
+  // Rolling statistics, refreshed by computeStats()
+  private final long[] min = new long[PHASES.length];
+  private final long[] avg = new long[PHASES.length];
+  private final long[] p99 = new long[PHASES.length];
+  private final long[] sorted = new long[SAMPLES];
+
+  // Counters of the last finished frame
+  private int bodyCount;
+  private int contactCount;
+  private int renderCalls;
+
+  private FrameProfiler() {}
+
+  public static synchronized FrameProfiler getInstance() {
+    if (instance == null) {
+      instance = new FrameProfiler();
+    }
+    return instance;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Turning the profiler on starts from an empty history. */
+  public void setEnabled(boolean enabled) {
+    if (enabled && !this.enabled) reset();
+    this.enabled = enabled;
+  }
+
+  public void reset() {
+    Arrays.fill(current, 0L);
+    for (long[] ring : history) Arrays.fill(ring, 0L);
+    head = 0;
+    count = 0;
+    lastFrameEnd = 0L;
+  }
+
+  /**
+   * @return Timestamp to lap from (0 while disabled)
+   */
+  public long start() {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Charges the time since start to phase.
+   *
+   * @return Timestamp for the next lap
+   */
+  public long lap(Phase phase, long start) {
+    if (!enabled) return 0L;
+    long now = System.nanoTime();
+    if (start != 0L) current[phase.ordinal()] += now - start;
+    return now;
+  }
+
+  /** Adds time measured elsewhere to phase, for the current frame. */
+  public void add(Phase phase, long nanos) {
+    if (enabled) current[phase.ordinal()] += nanos;
+  }
+
+  /**
+   * Closes the frame: its phase times go into the history with the given counters. The first frame
+   * after enabling only started partway through and has no previous frame end, so it is dropped and
+   * just starts the FRAME clock.
+   *
+   * @param bodies Box2D bodies in the world
+   * @param contacts Box2D contacts in the world
+   * @param calls SpriteBatch render calls (draw calls) of the frame
+   */
+  public void endFrame(int bodies, int contacts, int calls) {
+    if (!enabled) return;
+    long now = System.nanoTime();
+    if (lastFrameEnd == 0L) {
+      lastFrameEnd = now;
+      Arrays.fill(current, 0L);
+      return;
+    }
+    current[Phase.FRAME.ordinal()] = now - lastFrameEnd;
+    lastFrameEnd = now;
+
+    for (int p = 0; p < PHASES.length; p++) {
+      history[p][head] = current[p];
+      current[p] = 0L;
+    }
+    head = (head + 1) % SAMPLES;
+    if (count < SAMPLES) count++;
+
+    bodyCount = bodies;
+    contactCount = contacts;
+    renderCalls = calls;
+  }
+
+  /** Recomputes min/avg/p99 of every phase over the frames in the history. */
+  public void computeStats() {
+    for (int p = 0; p < PHASES.length; p++) {
+      if (count == 0) {
+        min[p] = avg[p] = p99[p] = 0L;
+        continue;
+      }
+      long sum = 0L;
+      for (int i = 0; i < count; i++) {
+        sorted[i] = history[p][i];
+        sum += sorted[i];
+      }
+      Arrays.sort(sorted, 0, count);
+      min[p] = sorted[0];
+      avg[p] = sum / count;
+      p99[p] = sorted[Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1)];
+    }
+  }
+
+  public long getMinNanos(Phase phase) {
+    return min[phase.ordinal()];
+  }
+
+  public long getAvgNanos(Phase phase) {
+    return avg[phase.ordinal()];
+  }
+
+  public long getP99Nanos(Phase phase) {
+    return p99[phase.ordinal()];
+  }
+
+  /**
+   * @return Frames currently in the history
+   */
+  public int getSampleCount() {
+    return count;
+  }
+
+  /**
+   * @param age 0 for the last finished frame, up to getSampleCount() - 1
+   * @return Time of phase in that frame, in nanoseconds
+   */
+  public long getSample(Phase phase, int age) {
+    return history[phase.ordinal()][(head - 1 - age + SAMPLES) % SAMPLES];
+  }
+
+  public int getBodyCount() {
+    return bodyCount;
+  }
+
+  public int getContactCount() {
+    return contactCount;
+  }
+
+  public int getRenderCalls() {
+    return renderCalls;
+  }
+}
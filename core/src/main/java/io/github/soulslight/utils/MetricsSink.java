@@ -0,0 +1,123 @@
+package io.github.soulslight.utils;
+
+import com.badlogic.gdx.Gdx;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Pattern: Singleton Writes gameplay metrics as JSON lines, one object per event: {@code {"t":<ms
+ * since open>,"event":"<name>",<key>:<value>,...}}. Meant for offline analysis of long sessions
+ * (jq, pandas), next to the live numbers of the {@link FrameProfiler}.
+ *
+ * <p>Off unless the game is started with {@code -Dsoulslight.metrics=<file>} or {@link #open} is
+ * called. While closed, {@link #begin} returns false and callers skip both the measurement and the
+ * formatting. Events are written as {@code begin(...)}, {@code field(...)}, {@code end()} from the
+ * game thread; worker threads hand their numbers back to it instead of writing here.
+ */
+public final class MetricsSink {
+
+  public static final String PROPERTY = "soulslight.metrics";
+
+  // Lines buffered between two flushes
+  private static final int FLUSH_EVERY = 256;
+
+  private static MetricsSink instance;
+
+  private Writer out;
+  private final StringBuilder line = new StringBuilder(256);
+  private boolean inEvent = false;
+  private long openedAt;
+  private int pendingLines = 0;
+
+  private MetricsSink() {}
+
+  public static synchronized MetricsSink getInstance() {
+    if (instance == null) {
+      instance = new MetricsSink();
+      String path = System.getProperty(PROPERTY);
+      if (path != null && !path.isBlank()) {
+        try {
+          instance.open(new BufferedWriter(new FileWriter(path, false)));
+        } catch (IOException e) {
+          Gdx.app.error("MetricsSink", "Cannot open " + path, e);
+        }
+      }
+    }
+    return instance;
+  }
+
+  /** Starts writing events to out, closing the previous destination if any. */
+  public void open(Writer out) {
+    close();
+    this.out = out;
+    this.openedAt = System.nanoTime();
+  }
+
+  public boolean isEnabled() {
+    return out != null;
+  }
+
+  /** Flushes and closes the destination; further events are dropped. */
+  public void close() {
+    if (out == null) return;
+    try {
+      out.close();
+    } catch (IOException e) {
+      // Nothing left to do with a broken destination
+    }
+    out = null;
+    inEvent = false;
+    pendingLines = 0;
+  }
+
+  /**
+   * Opens an event.
+   *
+   * @return False while the sink is closed: skip the fields and {@link #end()}
+   */
+  public boolean begin(String event) {
+    if (out == null) return false;
+    line.setLength(0);
+    line.append("{\"t\":").append((System.nanoTime() - openedAt) / 1_000_000L);
+    line.append(",\"event\":\"").append(event).append('"');
+    inEvent = true;
+    return true;
+  }
+
+  public MetricsSink field(String key, long value) {
+    if (inEvent) line.append(",\"").append(key).append("\":").append(value);
+    return this;
+  }
+
+  /** Keys and values are written as-is: only use identifiers and class names. */
+  public MetricsSink field(String key, String value) {
+    if (inEvent) line.append(",\"").append(key).append("\":\"").append(value).append('"');
+    return this;
+  }
+
+  /** Closes the event and writes it. */
+  public void end() {
+    if (!inEvent) return;
+    inEvent = false;
+    line.append("}\n");
+    try {
+      out.append(line);
+      if (++pendingLines >= FLUSH_EVERY) flush();
+    } catch (IOException e) {
+      Gdx.app.error("MetricsSink", "Write failed, metrics disabled", e);
+      close();
+    }
+  }
+
+  public void flush() {
+    if (out == null) return;
+    try {
+      out.flush();
+    } catch (IOException e) {
+      close();
+    }
+    pendingLines = 0;
+  }
+}
@@ -22,6 +22,10 @@ public class GameHUD {
   private final GlyphLayout layout;
   private final Matrix4 uiMatrix;
 
+  // SpriteBatch render calls of the last frame, shown in debug mode
+  private int renderCalls;
+  private final StringBuilder renderCallsText = new StringBuilder();
+
   public GameHUD() {
     this.shapeRenderer = new ShapeRenderer();
     this.font = new BitmapFont();
@@ -169,6 +173,10 @@ public class GameHUD {
     // Inventory Rendering
     drawInventories(batch, players, screenW);
 
+    if (io.github.soulslight.manager.GameManager.DEBUG_MODE) {
+      drawRenderCalls(batch, screenW, screenH);
+    }
+
     batch.end();
     font.getData().setScale(2); // Reset scale
   }
@@ -322,6 +330,21 @@ public class GameHUD {
     }
   }
 
+  /** Draw calls of the previous frame, to check the atlas batching (see GameScreen.render). */
+  public void setRenderCalls(int renderCalls) {
+    this.renderCalls = renderCalls;
+  }
+
+  private void drawRenderCalls(SpriteBatch batch, float screenW, float screenH) {
+    renderCallsText.setLength(0);
+    renderCallsText.append("Draw calls: ").append(renderCalls);
+    font.getData().setScale(1.0f);
+    font.setColor(Color.WHITE);
+    layout.setText(font, renderCallsText);
+    font.draw(batch, renderCallsText, (screenW - layout.width) / 2, screenH - 10);
+    font.getData().setScale(2f);
+  }
+
   private void checkDeadLabels(
       SpriteBatch batch, float screenW, float screenH, java.util.List<Player> players) {
     boolean allDead = true;
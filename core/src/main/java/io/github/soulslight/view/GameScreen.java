@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -19,6 +18,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import io.github.soulslight.controller.GameController;
 import io.github.soulslight.debug.DebugMenuController;
 import io.github.soulslight.debug.DebugMenuOverlay;
+import io.github.soulslight.debug.ProfilerOverlay;
 import io.github.soulslight.debug.commands.HealToFullCommand;
 import io.github.soulslight.debug.commands.KillNearbyEnemiesCommand;
 import io.github.soulslight.debug.commands.RegenerateMapCommand;
@@ -28,6 +28,7 @@ import io.github.soulslight.debug.commands.SkipToBossCommand;
 import io.github.soulslight.debug.commands.TeleportToPortalCommand;
 import io.github.soulslight.debug.commands.ToggleHitboxesCommand;
 import io.github.soulslight.debug.commands.ToggleInvincibilityCommand;
+import io.github.soulslight.debug.commands.ToggleProfilerCommand;
 import io.github.soulslight.manager.AudioManager;
 import io.github.soulslight.manager.GameManager;
 import io.github.soulslight.manager.SettingsManager;
@@ -43,6 +44,7 @@ import io.github.soulslight.model.entities.ItemEntity;
 import io.github.soulslight.model.entities.Player;
 import io.github.soulslight.model.map.LevelFactory;
 import io.github.soulslight.model.observer.Observer;
+import io.github.soulslight.utils.FrameProfiler;
 import java.util.IdentityHashMap;
 import java.util.Map;
 
@@ -53,6 +55,8 @@ public final class GameScreen implements GameState, Observer {
   private final GameController controller;
 
   private final GameHUD hud;
+  // Draw calls of the previous frame, for the HUD
+  private int lastRenderCalls = 0;
   private final OrthographicCamera camera;
   private final Viewport viewport;
   private final OrthogonalTiledMapRenderer mapRenderer;
@@ -91,6 +95,8 @@ public final class GameScreen implements GameState, Observer {
   // Debug menu components
   private DebugMenuController debugMenuController;
   private DebugMenuOverlay debugMenuOverlay;
+  private ProfilerOverlay profilerOverlay;
+  private final FrameProfiler profiler = FrameProfiler.getInstance();
 
   private PauseMenuOverlay pauseMenuOverlay;
   private final BitmapFont promptFont;
@@ -160,6 +166,7 @@ public final class GameScreen implements GameState, Observer {
   private void initializeDebugMenu() {
     this.debugMenuController = new DebugMenuController();
     this.debugMenuOverlay = new DebugMenuOverlay(debugMenuController, model);
+    this.profilerOverlay = new ProfilerOverlay(profiler);
 
     // Register all debug commands
     debugMenuController.registerCommand(new SkipRoomCommand(model));
@@ -171,6 +178,7 @@ public final class GameScreen implements GameState, Observer {
     debugMenuController.registerCommand(new TeleportToPortalCommand(model));
     debugMenuController.registerCommand(new ToggleHitboxesCommand());
     debugMenuController.registerCommand(new RegenerateMapCommand(model));
+    debugMenuController.registerCommand(new ToggleProfilerCommand());
 
     // Wire to controller
     controller.setDebugMenuController(debugMenuController);
@@ -240,8 +248,14 @@ public final class GameScreen implements GameState, Observer {
 
     ScreenUtils.clear(0, 0, 0, 1);
 
+    // Draw calls are counted across every begin/end of the shared batch this frame, plus the
+    // light map's own batch
+    int renderCallsBefore = batch.totalRenderCalls + lightingRenderer.getTotalRenderCalls();
+    long lap = profiler.start();
+
     mapRenderer.setView(camera);
     mapRenderer.render();
+    lap = profiler.lap(FrameProfiler.Phase.MAP, lap);
 
     batch.setProjectionMatrix(camera.combined);
     batch.begin();
@@ -251,6 +265,7 @@ public final class GameScreen implements GameState, Observer {
 
     // Update global particles
     io.github.soulslight.manager.ParticleManager.getInstance().update(delta);
+    lap = profiler.lap(FrameProfiler.Phase.PARTICLES, lap);
 
     int playerIndex = 0;
     for (Player player : model.getPlayers()) {
@@ -267,7 +282,11 @@ public final class GameScreen implements GameState, Observer {
       } else {
         String texName = "player";
         drawEntity(
-            TextureManager.getInstance().get(texName), player.getPosition(), drawWidth, drawHeight);
+            TextureManager.getInstance().get(texName),
+            player.getPosition(),
+            drawWidth,
+            drawHeight,
+            false);
       }
 
       batch.setColor(Color.WHITE);
@@ -305,19 +324,28 @@ public final class GameScreen implements GameState, Observer {
 
     // Draw portal
     particleRenderSystem.renderPortal(batch, model);
+    lap = profiler.lap(FrameProfiler.Phase.SPRITES, lap);
 
     // Render global particles
     io.github.soulslight.manager.ParticleManager.getInstance().render(batch);
+    lap = profiler.lap(FrameProfiler.Phase.PARTICLES, lap);
 
     batch.end();
+    lap = profiler.lap(FrameProfiler.Phase.SPRITES, lap);
 
     // Draw Lighting Overlay (over sprites, under HUD)
     lightingRenderer.render(model.getLightingSystem(), model.getMap(), camera.combined);
+    lap = profiler.lap(FrameProfiler.Phase.LIGHT_OVERLAY, lap);
 
+    hud.setRenderCalls(lastRenderCalls);
     hud.render(batch, model);
 
     // Draw portal prompt (on HUD layer)
     drawPortalPrompt();
+    profiler.lap(FrameProfiler.Phase.HUD, lap);
+    int renderCalls =
+        batch.totalRenderCalls + lightingRenderer.getTotalRenderCalls() - renderCallsBefore;
+    lastRenderCalls = renderCalls;
 
     // Pause Menu Overlay
     // Only show if paused AND Debug Menu is NOT visible
@@ -334,6 +362,12 @@ public final class GameScreen implements GameState, Observer {
     if (debugMenuOverlay != null && GameManager.DEBUG_MODE) {
       debugMenuOverlay.render(batch);
     }
+    if (profilerOverlay != null && profiler.isEnabled()) {
+      profilerOverlay.render(batch);
+    }
+
+    profiler.endFrame(
+        model.getWorld().getBodyCount(), model.getWorld().getContactCount(), renderCalls);
 
     // Outro Overlay
     if (showingOutro) {
@@ -560,10 +594,10 @@ public final class GameScreen implements GameState, Observer {
       }
     }
 
-    Texture tex = TextureManager.getInstance().getEnemyTexture(enemy);
+    TextureRegion tex = TextureManager.getInstance().getEnemyTexture(enemy);
     float size =
         (enemy instanceof Oblivion) ? OBLIVION_HEIGHT : 32f; // fallback in case of missing anim
-    drawEntity(tex, enemy.getPosition(), size, size);
+    drawEntity(tex, enemy.getPosition(), size, size, false);
   }
 
   private TextureRegion computeOblivionFrame(Oblivion boss) {
@@ -774,12 +808,6 @@ public final class GameScreen implements GameState, Observer {
   }
 
   // Center draw
-  private void drawEntity(Texture tex, Vector2 pos, float width, float height) {
-    if (tex != null) {
-      batch.draw(tex, pos.x - width / 2, pos.y - height / 2, width, height);
-    }
-  }
-
   private void updateMusicFadeOut(float delta) {
     float fadeSpeed = 0.5f; // Volume per second (2 seconds to fade out)
     boolean active = false;
@@ -875,6 +903,7 @@ public final class GameScreen implements GameState, Observer {
     if (hud != null) hud.dispose();
     if (lightingRenderer != null) lightingRenderer.dispose();
     if (debugMenuOverlay != null) debugMenuOverlay.dispose();
+    if (profilerOverlay != null) profilerOverlay.dispose();
     if (pauseMenuOverlay != null) pauseMenuOverlay.dispose();
     if (promptFont != null) promptFont.dispose();
 
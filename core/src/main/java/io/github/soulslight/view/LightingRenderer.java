@@ -1,77 +1,212 @@
 package io.github.soulslight.view;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.BufferUtils;
 import io.github.soulslight.model.lighting.LightingSystem;
-
+import java.nio.ByteBuffer;
+
+/**
+ * Draws the fog of war as a light map: one single-channel texture with a darkness value per
+ * subcell, stretched over the map as one linearly filtered quad. Only the rows the {@link
+ * LightingSystem} reports as changed are converted and re-uploaded (glTexSubImage2D), so a frame
+ * costs one draw call and no loop over the cells out of the light's reach.
+ *
+ * <p>An optional blur shader softens the subcell edges further.
+ */
 public class LightingRenderer {
 
-  private final ShapeRenderer shapeRenderer;
-  private final float[] viewportSize = new float[2];
+  // Darkness of never seen cells, and of explored cells out of sight
+  private static final float UNEXPLORED_DARKNESS = 0.8f;
+  private static final float MEMORY_DARKNESS = 0.6f;
+  // Below this the cell is left fully clear
+  private static final float MIN_DARKNESS = 0.05f;
+
+  private static final String VERTEX_SHADER =
+      "attribute vec4 "
+          + ShaderProgram.POSITION_ATTRIBUTE
+          + ";\n"
+          + "attribute vec4 "
+          + ShaderProgram.COLOR_ATTRIBUTE
+          + ";\n"
+          + "attribute vec2 "
+          + ShaderProgram.TEXCOORD_ATTRIBUTE
+          + "0;\n"
+          + "uniform mat4 u_projTrans;\n"
+          + "varying vec4 v_color;\n"
+          + "varying vec2 v_texCoords;\n"
+          + "void main() {\n"
+          + "  v_color = "
+          + ShaderProgram.COLOR_ATTRIBUTE
+          + ";\n"
+          + "  v_texCoords = "
+          + ShaderProgram.TEXCOORD_ATTRIBUTE
+          + "0;\n"
+          + "  gl_Position = u_projTrans * "
+          + ShaderProgram.POSITION_ATTRIBUTE
+          + ";\n"
+          + "}\n";
+
+  // 3x3 tent filter on the darkness channel
+  private static final String BLUR_FRAGMENT_SHADER =
+      "#ifdef GL_ES\n"
+          + "precision mediump float;\n"
+          + "#endif\n"
+          + "varying vec4 v_color;\n"
+          + "varying vec2 v_texCoords;\n"
+          + "uniform sampler2D u_texture;\n"
+          + "uniform vec2 u_texel;\n"
+          + "void main() {\n"
+          + "  float a = 4.0 * texture2D(u_texture, v_texCoords).a;\n"
+          + "  a += 2.0 * texture2D(u_texture, v_texCoords + vec2(u_texel.x, 0.0)).a;\n"
+          + "  a += 2.0 * texture2D(u_texture, v_texCoords - vec2(u_texel.x, 0.0)).a;\n"
+          + "  a += 2.0 * texture2D(u_texture, v_texCoords + vec2(0.0, u_texel.y)).a;\n"
+          + "  a += 2.0 * texture2D(u_texture, v_texCoords - vec2(0.0, u_texel.y)).a;\n"
+          + "  a += texture2D(u_texture, v_texCoords + u_texel).a;\n"
+          + "  a += texture2D(u_texture, v_texCoords - u_texel).a;\n"
+          + "  a += texture2D(u_texture, v_texCoords + vec2(u_texel.x, -u_texel.y)).a;\n"
+          + "  a += texture2D(u_texture, v_texCoords + vec2(-u_texel.x, u_texel.y)).a;\n"
+          + "  gl_FragColor = vec4(v_color.rgb, v_color.a * a / 16.0);\n"
+          + "}\n";
+
+  private final SpriteBatch batch;
+  private ShaderProgram blurShader;
+  private boolean blurEnabled = false;
+
+  private Texture lightMap;
+  private ByteBuffer pixels;
+  // Grid the texture was built for: a new level brings new arrays
+  private float[] uploadedGrid;
 
   public LightingRenderer() {
-    this.shapeRenderer = new ShapeRenderer();
+    this.batch = new SpriteBatch(1);
+  }
+
+  /** Softens the light map with a blur shader (falls back to plain filtering if it fails). */
+  public void setBlurEnabled(boolean enabled) {
+    this.blurEnabled = enabled;
+    if (enabled && blurShader == null) {
+      blurShader = new ShaderProgram(VERTEX_SHADER, BLUR_FRAGMENT_SHADER);
+      if (!blurShader.isCompiled()) {
+        Gdx.app.error("LightingRenderer", "Blur shader: " + blurShader.getLog());
+        blurShader.dispose();
+        blurShader = null;
+        this.blurEnabled = false;
+      }
+    }
+  }
+
+  public boolean isBlurEnabled() {
+    return blurEnabled;
+  }
+
+  /**
+   * @return Draw calls of the light map's own batch since it was created (see {@link
+   *     SpriteBatch#totalRenderCalls})
+   */
+  public int getTotalRenderCalls() {
+    return batch.totalRenderCalls;
   }
 
   public void render(
       LightingSystem lightingSystem, TiledMap map, com.badlogic.gdx.math.Matrix4 projectionMatrix) {
     if (lightingSystem == null || map == null) return;
 
-    double[][] visible = lightingSystem.getVisible();
-    boolean[][] explored = lightingSystem.getExplored();
+    float[] visible = lightingSystem.getVisible();
+    long[] explored = lightingSystem.getExplored();
 
     if (visible == null || explored == null) return;
 
+    int width = lightingSystem.getGridWidth();
+    int height = lightingSystem.getGridHeight();
+    if (visible != uploadedGrid) {
+      createLightMap(width, height);
+      uploadedGrid = visible;
+    }
+    uploadDirtyRows(lightingSystem, visible, explored, width);
+
     MapProperties prop = map.getProperties();
     int tileWidth = prop.get("tilewidth", Integer.class);
     int tileHeight = prop.get("tileheight", Integer.class);
-
     int subDiv = lightingSystem.getSubdivisions();
-    float subWidth = (float) tileWidth / subDiv;
-    float subHeight = (float) tileHeight / subDiv;
-
-    Gdx.gl.glEnable(GL20.GL_BLEND);
-    Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
-    shapeRenderer.setProjectionMatrix(projectionMatrix);
-    shapeRenderer.begin(ShapeType.Filled);
-
-    int height = visible.length;
-    int width = visible[0].length;
-
-    for (int y = 0; y < height; y++) {
-      for (int x = 0; x < width; x++) {
-        double light = visible[y][x];
-        boolean isExplored = explored[y][x];
-
-        float alpha;
-        if (!isExplored) {
-          alpha = 0.8f; // Unexplored = Black
-        } else {
-          // Explored but currently dark = Fog (0.7f max darkness?)
-          // Light 1.0 = Alpha 0.0 (transparent)
-          // Light 0.0 = Alpha 0.6 (dim)
-          // You can tweak this "Memory" darkness
-          float maxDarkness = 0.6f; // 0.8f for "seen but dark"
-          alpha = maxDarkness * (1.0f - (float) light);
-        }
-
-        if (alpha > 0.05f) {
-          shapeRenderer.setColor(0, 0, 0, alpha);
-          shapeRenderer.rect(x * subWidth, y * subHeight, subWidth, subHeight);
-        }
+    float mapWidth = (float) width / subDiv * tileWidth;
+    float mapHeight = (float) height / subDiv * tileHeight;
+
+    batch.setProjectionMatrix(projectionMatrix);
+    batch.setShader(blurEnabled ? blurShader : null);
+    batch.enableBlending();
+    batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    batch.setColor(Color.BLACK);
+    batch.begin();
+    if (blurEnabled) blurShader.setUniformf("u_texel", 1f / width, 1f / height);
+    // Row 0 of the texture is the bottom row of the map: v runs upwards
+    batch.draw(lightMap, 0, 0, mapWidth, mapHeight, 0f, 0f, 1f, 1f);
+    batch.end();
+  }
+
+  private void createLightMap(int width, int height) {
+    if (lightMap != null) lightMap.dispose();
+    lightMap = new Texture(width, height, Pixmap.Format.Alpha);
+    lightMap.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+    lightMap.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
+    pixels = BufferUtils.newByteBuffer(width * height);
+  }
+
+  private void uploadDirtyRows(
+      LightingSystem lightingSystem, float[] visible, long[] explored, int width) {
+    int rowMin = Math.max(0, lightingSystem.getDirtyRowMin());
+    int rowMax = Math.min(lightingSystem.getGridHeight() - 1, lightingSystem.getDirtyRowMax());
+    lightingSystem.clearDirtyRows();
+    if (rowMin > rowMax) return;
+
+    encodeRows(visible, explored, pixels, rowMin * width, (rowMax + 1) * width);
+
+    pixels.position(rowMin * width);
+    lightMap.bind();
+    Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+    Gdx.gl.glTexSubImage2D(
+        GL20.GL_TEXTURE_2D,
+        0,
+        0,
+        rowMin,
+        width,
+        rowMax - rowMin + 1,
+        GL20.GL_ALPHA,
+        GL20.GL_UNSIGNED_BYTE,
+        pixels);
+    pixels.position(0);
+  }
+
+  /**
+   * Writes the darkness (0 clear, 255 black) of the subcells in [from, to) into out, at the same
+   * indices: the grids and the texture share the row by row layout.
+   */
+  static void encodeRows(float[] visible, long[] explored, ByteBuffer out, int from, int to) {
+    for (int i = from; i < to; i++) {
+      float darkness;
+      if ((explored[i >>> 6] & (1L << i)) == 0) {
+        darkness = UNEXPLORED_DARKNESS;
+      } else {
+        // Explored: light 1.0 is fully clear, light 0.0 is the "memory" darkness
+        darkness = MEMORY_DARKNESS * (1.0f - visible[i]);
       }
+      if (darkness <= MIN_DARKNESS) darkness = 0f;
+      out.put(i, (byte) Math.round(darkness * 255f));
     }
-
-    shapeRenderer.end();
-    Gdx.gl.glDisable(GL20.GL_BLEND);
   }
 
   public void dispose() {
-    shapeRenderer.dispose();
+    batch.dispose();
+    if (blurShader != null) blurShader.dispose();
+    if (lightMap != null) lightMap.dispose();
+    lightMap = null;
+    uploadedGrid = null;
   }
 }
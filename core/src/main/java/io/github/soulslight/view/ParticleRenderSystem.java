@@ -8,7 +8,6 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import io.github.soulslight.manager.ParticleManager;
 import io.github.soulslight.manager.TextureManager;
-import io.github.soulslight.model.Constants;
 import io.github.soulslight.model.GameModel;
 import io.github.soulslight.model.entities.Projectile;
 import io.github.soulslight.model.particles.ParticleType;
@@ -24,8 +23,18 @@ import java.util.Set;
 public class ParticleRenderSystem {
 
   private final Map<Door, ParticleEffectPool.PooledEffect> doorEffectsMap = new IdentityHashMap<>();
-  private final Map<Projectile, ParticleEffectPool.PooledEffect> projectileEffectsMap =
-      new IdentityHashMap<>();
+  // Projectiles are pooled: an effect belongs to the shot it was started for, not the instance
+  private final Map<Projectile, ShotEffect> projectileEffectsMap = new IdentityHashMap<>();
+
+  private static final class ShotEffect {
+    final ParticleEffectPool.PooledEffect effect;
+    final long shotId;
+
+    ShotEffect(ParticleEffectPool.PooledEffect effect, long shotId) {
+      this.effect = effect;
+      this.shotId = shotId;
+    }
+  }
 
   private ParticleEffectPool.PooledEffect portalEffect;
 
@@ -81,18 +90,15 @@ public class ParticleRenderSystem {
   }
 
   public void renderProjectiles(SpriteBatch batch, GameModel model, float delta) {
-    com.badlogic.gdx.graphics.Texture tArrow = TextureManager.getInstance().get("arrow");
-    if (tArrow == null) tArrow = TextureManager.getInstance().get("player");
+    com.badlogic.gdx.graphics.g2d.TextureRegion tArrow = TextureManager.getInstance().get("arrow");
 
     Set<Projectile> active = new HashSet<>();
 
     for (Projectile p : model.getProjectiles()) {
       active.add(p);
-      String type = p.getType();
+      int typeId = p.getTypeId();
 
-      if (Constants.PROJ_HOMING_FIREBALL.equals(type) // Was startsWith in original?
-          || type.startsWith(Constants.PROJ_HOMING_FIREBALL)
-          || Constants.PROJ_FIREBALL.equals(type)) {
+      if (typeId == Projectile.TYPE_HOMING_FIREBALL || typeId == Projectile.TYPE_FIREBALL) {
         updateAndDrawParticle(batch, p, ParticleType.FIREBALL_BLUE, delta); // Using batch from arg
       } else {
         // Default Sprite Drawing
@@ -106,23 +112,18 @@ public class ParticleRenderSystem {
             8,
             1,
             1,
-            p.getRotation(),
-            0,
-            0,
-            tArrow.getWidth(),
-            tArrow.getHeight(),
-            false,
-            false);
+            p.getRotation());
       }
     }
 
     // Cleanup dead particles
-    Iterator<Map.Entry<Projectile, ParticleEffectPool.PooledEffect>> it =
-        projectileEffectsMap.entrySet().iterator();
+    // (or the instance was recycled for another shot, possibly an arrow)
+    Iterator<Map.Entry<Projectile, ShotEffect>> it = projectileEffectsMap.entrySet().iterator();
     while (it.hasNext()) {
-      Map.Entry<Projectile, ParticleEffectPool.PooledEffect> entry = it.next();
-      if (!active.contains(entry.getKey())) {
-        entry.getValue().free();
+      Map.Entry<Projectile, ShotEffect> entry = it.next();
+      if (!active.contains(entry.getKey())
+          || entry.getKey().getShotId() != entry.getValue().shotId) {
+        entry.getValue().effect.free();
         it.remove();
       }
     }
@@ -130,13 +131,20 @@ public class ParticleRenderSystem {
 
   private void updateAndDrawParticle(
       SpriteBatch batch, Projectile p, ParticleType type, float delta) {
-    ParticleEffectPool.PooledEffect effect = projectileEffectsMap.get(p);
+    ShotEffect shot = projectileEffectsMap.get(p);
+    if (shot != null && shot.shotId != p.getShotId()) {
+      // Same instance, new shot: the old emitters must not carry over
+      shot.effect.free();
+      projectileEffectsMap.remove(p);
+      shot = null;
+    }
 
+    ParticleEffectPool.PooledEffect effect = shot != null ? shot.effect : null;
     if (effect == null) {
       ParticleEffectPool pool = ParticleManager.getInstance().getPool(type);
       if (pool != null) {
         effect = pool.obtain();
-        projectileEffectsMap.put(p, effect);
+        projectileEffectsMap.put(p, new ShotEffect(effect, p.getShotId()));
       }
     }
 
@@ -218,7 +226,7 @@ public class ParticleRenderSystem {
   public void dispose() {
     // Free active effects
     for (ParticleEffectPool.PooledEffect e : doorEffectsMap.values()) e.free();
-    for (ParticleEffectPool.PooledEffect e : projectileEffectsMap.values()) e.free();
+    for (ShotEffect e : projectileEffectsMap.values()) e.effect.free();
     if (portalEffect != null) portalEffect.free();
 
     doorEffectsMap.clear();
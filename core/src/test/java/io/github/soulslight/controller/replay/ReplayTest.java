@@ -0,0 +1,134 @@
+package io.github.soulslight.controller.replay;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import io.github.soulslight.controller.commands.AttackCommand;
+import io.github.soulslight.controller.commands.Command;
+import io.github.soulslight.controller.commands.ConsumeItemCommand;
+import io.github.soulslight.manager.GameManager;
+import io.github.soulslight.manager.GameMode;
+import io.github.soulslight.model.GameModel;
+import io.github.soulslight.model.enemies.AbstractEnemy;
+import io.github.soulslight.model.entities.Player;
+import io.github.soulslight.model.room.Room;
+import io.github.soulslight.utils.GdxTestExtension;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class ReplayTest {
+
+  private static final int TICKS = 900;
+
+  private GameModel model;
+
+  @BeforeAll
+  static void initBox2D() {
+    Box2D.init();
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Field instance = GameManager.class.getDeclaredField("instance");
+    instance.setAccessible(true);
+    instance.set(null, null);
+
+    GameManager.getInstance().setSelectedPlayerClass(Player.PlayerClass.ARCHER);
+    GameManager.getInstance().startCampaign(GameMode.STORY);
+    GameManager.getInstance().setCampaignSeed(424242L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (model != null) model.dispose();
+    model = null;
+  }
+
+  // Same setup on both runs: every room fights from the first tick
+  private static void wakeAllRooms(GameModel model) {
+    for (Room room : model.getLevel().getRoomManager().getRooms()) {
+      room.activateEnemies();
+    }
+  }
+
+  // Positions and health of everything alive, in list order
+  private static float[] snapshot(GameModel model) {
+    List<Player> players = model.getPlayers();
+    List<AbstractEnemy> enemies = model.getActiveEnemies();
+    float[] state = new float[1 + players.size() * 3 + enemies.size() * 3];
+    int i = 0;
+    state[i++] = model.getProjectiles().size();
+    for (Player p : players) {
+      state[i++] = p.getPosition().x;
+      state[i++] = p.getPosition().y;
+      state[i++] = p.getHealth();
+    }
+    for (AbstractEnemy e : enemies) {
+      state[i++] = e.getPosition().x;
+      state[i++] = e.getPosition().y;
+      state[i++] = e.getHealth();
+    }
+    return state;
+  }
+
+  // What GameController and GameScreen do on a live frame, with a scripted player
+  private static void liveTick(GameModel model, ReplayRecorder recorder, int tick) {
+    if (tick % 15 == 0) execute(model, recorder, new AttackCommand(0));
+    if (tick == 400) execute(model, recorder, new ConsumeItemCommand(0, 0));
+
+    Player player = model.getPlayers().get(0);
+    float speed = (tick / 120) % 2 == 0 ? 160f : -160f;
+    player.move(speed, tick % 240 < 120 ? 0f : speed);
+    recorder.recordMovement(
+        0, player.getBody().getLinearVelocity().x, player.getBody().getLinearVelocity().y);
+
+    // Uneven frame times, as a real frame loop would produce
+    float delta = tick % 7 == 0 ? 1 / 30f : 1 / 60f;
+    recorder.endTick(delta);
+    model.update(delta);
+  }
+
+  private static void execute(GameModel model, ReplayRecorder recorder, Command command) {
+    recorder.recordCommand(command);
+    command.execute(model);
+  }
+
+  @Test
+  void testPlaybackReproducesRecordedRun() throws Exception {
+    model = new GameModel();
+    wakeAllRooms(model);
+    ReplayRecorder recorder = new ReplayRecorder();
+    for (int tick = 0; tick < TICKS; tick++) liveTick(model, recorder, tick);
+    float[] recorded = snapshot(model);
+    Replay replay = recorder.finish();
+
+    // Through the binary format
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    replay.write(bytes);
+    assertEquals(replay.getSizeInBytes(), bytes.size());
+    assertTrue(bytes.size() < TICKS * 3, "Steady ticks cost about one byte each");
+    Replay loaded = Replay.read(new ByteArrayInputStream(bytes.toByteArray()));
+    assertEquals(TICKS, loaded.getTickCount());
+    assertEquals(424242L, loaded.getCampaignSeed());
+
+    model.dispose();
+    model = ReplayPlayer.createModel(loaded);
+    wakeAllRooms(model);
+    ReplayPlayer player = new ReplayPlayer(loaded, model);
+    assertEquals(TICKS, player.playToEnd());
+    assertFalse(player.step());
+
+    assertArrayEquals(recorded, snapshot(model));
+  }
+}
@@ -0,0 +1,77 @@
+package io.github.soulslight.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import io.github.soulslight.model.pathfinding.GridPath;
+import io.github.soulslight.utils.GdxTestExtension;
+import io.github.soulslight.utils.TestMaps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class PathfindingManagerTest {
+
+  private TiledMapTileLayer createOpenLayer() {
+    return TestMaps.openLayer(8, 8);
+  }
+
+  @Test
+  void testRepeatedQueryIsServedFromCache() {
+    PathfindingManager pfm = new PathfindingManager(createOpenLayer());
+    GridPath first = new GridPath();
+    GridPath second = new GridPath();
+
+    assertTrue(pfm.findPath(16, 16, 200, 200, first));
+    // Different world positions inside the same tiles share the entry
+    assertTrue(pfm.findPath(20, 10, 210, 220, second));
+
+    assertEquals(1, pfm.getCacheMisses());
+    assertEquals(1, pfm.getCacheHits());
+    assertEquals(first.getCount(), second.getCount());
+    for (int i = 0; i < first.getCount(); i++) {
+      assertEquals(first.get(i), second.get(i));
+    }
+  }
+
+  @Test
+  void testInvalidateForcesNewSearch() {
+    PathfindingManager pfm = new PathfindingManager(createOpenLayer());
+    GridPath path = new GridPath();
+
+    pfm.findPath(16, 16, 200, 200, path);
+    pfm.invalidatePathCache();
+    pfm.findPath(16, 16, 200, 200, path);
+
+    assertEquals(2, pfm.getCacheMisses());
+    assertEquals(0, pfm.getCacheHits());
+    assertFalse(path.isEmpty());
+  }
+
+  @Test
+  void testFullCacheEvictsLeastRecentlyUsed() {
+    PathfindingManager pfm = new PathfindingManager(createOpenLayer());
+    GridPath path = new GridPath();
+
+    for (int n = 0; n < PathfindingManager.PATH_CACHE_CAPACITY; n++) query(pfm, n, path);
+    // Touch the oldest entry, so the second one becomes the least recently used
+    query(pfm, 0, path);
+    query(pfm, PathfindingManager.PATH_CACHE_CAPACITY, path);
+    assertEquals(1, pfm.getCacheHits());
+
+    query(pfm, 0, path);
+    assertEquals(2, pfm.getCacheHits());
+    long misses = pfm.getCacheMisses();
+    query(pfm, 1, path);
+    assertEquals(misses + 1, pfm.getCacheMisses());
+  }
+
+  // A distinct (start tile, goal tile) pair for every n below 3 * 64
+  private static void query(PathfindingManager pfm, int n, GridPath path) {
+    int start = n % 64;
+    int goal = n / 64;
+    pfm.findPath((start % 8) * 32 + 16, (start / 8) * 32 + 16, (goal % 8) * 32 + 16, 16, path);
+  }
+}
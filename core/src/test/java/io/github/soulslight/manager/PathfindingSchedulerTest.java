@@ -0,0 +1,94 @@
+package io.github.soulslight.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import io.github.soulslight.model.pathfinding.GridPath;
+import io.github.soulslight.utils.GdxTestExtension;
+import io.github.soulslight.utils.TestMaps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class PathfindingSchedulerTest {
+
+  /** Open 40x40 floor with a long wall at x = 20 (gap at the top) to make searches expensive. */
+  private TiledMapTileLayer createLayer() {
+    return TestMaps.layer(40, 40, (x, y) -> x == 20 && y < 38);
+  }
+
+  @Test
+  void testSearchIsSpreadOverFramesWithZeroBudget() {
+    PathfindingManager pfm = new PathfindingManager(createLayer());
+    PathfindingScheduler scheduler = pfm.getScheduler();
+    scheduler.setBudgetMicros(0);
+
+    PathfindingScheduler.Request request = new PathfindingScheduler.Request();
+    GridPath path = new GridPath();
+    scheduler.submit(request, 5 * 32 + 16, 5 * 32 + 16, 35 * 32 + 16, 5 * 32 + 16);
+    // Resubmitting while queued is ignored
+    scheduler.submit(request, 5 * 32 + 16, 5 * 32 + 16, 35 * 32 + 16, 5 * 32 + 16);
+    assertEquals(1, scheduler.getQueueDepth());
+
+    int frames = 0;
+    while (request.isPending() && frames < 100) {
+      scheduler.process();
+      frames++;
+    }
+
+    assertTrue(frames > 1, "A long search should need more than one zero-budget frame");
+    assertEquals(0, scheduler.getQueueDepth());
+    assertTrue(request.poll(path));
+    assertFalse(request.poll(path), "A result is only delivered once");
+    assertEquals(35, path.getX(path.getCount() - 1));
+    assertEquals(1, scheduler.getCompletedCount());
+  }
+
+  @Test
+  void testCachedResultCompletesOnSubmit() {
+    PathfindingManager pfm = new PathfindingManager(createLayer());
+    PathfindingScheduler scheduler = pfm.getScheduler();
+    GridPath path = new GridPath();
+
+    // Warm the cache with a synchronous query
+    assertTrue(pfm.findPath(16, 16, 10 * 32 + 16, 16, path));
+
+    PathfindingScheduler.Request request = new PathfindingScheduler.Request();
+    scheduler.submit(request, 16, 16, 10 * 32 + 16, 16);
+
+    assertFalse(request.isPending());
+    assertEquals(0, scheduler.getQueueDepth());
+    assertTrue(request.poll(path));
+    assertEquals(10, path.getX(path.getCount() - 1));
+    assertTrue(scheduler.getLatencyPercentileMicros(99) >= 0);
+  }
+
+  @Test
+  void testWorkerPoolDeliversResultsOnProcess() throws InterruptedException {
+    PathfindingManager pfm = new PathfindingManager(createLayer());
+    PathfindingScheduler scheduler = pfm.getScheduler();
+    scheduler.setWorkerThreads(2);
+    assertTrue(scheduler.isUsingWorkers());
+
+    PathfindingScheduler.Request[] requests = new PathfindingScheduler.Request[4];
+    for (int i = 0; i < requests.length; i++) {
+      requests[i] = new PathfindingScheduler.Request();
+      scheduler.submit(requests[i], 5 * 32 + 16, (5 + i) * 32 + 16, 35 * 32 + 16, 5 * 32 + 16);
+    }
+
+    for (int frame = 0; frame < 200 && scheduler.getQueueDepth() > 0; frame++) {
+      scheduler.process();
+      Thread.sleep(5);
+    }
+    pfm.dispose();
+
+    assertEquals(0, scheduler.getQueueDepth());
+    GridPath path = new GridPath();
+    for (PathfindingScheduler.Request request : requests) {
+      assertTrue(request.poll(path));
+      assertEquals(35, path.getX(path.getCount() - 1));
+    }
+  }
+}
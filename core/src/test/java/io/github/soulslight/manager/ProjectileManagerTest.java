@@ -28,18 +28,18 @@ class ProjectileManagerTest {
 
   @Test
   void testAddProjectile() {
-    Projectile p = mock(Projectile.class);
+    Projectile p = new Projectile(0, 0, new Vector2(10, 0));
     manager.addProjectile(p);
     assertEquals(1, manager.getProjectiles().size());
   }
 
   @Test
   void testProjectileCleanup() {
-    Projectile p = new Projectile(world, 0, 0, new Vector2(10, 0));
+    Projectile p = new Projectile(0, 0, new Vector2(10, 0));
     manager.addProjectile(p);
 
     // Override velocità per sicurezza nel test
-    p.getBody().setLinearVelocity(10f, 0f);
+    p.setVelocity(10f, 0f);
 
     // Update
     manager.update(11.0f, new ArrayList<>(), new ArrayList<>());
@@ -59,9 +59,9 @@ class ProjectileManagerTest {
     wall.createFixture(shape, 1.0f);
     shape.dispose();
 
-    Projectile p = new Projectile(world, 3.5f, 0, new Vector2(10f, 0));
+    Projectile p = new Projectile(3.5f, 0, new Vector2(10f, 0));
 
-    p.getBody().setLinearVelocity(15f, 0f);
+    p.setVelocity(15f, 0f);
 
     manager.addProjectile(p);
 
@@ -80,8 +80,8 @@ class ProjectileManagerTest {
   @Test
   void testPlayerHitDetection() {
 
-    Projectile p = new Projectile(world, 2f, 0, new Vector2(10f, 0));
-    p.getBody().setLinearVelocity(30f, 0f); // Sovrascriviamo velocità
+    Projectile p = new Projectile(2f, 0, new Vector2(10f, 0));
+    p.setVelocity(30f, 0f); // Sovrascriviamo velocità
     manager.addProjectile(p);
 
     // Player Mock
@@ -108,8 +108,8 @@ class ProjectileManagerTest {
 
   @Test
   void testInvinciblePlayerIsNotHit() {
-    Projectile p = new Projectile(world, 2f, 0, new Vector2(10f, 0));
-    p.getBody().setLinearVelocity(30f, 0f);
+    Projectile p = new Projectile(2f, 0, new Vector2(10f, 0));
+    p.setVelocity(30f, 0f);
     manager.addProjectile(p);
 
     Player player = mock(Player.class);
@@ -126,4 +126,37 @@ class ProjectileManagerTest {
     verify(player, never()).takeDamage(anyFloat());
     assertEquals(1, manager.getProjectiles().size(), "Proiettile passa attraverso");
   }
+
+  @Test
+  void testManyProjectilesReuseSlotsWithoutBodies() {
+    // Half of the shots expire after one step, the rest keep flying
+    for (int i = 0; i < 300; i++) {
+      Projectile p = new Projectile(0, i, new Vector2(10, i));
+      p.setVelocity(20f, 0f);
+      if (i % 2 == 0) p.markDestroy();
+      manager.addProjectile(p);
+    }
+
+    manager.update(0.1f, new ArrayList<>(), new ArrayList<>());
+
+    assertEquals(150, manager.getProjectiles().size());
+    assertEquals(0, world.getBodyCount());
+    for (Projectile p : manager.getProjectiles()) {
+      assertEquals(1, (int) p.getPosition().y % 2, "Solo i proiettili dispari restano");
+      assertEquals(2f, p.getPosition().x, 0.001f);
+      assertEquals(0f, p.getLastPosition().x, 0.001f);
+    }
+
+    manager.clear();
+    assertTrue(manager.getProjectiles().isEmpty());
+  }
+
+  @Test
+  void testRecycledProjectileGetsNewShotId() {
+    Projectile p = new Projectile(0, 0, new Vector2(10, 0), true, null, 400f, 15f, "fireball");
+    long first = p.getShotId();
+    p.reset();
+    p.init(0, 0, new Vector2(10, 0), true, null, 400f, 15f, "arrow");
+    assertNotEquals(first, p.getShotId(), "Effetti legati al colpo precedente vanno scartati");
+  }
 }
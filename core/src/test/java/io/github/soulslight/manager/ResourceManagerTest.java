@@ -109,4 +109,16 @@ class ResourceManagerTest {
     // Verifica che dispose non lanci eccezioni
     assertDoesNotThrow(() -> rm.dispose());
   }
+
+  @Test
+  void testTilesShareOneAtlasTexture() {
+    ResourceManager rm = ResourceManager.getInstance();
+    Texture page = rm.getWallTextureRegion().getTexture();
+
+    assertSame(page, rm.getFloorTextureRegion().getTexture());
+    for (TextureRegion floor : rm.getFloorTextureRegions()) {
+      assertSame(page, floor.getTexture(), "Le varianti del pavimento devono stare nell'atlas");
+    }
+    assertSame(page, rm.getInnerCornerWallNE().getTexture());
+  }
 }
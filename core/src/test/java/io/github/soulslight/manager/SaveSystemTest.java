@@ -65,6 +65,7 @@ class SaveSystemTest {
 
     GameStateMemento original =
         new GameStateMemento(players, enemies, projectiles, rooms, doors, portals, seed, 2, 50f);
+    original.exploredFog = "gA8AfwE=";
 
     // Serialize with LibGDX Json (Standard Way)
     Json json = new Json();
@@ -87,6 +88,7 @@ class SaveSystemTest {
     assertEquals(original.rooms.size(), loaded.rooms.size());
     assertEquals(original.doors.size(), loaded.doors.size());
     assertEquals(original.portals.size(), loaded.portals.size());
+    assertEquals(original.exploredFog, loaded.exploredFog);
 
     EnemyMemento e1 = loaded.enemies.get(0);
     assertEquals("Chaser", e1.type);
@@ -62,8 +62,8 @@ class TextureManagerTest {
   @Test
   void testGetMissingTextureReturnsFallback() {
     // Chiediamo una texture che sicuramente non esiste
-    Texture missing = TextureManager.getInstance().get("non_esiste");
-    Texture fallback = TextureManager.getInstance().get("player");
+    TextureRegion missing = TextureManager.getInstance().get("non_esiste");
+    TextureRegion fallback = TextureManager.getInstance().get("player");
 
     assertNotNull(missing, "Il metodo get non deve mai restituire null");
     assertNotNull(fallback, "La texture di fallback (player) deve esistere");
@@ -103,7 +103,7 @@ class TextureManagerTest {
 
   @Test
   void testTextureFiltersAreNearest() {
-    Texture playerTex = TextureManager.getInstance().get("player");
+    Texture playerTex = TextureManager.getInstance().get("player").getTexture();
 
     assertEquals(
         Texture.TextureFilter.Nearest,
@@ -122,4 +122,18 @@ class TextureManagerTest {
     assertNotNull(TextureManager.getInstance().get("boss"));
     assertNotNull(TextureManager.getInstance().get("arrow"));
   }
+
+  @Test
+  void testSpritesShareOneAtlasTexture() {
+    TextureManager tm = TextureManager.getInstance();
+    Texture page = tm.get("player").getTexture();
+
+    // Personaggi, animazioni, proiettili e oggetti nella stessa pagina: nessun flush tra sprite
+    // (solo i frame del boss possono finire in una seconda pagina)
+    assertSame(page, tm.get("boss").getTexture());
+    assertSame(page, tm.get("arrow").getTexture());
+    assertSame(page, tm.getChaserWalkFrame(0f).getTexture());
+    assertSame(page, tm.getSpikedBallChargeFrame(0f).getTexture());
+    assertSame(page, ResourceManager.getInstance().getItemRegion("item_key").getTexture());
+  }
 }
@@ -0,0 +1,62 @@
+package io.github.soulslight.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import io.github.soulslight.utils.GdxTestExtension;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class CombatAllocationTest {
+
+  // Warm-up: pools fill, lists reach their final capacity, the JIT compiles the tick
+  private static final int WARMUP_TICKS = 4000;
+  private static final int WINDOW_TICKS = 300;
+
+  // Looked up once: the lookup itself allocates
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private SimulationHarness harness;
+
+  @AfterEach
+  void tearDown() {
+    if (harness != null) harness.dispose();
+    harness = null;
+    Gdx.app.setLogLevel(Application.LOG_INFO);
+  }
+
+  private static long allocatedBytes() {
+    return THREADS.getCurrentThreadAllocatedBytes();
+  }
+
+  @Test
+  void testSteadyStateGameTickDoesNotAllocate() {
+    // Logging allocates by itself; the periodic reports would be counted
+    Gdx.app.setLogLevel(Application.LOG_NONE);
+    harness = SimulationHarness.create(1);
+    harness.run(WARMUP_TICKS);
+
+    // Reading the counter allocates a little by itself
+    long start = allocatedBytes();
+    long overhead = allocatedBytes() - start;
+
+    // Best of a few windows: a late JIT recompilation can allocate once on its own, while a
+    // per-tick allocation in the game shows up in every window
+    long allocated = Long.MAX_VALUE;
+    for (int window = 0; window < 3 && allocated > 0; window++) {
+      long before = allocatedBytes();
+      harness.run(WINDOW_TICKS);
+      allocated = Math.min(allocated, allocatedBytes() - before - overhead);
+    }
+
+    assertTrue(harness.getModel().getActiveEnemies().size() > 0, "Enemies are fighting");
+    assertEquals(
+        0L, Math.max(0L, allocated), "Bytes allocated over " + WINDOW_TICKS + " game ticks");
+  }
+}
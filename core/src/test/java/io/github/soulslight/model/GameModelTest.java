@@ -33,6 +33,8 @@ class GameModelTest {
 
     GameManager.getInstance().setSelectedPlayerClass(Player.PlayerClass.WARRIOR);
     GameManager.getInstance().startCampaign(io.github.soulslight.manager.GameMode.STORY);
+    // Fixed seed: the same level every run
+    GameManager.getInstance().setCampaignSeed(424242L);
   }
 
   @AfterEach
@@ -106,6 +108,8 @@ class GameModelTest {
 
     p1.setHealth(50f);
     p1.setPosition(200f, 200f);
+    model.updateLighting();
+    long[] explored = model.getLightingSystem().getExplored().clone();
 
     GameStateMemento memento = model.createMemento();
 
@@ -119,5 +123,7 @@ class GameModelTest {
     Player restoredP1 = model.getPlayers().get(0);
     assertEquals(50f, restoredP1.getHealth(), 0.1f);
     assertEquals(200f, restoredP1.getPosition().x, 2.0f);
+    // Fog of war is restored, not reset
+    assertArrayEquals(explored, model.getLightingSystem().getExplored());
   }
 }
@@ -0,0 +1,58 @@
+package io.github.soulslight.model.enemies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.World;
+import io.github.soulslight.model.entities.Player;
+import io.github.soulslight.model.pathfinding.DungeonGraph;
+import io.github.soulslight.model.pathfinding.GridLineOfSight;
+import io.github.soulslight.utils.GdxTestExtension;
+import io.github.soulslight.utils.TestMaps;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class VisibilityCacheTest {
+
+  /** 12x10 floor with a wall column at x = 5. */
+  private GridLineOfSight createLineOfSight() {
+    return new GridLineOfSight(new DungeonGraph(TestMaps.layer(12, 10, (x, y) -> x == 5)));
+  }
+
+  @Test
+  void testPairsAreComputedOnceAndServedFromCache() {
+    Box2D.init();
+    World world = new World(new Vector2(0, 0), true);
+    GridLineOfSight los = createLineOfSight();
+
+    Chaser enemy = new Chaser();
+    enemy.createBody(world, 2 * 32 + 16, 4 * 32 + 16);
+    Player near = new Player(Player.PlayerClass.WARRIOR, world, 4 * 32 + 16, 4 * 32 + 16);
+    Player behindWall = new Player(Player.PlayerClass.WARRIOR, world, 7 * 32 + 16, 4 * 32 + 16);
+
+    VisibilityCache cache = new VisibilityCache();
+    cache.update(List.of(enemy), List.of(near, behindWall), los);
+
+    // Both players are in range: one ray each
+    for (int i = 0; i < 3; i++) {
+      assertEquals(VisibilityCache.VISIBLE, cache.lookup(enemy, near));
+      assertEquals(VisibilityCache.HIDDEN, cache.lookup(enemy, behindWall));
+    }
+    assertEquals(64f, cache.getDistance(enemy, near), 0.01f);
+
+    // Next tick publishes the stats: 6 lookups that needed a ray, 2 rays cast
+    cache.update(List.of(enemy), List.of(near, behindWall), los);
+    assertEquals(2, cache.getRaycastsLastTick());
+    assertEquals(4, cache.getRaycastsSavedLastTick());
+
+    // Outside the update window callers fall back to their own checks
+    cache.invalidate();
+    assertEquals(VisibilityCache.UNKNOWN, cache.lookup(enemy, near));
+    assertEquals(-1f, cache.getDistance(enemy, near));
+
+    world.dispose();
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.soulslight.model.lighting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class ExploredCodecTest {
+
+  private static final int COUNT = 200;
+
+  @Test
+  void testRoundTrip() {
+    long[] bits = sampleBits();
+    byte[] data = ExploredCodec.encode(bits, COUNT);
+
+    long[] out = new long[bits.length];
+    assertTrue(ExploredCodec.decode(data, out, COUNT));
+    assertArrayEquals(bits, out);
+  }
+
+  @Test
+  void testRoundTripOfEmptyAndFullMaps() {
+    long[] empty = new long[(COUNT + 63) / 64];
+    long[] out = new long[empty.length];
+    assertTrue(ExploredCodec.decode(ExploredCodec.encode(empty, COUNT), out, COUNT));
+    assertArrayEquals(empty, out);
+
+    long[] full = new long[empty.length];
+    for (int i = 0; i < COUNT; i++) full[i >>> 6] |= 1L << i;
+    assertTrue(ExploredCodec.decode(ExploredCodec.encode(full, COUNT), out, COUNT));
+    assertArrayEquals(full, out);
+  }
+
+  @Test
+  void testTruncatedDataLeavesOutCleared() {
+    byte[] data = ExploredCodec.encode(sampleBits(), COUNT);
+    // Every cut short of the full data, including the last run missing
+    for (int length = 0; length < data.length; length++) {
+      long[] out = filledOut();
+      byte[] truncated = Arrays.copyOf(data, length);
+      assertFalse(ExploredCodec.decode(truncated, out, COUNT), "length " + length);
+      assertArrayEquals(new long[out.length], out, "length " + length);
+    }
+  }
+
+  @Test
+  void testTrailingBytesLeaveOutCleared() {
+    byte[] data = ExploredCodec.encode(sampleBits(), COUNT);
+    byte[] longer = Arrays.copyOf(data, data.length + 1);
+
+    long[] out = filledOut();
+    assertFalse(ExploredCodec.decode(longer, out, COUNT));
+    assertArrayEquals(new long[out.length], out);
+  }
+
+  @Test
+  void testOtherCellCountIsRejected() {
+    byte[] data = ExploredCodec.encode(sampleBits(), COUNT);
+
+    long[] out = filledOut();
+    assertFalse(ExploredCodec.decode(data, out, COUNT - 1));
+    assertArrayEquals(new long[out.length], out);
+  }
+
+  // Runs of several lengths, crossing word boundaries, ending on an explored cell
+  private static long[] sampleBits() {
+    long[] bits = new long[(COUNT + 63) / 64];
+    int[][] runs = {{0, 3}, {10, 11}, {60, 130}, {150, 151}, {190, COUNT}};
+    for (int[] run : runs) {
+      for (int i = run[0]; i < run[1]; i++) bits[i >>> 6] |= 1L << i;
+    }
+    return bits;
+  }
+
+  private static long[] filledOut() {
+    long[] out = new long[(COUNT + 63) / 64];
+    Arrays.fill(out, -1L);
+    return out;
+  }
+}
@@ -0,0 +1,235 @@
+package io.github.soulslight.model.lighting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import io.github.soulslight.utils.GdxTestExtension;
+import io.github.soulslight.utils.TestMaps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class LightingSystemTest {
+
+  private static final int SIZE = 60;
+  private static final float TILE = TestMaps.TILE_SIZE;
+
+  @Test
+  void testIncrementalUpdateMatchesFullRecompute() {
+    LightingSystem lighting = new LightingSystem();
+    lighting.prepareLightingOverlay(createMap());
+    int sub = lighting.getSubdivisions();
+    int big = SIZE * sub;
+
+    byte[] resistance = createResistance(sub);
+    float[] expected = new float[big * big];
+    long[] expectedExplored = new long[(big * big + 63) / 64];
+
+    // Walk far enough for the previous light to leave the radius entirely
+    int[][] path = {{5, 5}, {6, 5}, {6, 9}, {30, 9}, {30, 40}, {52, 52}, {52, 52}};
+    for (int[] tile : path) {
+      lighting.update((tile[0] + 0.5f) * TILE, (tile[1] + 0.5f) * TILE, TILE);
+
+      int startX = tile[0] * sub + sub / 2;
+      int startY = tile[1] * sub + sub / 2;
+      FieldOfView.reuseFOV(resistance, expected, big, startX, startY, 16 * sub);
+      for (int i = 0; i < expected.length; i++) {
+        if (expected[i] > 0f) expectedExplored[i / 64] |= 1L << (i % 64);
+      }
+
+      assertArrayEquals(expected, lighting.getVisible());
+      assertArrayEquals(expectedExplored, lighting.getExplored());
+    }
+  }
+
+  @Test
+  void testOnlyRowsWithinReachAreDirty() {
+    LightingSystem lighting = new LightingSystem();
+    lighting.prepareLightingOverlay(createMap());
+    lighting.update(5.5f * TILE, 5.5f * TILE, TILE);
+    lighting.clearDirtyRows();
+
+    // Same tile: no recomputation
+    lighting.update(5.9f * TILE, 5.1f * TILE, TILE);
+    assertTrue(lighting.getDirtyRowMin() > lighting.getDirtyRowMax());
+
+    lighting.update(40.5f * TILE, 40.5f * TILE, TILE);
+    int sub = lighting.getSubdivisions();
+    int reach = 16 * sub + 1;
+    // Old light reached down to row 0, new light stops short of the top of the map
+    assertEquals(0, lighting.getDirtyRowMin());
+    assertEquals(40 * sub + sub / 2 + reach, lighting.getDirtyRowMax());
+    assertTrue(lighting.getDirtyRowMax() < SIZE * sub - 1);
+  }
+
+  @Test
+  void testInvalidateRecastsFromTheSameTile() {
+    LightingSystem lighting = new LightingSystem();
+    lighting.prepareLightingOverlay(createMap());
+    lighting.update(5.5f * TILE, 5.5f * TILE, TILE);
+    float[] first = lighting.getVisible().clone();
+    lighting.clearDirtyRows();
+
+    lighting.invalidate();
+    lighting.update(5.5f * TILE, 5.5f * TILE, TILE);
+    assertTrue(lighting.getDirtyRowMin() <= lighting.getDirtyRowMax());
+    assertArrayEquals(first, lighting.getVisible());
+
+    // Only the next update is forced
+    lighting.clearDirtyRows();
+    lighting.update(5.5f * TILE, 5.5f * TILE, TILE);
+    assertTrue(lighting.getDirtyRowMin() > lighting.getDirtyRowMax());
+  }
+
+  @Test
+  void testGridsAreFlatAndCompact() {
+    LightingSystem lighting = new LightingSystem();
+    lighting.prepareLightingOverlay(createMap());
+    int cells = lighting.getGridWidth() * lighting.getGridHeight();
+    assertEquals(cells, lighting.getVisible().length);
+    // One bit per subcell
+    assertEquals((cells + 63) / 64, lighting.getExplored().length);
+
+    lighting.update(10.5f * TILE, 10.5f * TILE, TILE);
+    int sub = lighting.getSubdivisions();
+    assertTrue(lighting.isExplored(10 * sub, 10 * sub));
+    assertFalse(lighting.isExplored(50 * sub, 50 * sub));
+  }
+
+  @Test
+  void testSeveralLightsBlendByMaximum() {
+    LightingSystem serialLighting = new LightingSystem();
+    serialLighting.prepareLightingOverlay(createMap());
+    serialLighting.setParallel(false);
+    castTwoPlayersAndFireball(serialLighting);
+    float[] serial = serialLighting.getVisible();
+    long[] serialExplored = serialLighting.getExplored();
+    int sub = serialLighting.getSubdivisions();
+    int big = SIZE * sub;
+
+    byte[] resistance = createResistance(sub);
+    float[] first = new float[big * big];
+    FieldOfView.reuseFOV(resistance, first, big, 10 * sub + 2, 10 * sub + 2, 16 * sub);
+    float[] second = new float[big * big];
+    FieldOfView.reuseFOV(resistance, second, big, 35 * sub + 2, 30 * sub + 2, 16 * sub);
+    float[] fireball = new float[big * big];
+    FieldOfView.reuseFOV(resistance, fireball, big, 45 * sub, 45 * sub, 3 * sub);
+    for (int i = 0; i < big * big; i++) {
+      float expected = Math.max(first[i], Math.max(second[i], fireball[i]));
+      assertEquals(expected, serial[i], "light at " + i);
+      // Only the players' sight explores: the fireball lights its corner without revealing it
+      boolean seen = first[i] > 0f || second[i] > 0f;
+      assertEquals(seen, FieldOfView.isSet(serialExplored, i), "explored at " + i);
+    }
+
+    // The second player leaves: its light goes away
+    serialLighting.beginLights(TILE);
+    serialLighting.addSightLight(10.5f * TILE, 10.5f * TILE);
+    serialLighting.updateLights();
+    assertArrayEquals(first, serialLighting.getVisible());
+  }
+
+  @Test
+  void testWorkerThreadsGiveTheSameLight() {
+    LightingSystem serialLighting = new LightingSystem();
+    serialLighting.prepareLightingOverlay(createMap());
+    serialLighting.setParallel(false);
+    castFourPlayersAndFireball(serialLighting);
+
+    LightingSystem lighting = new LightingSystem();
+    lighting.prepareLightingOverlay(createMap());
+    castFourPlayersAndFireball(lighting);
+    assertArrayEquals(serialLighting.getVisible(), lighting.getVisible());
+    assertArrayEquals(serialLighting.getExplored(), lighting.getExplored());
+  }
+
+  @Test
+  void testDynamicLightAloneExploresNothing() {
+    LightingSystem lighting = new LightingSystem();
+    lighting.prepareLightingOverlay(createMap());
+    lighting.beginLights(TILE);
+    lighting.addLight(45f * TILE, 45f * TILE, 3f);
+    lighting.updateLights();
+
+    int sub = lighting.getSubdivisions();
+    assertTrue(lighting.getVisible()[45 * sub * SIZE * sub + 45 * sub] > 0f);
+    assertFalse(lighting.isExplored(45 * sub, 45 * sub));
+    for (long word : lighting.getExplored()) {
+      assertEquals(0L, word);
+    }
+  }
+
+  @Test
+  void testExploredMapSurvivesEncoding() {
+    LightingSystem lighting = new LightingSystem();
+    lighting.prepareLightingOverlay(createMap());
+    int[][] path = {{5, 5}, {20, 40}, {40, 12}, {52, 52}};
+    for (int[] tile : path) {
+      lighting.update((tile[0] + 0.5f) * TILE, (tile[1] + 0.5f) * TILE, TILE);
+    }
+
+    String encoded = lighting.encodeExplored();
+    // 240x240 subcells: 7200 bytes as raw bits, 9600 characters in Base64. The pillars of the
+    // test map cast many shadows, the worst case for runs
+    assertTrue(encoded.length() < 9600 / 3, "encoded size " + encoded.length());
+
+    LightingSystem restored = new LightingSystem();
+    restored.prepareLightingOverlay(createMap());
+    assertTrue(restored.restoreExplored(encoded));
+    assertArrayEquals(lighting.getExplored(), restored.getExplored());
+
+    // Garbage or a missing value leaves the map unexplored
+    assertFalse(restored.restoreExplored("AQID"));
+    assertArrayEquals(new long[lighting.getExplored().length], restored.getExplored());
+    assertFalse(restored.restoreExplored(null));
+  }
+
+  private static void castTwoPlayersAndFireball(LightingSystem lighting) {
+    lighting.beginLights(TILE);
+    lighting.addSightLight(10.5f * TILE, 10.5f * TILE);
+    lighting.addSightLight(35.5f * TILE, 30.5f * TILE);
+    lighting.addLight(45f * TILE, 45f * TILE, 3f);
+    lighting.updateLights();
+  }
+
+  // Enough lights and lit subcells for the cast to go to worker threads
+  private static void castFourPlayersAndFireball(LightingSystem lighting) {
+    lighting.beginLights(TILE);
+    lighting.addSightLight(20.5f * TILE, 20.5f * TILE);
+    lighting.addSightLight(40.5f * TILE, 20.5f * TILE);
+    lighting.addSightLight(20.5f * TILE, 40.5f * TILE);
+    lighting.addSightLight(40.5f * TILE, 40.5f * TILE);
+    lighting.addLight(30f * TILE, 30f * TILE, 3f);
+    lighting.updateLights();
+  }
+
+  private static byte[] createResistance(int sub) {
+    int big = SIZE * sub;
+    byte[] resistance = new byte[big * big];
+    for (int y = 0; y < big; y++) {
+      for (int x = 0; x < big; x++) {
+        resistance[y * big + x] = isWall(x / sub, y / sub) ? FieldOfView.OPAQUE : 0;
+      }
+    }
+    return resistance;
+  }
+
+  private static boolean isWall(int x, int y) {
+    // Border plus a few pillars and a partial wall to cast shadows
+    return x == 0
+        || y == 0
+        || x == SIZE - 1
+        || y == SIZE - 1
+        || (x % 7 == 3 && y % 5 == 2)
+        || (x == 20 && y > 4 && y < 30);
+  }
+
+  private static TiledMap createMap() {
+    TiledMap map = new TiledMap();
+    map.getLayers().add(TestMaps.layer(SIZE, SIZE, LightingSystemTest::isWall));
+    return map;
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.soulslight.model.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.World;
+import io.github.soulslight.utils.GdxTestExtension;
+import io.github.soulslight.utils.TestMaps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class WallColliderBuilderTest {
+
+  /** 10x10 room: wall border plus a 3x2 block in the middle. */
+  private TiledMapTileLayer createLayer() {
+    return TestMaps.layer(
+        10,
+        10,
+        (x, y) -> x == 0 || y == 0 || x == 9 || y == 9 || (x >= 4 && x <= 6 && y >= 4 && y <= 5));
+  }
+
+  private boolean rayHitsWall(World world, float x0, float y0, float x1, float y1) {
+    final boolean[] hit = {false};
+    world.rayCast(
+        (fixture, point, normal, fraction) -> {
+          hit[0] = true;
+          return fraction;
+        },
+        new Vector2(x0, y0),
+        new Vector2(x1, y1));
+    return hit[0];
+  }
+
+  @Test
+  void testMergedCollidersUseOneBodyAndFewerFixtures() {
+    Box2D.init();
+    World perTileWorld = new World(new Vector2(0, 0), true);
+    World mergedWorld = new World(new Vector2(0, 0), true);
+
+    WallColliderBuilder.Stats perTile =
+        WallColliderBuilder.build(perTileWorld, createLayer(), WallColliderBuilder.Mode.PER_TILE);
+    WallColliderBuilder.Stats merged =
+        WallColliderBuilder.build(mergedWorld, createLayer(), WallColliderBuilder.Mode.MERGED);
+
+    assertEquals(42, perTile.wallTiles());
+    assertEquals(42, perTileWorld.getBodyCount());
+    assertEquals(1, mergedWorld.getBodyCount());
+    // Bottom row, top row, the two side strips in between, and the block
+    assertEquals(5, merged.fixtures());
+    assertEquals(merged.fixtures(), mergedWorld.getFixtureCount());
+
+    // Same geometry: the block stops a ray across the room, the open row does not
+    for (World world : new World[] {perTileWorld, mergedWorld}) {
+      assertTrue(rayHitsWall(world, 48, 150, 280, 150));
+      assertFalse(rayHitsWall(world, 48, 100, 280, 100));
+    }
+
+    perTileWorld.dispose();
+    mergedWorld.dispose();
+  }
+}
@@ -5,11 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
 import io.github.soulslight.manager.PathfindingManager;
 import io.github.soulslight.utils.GdxTestExtension;
+import io.github.soulslight.utils.TestMaps;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -47,11 +47,8 @@ class DungeonGraphTest {
 
     assertEquals(25, graph.getNodeCount());
 
-    DungeonNode center = graph.getNode(2, 2);
-    assertTrue(center.isWall);
-
-    DungeonNode left = graph.getNode(1, 2);
-    assertFalse(left.isWall);
+    assertTrue(graph.isWall(2, 2));
+    assertFalse(graph.isWall(1, 2));
 
     // Check connections
     PathfindingManager pfm = new PathfindingManager(layer);
@@ -66,14 +63,66 @@ class DungeonGraphTest {
     float endX = 3 * 32 + 16;
     float endY = 2 * 32 + 16;
 
-    DefaultGraphPath<DungeonNode> path = pfm.findPath(startX, startY, endX, endY);
+    GridPath path = pfm.findPath(startX, startY, endX, endY);
 
     assertNotNull(path);
     assertTrue(path.getCount() > 0);
 
     // Path should avoid 2,2
-    for (DungeonNode node : path) {
-      assertFalse(node.x == 2 && node.y == 2, "Path should not pass through wall at 2,2");
+    for (int i = 0; i < path.getCount(); i++) {
+      assertFalse(
+          path.getX(i) == 2 && path.getY(i) == 2, "Path should not pass through wall at 2,2");
+    }
+  }
+
+  @Test
+  void testSearchReusesCallerPathBuffer() {
+    DungeonGraph graph = new DungeonGraph(TestMaps.openLayer(5, 5));
+    GridAStar aStar = new GridAStar(graph);
+    GridPath path = new GridPath(2);
+
+    // Open room: the diagonal is the shortest route
+    assertTrue(aStar.search(graph.indexOf(0, 0), graph.indexOf(4, 4), path));
+    assertEquals(5, path.getCount());
+    assertEquals(graph.indexOf(0, 0), path.get(0));
+    assertEquals(graph.indexOf(4, 4), path.get(path.getCount() - 1));
+
+    // A second search overwrites the same buffer
+    assertTrue(aStar.search(graph.indexOf(4, 0), graph.indexOf(4, 2), path));
+    assertEquals(3, path.getCount());
+    assertEquals(4, path.getX(1));
+    assertEquals(1, path.getY(1));
+  }
+
+  @Test
+  void testBlockedTilesUpdateConnectionsIncrementally() {
+    TiledMapTileLayer layer = TestMaps.openLayer(5, 5);
+
+    DungeonGraph graph = new DungeonGraph(layer);
+    GridAStar aStar = new GridAStar(graph);
+    GridPath path = new GridPath();
+    int start = graph.indexOf(0, 2);
+    int goal = graph.indexOf(4, 2);
+
+    // Wall off column 2 like a locked door spanning the room
+    for (int y = 0; y < 5; y++) graph.setBlocked(2, y, true);
+    assertEquals(5, graph.getVersion());
+    assertTrue(graph.isWall(2, 2));
+    assertEquals(0, graph.getNeighbourMask(graph.indexOf(2, 2)));
+    assertFalse(aStar.search(start, goal, path));
+
+    // Stacked blockers: the tile stays closed until every blocker is removed
+    graph.setBlocked(2, 4, true);
+    graph.setBlocked(2, 4, false);
+    assertTrue(graph.isWall(2, 4));
+
+    graph.setBlocked(2, 4, false);
+    assertFalse(graph.isWall(2, 4));
+    assertTrue(aStar.search(start, goal, path));
+    boolean throughGap = false;
+    for (int i = 0; i < path.getCount(); i++) {
+      if (path.getX(i) == 2) throughGap = path.getY(i) == 4;
     }
+    assertTrue(throughGap);
   }
 }
@@ -0,0 +1,61 @@
+package io.github.soulslight.model.pathfinding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import io.github.soulslight.utils.GdxTestExtension;
+import io.github.soulslight.utils.TestMaps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class FlowFieldTest {
+
+  private TiledMapTileLayer createLayerWithCenterWall() {
+    return TestMaps.layer(5, 5, (x, y) -> x == 2 && y == 2);
+  }
+
+  @Test
+  void testNextHopLeadsToGoalAroundWall() {
+    DungeonGraph graph = new DungeonGraph(createLayerWithCenterWall());
+    FlowField field = new FlowField(graph);
+
+    assertTrue(field.setGoal(3, 2));
+
+    // Walk the field from the left of the wall and make sure we arrive
+    int current = graph.indexOf(1, 2);
+    int goal = graph.indexOf(3, 2);
+    int steps = 0;
+    while (current != goal && steps < 25) {
+      int next = field.getNextHop(current);
+      assertNotEquals(FlowField.UNREACHABLE, next);
+      assertFalse(
+          graph.xOf(next) == 2 && graph.yOf(next) == 2, "Flow should not pass through wall at 2,2");
+      current = next;
+      steps++;
+    }
+
+    assertEquals(goal, current);
+    assertEquals(steps, field.getDistance(graph.indexOf(1, 2)));
+  }
+
+  @Test
+  void testRebuildOnlyWhenGoalTileChanges() {
+    DungeonGraph graph = new DungeonGraph(createLayerWithCenterWall());
+    FlowField field = new FlowField(graph);
+
+    assertTrue(field.setGoal(0, 0));
+    assertFalse(field.setGoal(0, 0));
+    assertEquals(1, field.getRebuildCount());
+
+    assertTrue(field.setGoal(4, 4));
+    assertEquals(2, field.getRebuildCount());
+
+    // Goals on walls leave the field empty
+    field.setGoal(2, 2);
+    assertFalse(field.hasGoal());
+  }
+}
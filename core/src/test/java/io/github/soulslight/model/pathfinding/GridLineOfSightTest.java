@@ -0,0 +1,63 @@
+package io.github.soulslight.model.pathfinding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.soulslight.utils.GdxTestExtension;
+import io.github.soulslight.utils.TestMaps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class GridLineOfSightTest {
+
+  /** 10x10 floor with a wall pillar at (5, 3..6). */
+  private DungeonGraph createGraph() {
+    return new DungeonGraph(TestMaps.layer(10, 10, (x, y) -> x == 5 && y >= 3 && y <= 6));
+  }
+
+  private static float center(int tile) {
+    return tile * 32 + 16;
+  }
+
+  @Test
+  void testWallsAndDoorsBlockSight() {
+    DungeonGraph graph = createGraph();
+    GridLineOfSight los = new GridLineOfSight(graph);
+
+    // Straight through the pillar vs. above it
+    assertFalse(los.isClear(center(2), center(4), center(8), center(4)));
+    assertTrue(los.isClear(center(2), center(8), center(8), center(8)));
+
+    // Diagonal grazing the pillar's top corner
+    assertFalse(los.isClear(center(4), center(6), center(6), center(8)));
+
+    // A body wider than the gap above the pillar does not fit
+    assertTrue(los.isClear(center(2), center(7) + 4, center(8), center(7) + 4));
+    assertFalse(los.isClearWide(center(2), center(7), center(8), center(7), 20f));
+
+    // Locked doors sit on the graph overlay
+    graph.setBlocked(3, 8, true);
+    assertFalse(los.isClear(center(2), center(8), center(8), center(8)));
+  }
+
+  @Test
+  void testBatchVisibility() {
+    GridLineOfSight los = new GridLineOfSight(createGraph());
+    float[] viewers = {center(2), center(4), center(2), center(8)};
+    float[] targets = {center(8), center(4), center(8), center(8), center(3), center(4)};
+    long[] bits = new long[1];
+
+    int visible = los.computeVisibility(viewers, 2, targets, 3, 1000f, bits);
+
+    // Viewer 0 (row 4) only sees the target on its side of the pillar
+    assertEquals(1L << 2, bits[0] & 0b111);
+    // Viewer 1 (row 8) sees over the pillar but not down behind it
+    assertEquals(0b110L << 3, bits[0] & (0b111L << 3));
+    assertEquals(3, visible);
+
+    // Range cut-off
+    assertEquals(1, los.computeVisibility(viewers, 2, targets, 3, 40f, bits));
+  }
+}
@@ -0,0 +1,153 @@
+package io.github.soulslight.model.pathfinding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.soulslight.model.room.DoorPosition;
+import io.github.soulslight.model.room.RoomData;
+import io.github.soulslight.utils.GdxTestExtension;
+import io.github.soulslight.utils.TestMaps;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class HierarchicalPathfinderTest {
+  private static final int TILE = 32;
+
+  /** Two 4x3 rooms (x 1-4 and 19-22) joined by a one-tile corridor along y = 2. */
+  private TiledMapTileLayer createTwoRoomLayer() {
+    return TestMaps.layer(
+        24,
+        5,
+        (x, y) -> {
+          boolean inRoom = y >= 1 && y <= 3 && ((x >= 1 && x <= 4) || (x >= 19 && x <= 22));
+          boolean inCorridor = y == 2 && x >= 5 && x <= 18;
+          return !inRoom && !inCorridor;
+        });
+  }
+
+  private List<RoomData> createRooms() {
+    DoorPosition westDoor =
+        DoorPosition.of(
+            5 * TILE + TILE / 2f, 2 * TILE + TILE / 2f, DoorPosition.Direction.EAST, TILE);
+    DoorPosition eastDoor =
+        DoorPosition.of(
+            18 * TILE + TILE / 2f, 2 * TILE + TILE / 2f, DoorPosition.Direction.WEST, TILE);
+    return List.of(
+        RoomData.standard("west", TILE, TILE, 4 * TILE, 3 * TILE, List.of(westDoor)),
+        RoomData.standard("east", 19 * TILE, TILE, 4 * TILE, 3 * TILE, List.of(eastDoor)));
+  }
+
+  @Test
+  void testLongRangeQueryReturnsSegmentToNextPortal() {
+    DungeonGraph graph = new DungeonGraph(createTwoRoomLayer());
+    HierarchicalPathfinder hpa =
+        new HierarchicalPathfinder(graph, new GridAStar(graph), createRooms());
+    assertEquals(2, hpa.getPortalCount());
+
+    GridPath path = new GridPath();
+    int goal = graph.indexOf(22, 2);
+
+    // From inside the west room the first segment ends on its door
+    assertTrue(hpa.findPath(graph.indexOf(1, 2), goal, path));
+    assertEquals(5, path.getX(path.getCount() - 1));
+    assertEquals(2, path.getY(path.getCount() - 1));
+
+    // Standing on that door, the next segment crosses the corridor to the other door
+    assertTrue(hpa.findPath(graph.indexOf(5, 2), goal, path));
+    assertEquals(18, path.getX(path.getCount() - 1));
+
+    // From the last door the goal room is entered directly
+    assertTrue(hpa.findPath(graph.indexOf(18, 2), goal, path));
+    assertEquals(goal, path.get(path.getCount() - 1));
+  }
+
+  @Test
+  void testSameRoomAndWallGoals() {
+    DungeonGraph graph = new DungeonGraph(createTwoRoomLayer());
+    HierarchicalPathfinder hpa =
+        new HierarchicalPathfinder(graph, new GridAStar(graph), createRooms());
+    GridPath path = new GridPath();
+
+    int goal = graph.indexOf(4, 3);
+    assertTrue(hpa.findPath(graph.indexOf(1, 1), goal, path));
+    assertEquals(goal, path.get(path.getCount() - 1));
+
+    assertFalse(hpa.findPath(graph.indexOf(1, 1), graph.indexOf(10, 0), path));
+    assertTrue(path.isEmpty());
+  }
+
+  /**
+   * Rooms west (x 1-4) and middle (x 6-9) share the door at x = 5; a corridor leads from the middle
+   * room's east door (x = 10) to the east room (x 19-22). The shared door is registered by the west
+   * room, so the only route east has to enter its other room.
+   */
+  @Test
+  void testSharedDoorLeadsIntoBothRooms() {
+    TiledMapTileLayer layer =
+        TestMaps.layer(
+            24,
+            5,
+            (x, y) -> {
+              boolean inRoom =
+                  y >= 1
+                      && y <= 3
+                      && ((x >= 1 && x <= 4) || (x >= 6 && x <= 9) || (x >= 19 && x <= 22));
+              boolean inDoorOrCorridor = y == 2 && (x == 5 || (x >= 10 && x <= 18));
+              return !inRoom && !inDoorOrCorridor;
+            });
+    DoorPosition sharedDoor = door(5, DoorPosition.Direction.EAST);
+    List<RoomData> rooms =
+        List.of(
+            RoomData.standard("west", TILE, TILE, 4 * TILE, 3 * TILE, List.of(sharedDoor)),
+            RoomData.standard(
+                "middle",
+                6 * TILE,
+                TILE,
+                4 * TILE,
+                3 * TILE,
+                List.of(
+                    door(5, DoorPosition.Direction.WEST), door(10, DoorPosition.Direction.EAST))),
+            RoomData.standard(
+                "east",
+                19 * TILE,
+                TILE,
+                4 * TILE,
+                3 * TILE,
+                List.of(door(18, DoorPosition.Direction.WEST))));
+
+    DungeonGraph graph = new DungeonGraph(layer);
+    GridAStar aStar = new GridAStar(graph);
+    HierarchicalPathfinder hpa = new HierarchicalPathfinder(graph, aStar, rooms);
+    assertEquals(3, hpa.getPortalCount());
+
+    int start = graph.indexOf(1, 2);
+    int goal = graph.indexOf(22, 2);
+    GridPath direct = new GridPath();
+    assertTrue(aStar.search(start, goal, direct));
+
+    // Re-query at the end of every segment, as an enemy walking the route does
+    IntArray route = new IntArray();
+    route.add(start);
+    GridPath segment = new GridPath();
+    for (int current = start; current != goal; current = route.peek()) {
+      assertTrue(hpa.findPath(current, goal, segment), "No route from " + current);
+      assertEquals(current, segment.get(0));
+      for (int i = 1; i < segment.getCount(); i++) route.add(segment.get(i));
+      assertTrue(route.size <= direct.getCount(), "Route detours");
+    }
+
+    assertEquals(direct.getCount(), route.size);
+    for (int i = 0; i < route.size; i++) {
+      assertEquals(direct.get(i), route.get(i));
+    }
+  }
+
+  private static DoorPosition door(int tileX, DoorPosition.Direction direction) {
+    return DoorPosition.of(tileX * TILE + TILE / 2f, 2 * TILE + TILE / 2f, direction, TILE);
+  }
+}
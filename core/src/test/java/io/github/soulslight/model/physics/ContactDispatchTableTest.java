@@ -0,0 +1,73 @@
+package io.github.soulslight.model.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.soulslight.model.Constants;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ContactDispatchTableTest {
+
+  @Test
+  void testRulesReceiveObjectsInRegistrationOrder() {
+    ContactDispatchTable table = new ContactDispatchTable();
+    List<String> calls = new ArrayList<>();
+    table.register(
+        Constants.BIT_ENEMY,
+        Constants.BIT_WALL,
+        true,
+        (a, b, normal) -> calls.add(a + "->" + b + " " + normal.x));
+    table.register(
+        Constants.BIT_PLAYER,
+        Constants.BIT_ITEM,
+        false,
+        new ContactDispatchTable.Rule() {
+          @Override
+          public void begin(Object a, Object b, Vector2 normal) {
+            calls.add("begin " + a + "/" + b + " " + normal);
+          }
+
+          @Override
+          public void end(Object a, Object b) {
+            calls.add("end " + a + "/" + b);
+          }
+        });
+
+    // Unregistered pairs are rejected without running anything
+    assertFalse(table.handles(Constants.BIT_ENEMY, Constants.BIT_ENEMY));
+    assertTrue(table.handles(Constants.BIT_WALL, Constants.BIT_ENEMY));
+    table.dispatchBegin("e1", "e2", Constants.BIT_ENEMY, Constants.BIT_ENEMY, null);
+    assertTrue(calls.isEmpty());
+
+    // Manifold only requested for the pair that asked for it, in both orders
+    assertTrue(table.needsManifold(Constants.BIT_WALL, Constants.BIT_ENEMY));
+    assertFalse(table.needsManifold(Constants.BIT_ITEM, Constants.BIT_PLAYER));
+
+    // Swapped fixtures: objects are reordered and the normal flipped
+    table.dispatchBegin(
+        "wall", "enemy", Constants.BIT_WALL, Constants.BIT_ENEMY, new Vector2(1, 0));
+    table.dispatchBegin(
+        "enemy", "wall", Constants.BIT_ENEMY, Constants.BIT_WALL, new Vector2(1, 0));
+    table.dispatchBegin("item", "player", Constants.BIT_ITEM, Constants.BIT_PLAYER, null);
+    table.dispatchEnd("item", "player", Constants.BIT_ITEM, Constants.BIT_PLAYER);
+
+    assertEquals(
+        List.of("enemy->wall -1.0", "enemy->wall 1.0", "begin player/item null", "end player/item"),
+        calls);
+  }
+
+  @Test
+  void testSeveralRulesOnTheSamePairRunInOrder() {
+    ContactDispatchTable table = new ContactDispatchTable();
+    List<String> calls = new ArrayList<>();
+    table.register(Constants.BIT_PLAYER, Constants.BIT_SENSOR, false, (a, b, n) -> calls.add("1"));
+    table.register(Constants.BIT_SENSOR, Constants.BIT_PLAYER, false, (a, b, n) -> calls.add("2"));
+
+    table.dispatchBegin("p", "s", Constants.BIT_PLAYER, Constants.BIT_SENSOR, null);
+    assertEquals(List.of("1", "2"), calls);
+  }
+}
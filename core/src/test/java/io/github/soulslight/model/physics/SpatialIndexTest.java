@@ -0,0 +1,111 @@
+package io.github.soulslight.model.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.soulslight.model.entities.Entity;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SpatialIndexTest {
+
+  private static Entity entityAt(float x, float y) {
+    return new Entity(new Vector2(x, y), 10f) {};
+  }
+
+  private static List<Entity> scatter(int count, long seed) {
+    Random random = new Random(seed);
+    List<Entity> list = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      list.add(entityAt(random.nextFloat() * 1600f, random.nextFloat() * 1200f));
+    }
+    return list;
+  }
+
+  @Test
+  void testQueriesMatchLinearScan() {
+    List<Entity> entities = scatter(300, 7L);
+    entities.get(3).takeDamage(100f); // Dead entities are never returned
+    SpatialIndex index = new SpatialIndex();
+    SpatialIndex unindexed = new SpatialIndex();
+    index.update(entities);
+    assertTrue(index.covers(entities));
+    assertFalse(unindexed.covers(entities));
+
+    List<Entity> fromIndex = new ArrayList<>();
+    List<Entity> fromScan = new ArrayList<>();
+    Random random = new Random(11L);
+    for (int q = 0; q < 50; q++) {
+      float x = random.nextFloat() * 1600f;
+      float y = random.nextFloat() * 1200f;
+
+      index.queryRadius(entities, x, y, 100f, fromIndex);
+      unindexed.queryRadius(entities, x, y, 100f, fromScan);
+      assertEquals(new HashSet<>(fromScan), new HashSet<>(fromIndex));
+      assertFalse(fromIndex.contains(entities.get(3)));
+
+      index.querySegment(entities, x, y, x + 60f, y - 20f, 14f, fromIndex);
+      unindexed.querySegment(entities, x, y, x + 60f, y - 20f, 14f, fromScan);
+      assertEquals(fromScan, fromIndex);
+
+      index.queryNearest(entities, x, y, 5, Float.MAX_VALUE, fromIndex);
+      unindexed.queryNearest(entities, x, y, 5, Float.MAX_VALUE, fromScan);
+      assertEquals(5, fromIndex.size());
+      assertEquals(fromScan, fromIndex);
+    }
+  }
+
+  @Test
+  void testIncrementalUpdateFollowsMovement() {
+    Entity a = entityAt(16f, 16f);
+    Entity b = entityAt(400f, 400f);
+    List<Entity> entities = new ArrayList<>(List.of(a, b));
+    SpatialIndex index = new SpatialIndex();
+    index.update(entities);
+
+    // Moved far across the map: only found near its new position after the next update
+    b.setPosition(40f, 16f);
+    index.update(entities);
+    List<Entity> out = new ArrayList<>();
+    assertEquals(2, index.queryRadius(entities, 16f, 16f, 30f, out));
+    assertEquals(0, index.queryRadius(entities, 400f, 400f, 30f, out));
+
+    // Segment results come back in the order they are swept
+    index.querySegment(entities, 100f, 16f, 0f, 16f, 5f, out);
+    assertEquals(List.of(b, a), out);
+    assertSame(a, index.findNearest(entities, 0f, 0f, Float.MAX_VALUE, out));
+
+    // A list change falls back to scanning until the next update
+    entities.add(entityAt(20f, 20f));
+    index.markChanged();
+    assertFalse(index.covers(entities));
+    assertEquals(3, index.queryRadius(entities, 16f, 16f, 30f, out));
+    index.update(entities);
+    assertTrue(index.covers(entities));
+    assertEquals(3, index.size());
+  }
+
+  @Test
+  void testRefilledListIsNotServedStaleEntities() {
+    List<Entity> entities = new ArrayList<>(List.of(entityAt(16f, 16f), entityAt(48f, 16f)));
+    SpatialIndex index = new SpatialIndex();
+    index.update(entities);
+
+    // Same list, same size, new entities (a restored game): the old ones must not come back
+    entities.clear();
+    Entity restored = entityAt(400f, 400f);
+    entities.add(restored);
+    entities.add(entityAt(432f, 400f));
+    index.markChanged();
+    assertFalse(index.covers(entities));
+    List<Entity> out = new ArrayList<>();
+    assertEquals(0, index.queryRadius(entities, 16f, 16f, 40f, out));
+    assertSame(restored, index.findNearest(entities, 400f, 400f, 10f, out));
+  }
+}
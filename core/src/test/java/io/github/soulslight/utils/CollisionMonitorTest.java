@@ -0,0 +1,50 @@
+package io.github.soulslight.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.soulslight.model.Constants;
+import io.github.soulslight.model.observer.Observer;
+import io.github.soulslight.model.physics.GameCollisionHandler;
+import org.junit.jupiter.api.Test;
+
+class CollisionMonitorTest {
+
+  @Test
+  void testContactsAreCountedPerCategoryPair() {
+    CollisionMonitor monitor = new CollisionMonitor();
+    monitor.recordContact(Constants.BIT_PLAYER, Constants.BIT_ENEMY);
+    monitor.recordContact(Constants.BIT_ENEMY, Constants.BIT_PLAYER);
+    monitor.recordContact(Constants.BIT_ENEMY, Constants.BIT_ENEMY);
+    monitor.recordContact((short) 0, Constants.BIT_WALL);
+
+    // Order of the two fixtures does not matter
+    assertEquals(2, monitor.getCount(Constants.BIT_PLAYER, Constants.BIT_ENEMY));
+    assertEquals(2, monitor.getCount(Constants.BIT_ENEMY, Constants.BIT_PLAYER));
+    assertEquals(1, monitor.getCount(Constants.BIT_ENEMY, Constants.BIT_ENEMY));
+    assertEquals(1, monitor.getCount(Constants.BIT_WALL, (short) 0));
+    assertEquals(0, monitor.getCount(Constants.BIT_PLAYER, Constants.BIT_ITEM));
+  }
+
+  @Test
+  void testHandlerBroadcastsOnlyToAttachedObservers() {
+    GameCollisionHandler handler = new GameCollisionHandler();
+    CollisionMonitor monitor = new CollisionMonitor();
+    int[] notifications = new int[1];
+    Observer counter = (eventType, data) -> notifications[0]++;
+
+    // Nobody attached: contacts are not broadcast at all
+    handler.handleBeginContact(null, null, Constants.BIT_WALL, Constants.BIT_ENEMY, null);
+
+    handler.attach(monitor);
+    handler.attach(counter);
+    handler.handleBeginContact(null, null, Constants.BIT_WALL, Constants.BIT_ENEMY, null);
+    handler.handleBeginContact(null, null, Constants.BIT_ENEMY, Constants.BIT_WALL, null);
+    assertEquals(2, monitor.getCount(Constants.BIT_WALL, Constants.BIT_ENEMY));
+    assertEquals(2, notifications[0]);
+
+    handler.detach(monitor);
+    handler.detach(counter);
+    handler.handleBeginContact(null, null, Constants.BIT_WALL, Constants.BIT_ENEMY, null);
+    assertEquals(2, notifications[0]);
+  }
+}
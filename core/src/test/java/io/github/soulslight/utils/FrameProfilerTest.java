@@ -0,0 +1,58 @@
+package io.github.soulslight.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FrameProfilerTest {
+
+  private final FrameProfiler profiler = FrameProfiler.getInstance();
+
+  @AfterEach
+  void tearDown() {
+    profiler.setEnabled(false);
+  }
+
+  @Test
+  void testRollingStatsOverRingBuffer() {
+    // Disabled: nothing is recorded and the clock is never read
+    assertEquals(0L, profiler.start());
+    profiler.add(FrameProfiler.Phase.PHYSICS, 1_000_000L);
+    profiler.endFrame(1, 1, 1);
+    profiler.setEnabled(true);
+    assertEquals(0, profiler.getSampleCount());
+
+    // The frame it was turned on in is partial: dropped
+    profiler.add(FrameProfiler.Phase.PHYSICS, 5_000_000L);
+    profiler.endFrame(1, 1, 1);
+    assertEquals(0, profiler.getSampleCount());
+
+    // Two full rings: only the last SAMPLES frames (1..SAMPLES ms) are kept
+    for (int frame = 1; frame <= 2 * FrameProfiler.SAMPLES; frame++) {
+      long ms = frame > FrameProfiler.SAMPLES ? frame - FrameProfiler.SAMPLES : 1000;
+      // Substeps of the same phase add up within a frame
+      profiler.add(FrameProfiler.Phase.PHYSICS, ms * 500_000L);
+      profiler.add(FrameProfiler.Phase.PHYSICS, ms * 500_000L);
+      profiler.endFrame(42, 7, 3);
+    }
+    profiler.computeStats();
+
+    assertEquals(FrameProfiler.SAMPLES, profiler.getSampleCount());
+    assertEquals(1_000_000L, profiler.getMinNanos(FrameProfiler.Phase.PHYSICS));
+    assertEquals(
+        (FrameProfiler.SAMPLES + 1) * 500_000L, profiler.getAvgNanos(FrameProfiler.Phase.PHYSICS));
+    assertEquals(238_000_000L, profiler.getP99Nanos(FrameProfiler.Phase.PHYSICS));
+    assertEquals(
+        FrameProfiler.SAMPLES * 1_000_000L, profiler.getSample(FrameProfiler.Phase.PHYSICS, 0));
+    assertEquals(0L, profiler.getAvgNanos(FrameProfiler.Phase.HUD));
+    assertEquals(42, profiler.getBodyCount());
+    assertEquals(3, profiler.getRenderCalls());
+
+    // Laps charge the time between them to the phase
+    long lap = profiler.start();
+    lap = profiler.lap(FrameProfiler.Phase.MAP, lap);
+    assertTrue(lap > 0L);
+  }
+}
@@ -0,0 +1,78 @@
+package io.github.soulslight.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.soulslight.manager.GameManager;
+import io.github.soulslight.manager.GameMode;
+import io.github.soulslight.manager.PathfindingManager;
+import io.github.soulslight.manager.PathfindingScheduler;
+import io.github.soulslight.model.pathfinding.GridPath;
+import java.io.StringWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxTestExtension.class)
+class MetricsSinkTest {
+
+  private final MetricsSink sink = MetricsSink.getInstance();
+
+  @AfterEach
+  void tearDown() {
+    sink.close();
+  }
+
+  @Test
+  void testEventsAreWrittenAsJsonLines() {
+    // Closed: events are dropped before any formatting
+    assertFalse(sink.begin("ignored"));
+
+    StringWriter out = new StringWriter();
+    sink.open(out);
+    assertTrue(sink.begin("save"));
+    sink.field("nanos", 1234L).field("strategy", "DungeonMapStrategy").end();
+    sink.flush();
+
+    String line = out.toString();
+    assertTrue(line.startsWith("{\"t\":"), line);
+    assertTrue(
+        line.endsWith(",\"event\":\"save\",\"nanos\":1234,\"strategy\":\"DungeonMapStrategy\"}\n"),
+        line);
+
+    sink.close();
+    assertFalse(sink.isEnabled());
+    assertFalse(sink.begin("save"));
+  }
+
+  @Test
+  void testGameplaySubsystemsReportEvents() {
+    StringWriter out = new StringWriter();
+    sink.open(out);
+
+    GameManager gm = GameManager.getInstance();
+    gm.startCampaign(GameMode.STORY);
+    gm.setCampaignSeed(777L);
+    gm.generateCurrentLevel();
+
+    PathfindingScheduler scheduler =
+        new PathfindingManager(TestMaps.openLayer(20, 20)).getScheduler();
+    scheduler.setBudgetMicros(0);
+    PathfindingScheduler.Request request = new PathfindingScheduler.Request();
+    scheduler.submit(request, 2 * 32 + 16, 2 * 32 + 16, 17 * 32 + 16, 17 * 32 + 16);
+    GridPath path = new GridPath();
+    for (int frame = 0; frame < 100 && !request.poll(path); frame++) {
+      scheduler.process();
+    }
+    sink.flush();
+
+    String[] lines = out.toString().split("\n");
+    assertEquals(2, lines.length, out.toString());
+    assertTrue(lines[0].contains("\"event\":\"level_gen\""), lines[0]);
+    assertTrue(lines[0].contains("\"strategy\":\""), lines[0]);
+    assertTrue(lines[1].contains("\"event\":\"path_search\""), lines[1]);
+    assertTrue(lines[1].contains("\"mode\":\"sliced\""), lines[1]);
+    assertFalse(lines[1].contains("\"expanded\":0,"), lines[1]);
+  }
+}
@@ -0,0 +1,44 @@
+package io.github.soulslight.utils;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+
+/** Hand-made tile layers for tests: floor everywhere, walls where a predicate says so. */
+public final class TestMaps {
+  public static final int TILE_SIZE = 32;
+
+  /** Which cells of the layer are walls. */
+  @FunctionalInterface
+  public interface Walls {
+    boolean isWall(int x, int y);
+  }
+
+  private TestMaps() {}
+
+  public static TiledMapTileLayer layer(int width, int height, Walls walls) {
+    TiledMapTileLayer layer = new TiledMapTileLayer(width, height, TILE_SIZE, TILE_SIZE);
+    StaticTiledMapTile floorTile = createTile("floor");
+    StaticTiledMapTile wallTile = createTile("wall");
+
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(walls.isWall(x, y) ? wallTile : floorTile);
+        layer.setCell(x, y, cell);
+      }
+    }
+    return layer;
+  }
+
+  /** Floor only. */
+  public static TiledMapTileLayer openLayer(int width, int height) {
+    return layer(width, height, (x, y) -> false);
+  }
+
+  private static StaticTiledMapTile createTile(String type) {
+    StaticTiledMapTile tile = new StaticTiledMapTile((TextureRegion) null);
+    tile.getProperties().put("type", type);
+    return tile;
+  }
+}
@@ -0,0 +1,47 @@
+package io.github.soulslight.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class LightingRendererTest {
+
+  private static final byte UNTOUCHED = 99;
+
+  @Test
+  void testEncodeRowsWritesOnlyTheDirtyRows() {
+    // 3x3 grid, row by row; the middle row covers every darkness case
+    float[] visible = {1f, 1f, 1f, 0f, 1f, 0.75f, 1f, 1f, 1f};
+    // Every cell explored but cell 3
+    long[] explored = {0b111110111L};
+    ByteBuffer out = ByteBuffer.allocate(9);
+    for (int i = 0; i < 9; i++) out.put(i, UNTOUCHED);
+
+    LightingRenderer.encodeRows(visible, explored, out, 3, 6);
+
+    // Never seen: unexplored darkness, whatever the light
+    assertEquals(Math.round(0.8f * 255f), out.get(3) & 0xFF);
+    // Explored and fully lit: clear
+    assertEquals(0, out.get(4) & 0xFF);
+    // Explored, out of full light: memory darkness scaled by the missing light
+    assertEquals(Math.round(0.6f * 0.25f * 255f), out.get(5) & 0xFF);
+    // Cells outside [from, to) are left alone
+    for (int i : new int[] {0, 1, 2, 6, 7, 8}) {
+      assertEquals(UNTOUCHED, out.get(i), "Cell " + i);
+    }
+  }
+
+  @Test
+  void testNearlyClearCellsAreFullyClear() {
+    float[] visible = {0.95f, 0f};
+    long[] explored = {0b11L};
+    ByteBuffer out = ByteBuffer.allocate(2);
+
+    LightingRenderer.encodeRows(visible, explored, out, 0, 2);
+
+    // 0.6 * 0.05 is below the minimum darkness
+    assertEquals(0, out.get(0) & 0xFF);
+    assertEquals(Math.round(0.6f * 255f), out.get(1) & 0xFF);
+  }
+}